@@ -0,0 +1,376 @@
+package com.service.runnersmap.component;
+
+import com.service.runnersmap.config.ReplicaRoutingDataSource;
+import com.service.runnersmap.dto.PostClusterDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.PostRoute;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.PostRepository.PostVersion;
+import com.service.runnersmap.repository.PostRouteRepository;
+import com.service.runnersmap.repository.PostSpecification;
+import com.service.runnersmap.type.PathDetail;
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.GeoCell;
+import com.service.runnersmap.util.GeoUtils;
+import com.service.runnersmap.util.RouteSegmentGrid;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지도 조회 대상 모집글(live post) 메모리 인덱스
+ * - 지도에 노출될 수 있는 모집글은 (출발 예정) + (도착 완료 후 3일 이내) 뿐이므로
+ *   출발일시가 3일 이내인 모집글만 격자(grid) 단위로 메모리에 보관한다.
+ * - 모집글 등록/수정/삭제/출발/도착 시 PostChangeEvent 를 받아 커밋 이후 반영한다.
+ * - 인스턴스별 메모리이므로 다른 서버에서의 변경은 이벤트로 전달되지 않는다.
+ *   SYNC_INTERVAL 마다 DB 의 모집글 버전(수정일시, 출발/도착 여부)과 비교해 반영하므로
+ *   다른 서버의 변경은 최대 SYNC_INTERVAL 만큼 늦게 조회된다.
+ * - 조회 결과로 반환되는 객체는 인덱스 내부 객체이므로 수정하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LivePostIndex {
+
+  // 경로 선분 격자 한 칸의 크기(도) : 위도 기준 약 550m
+  private static final double ROUTE_CELL_SIZE_DEGREE = 0.005;
+
+  // 다른 서버에서의 변경을 반영하는 주기(ms)
+  private static final long SYNC_INTERVAL = 10 * 1000;
+
+  private final PostRepository postRepository;
+
+  private final PostRouteRepository postRouteRepository;
+
+  // postId -> 모집글
+  private final Map<Long, PostDto> posts = new ConcurrentHashMap<>();
+
+  // 격자 key(GeoCell) -> postId 목록
+  private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+  // 경로 선분 격자 인덱스 (경로 근처 검색용, 5m 단순화 경로 기준)
+  private final RouteSegmentGrid routes = new RouteSegmentGrid(ROUTE_CELL_SIZE_DEGREE);
+
+  // postId -> DB 에서 적재한 시점의 모집글 버전 (이벤트로 반영된 모집글은 다음 동기화 때 다시 적재)
+  private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+
+  private volatile boolean ready = false;
+
+  /**
+   * 애플리케이션 기동 시 지도 조회 대상 모집글 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    LocalDateTime from = LocalDateTime.now().minusDays(PostSpecification.ARRIVED_VISIBLE_DAYS);
+    putAll(postRepository.findAllByStartDateTimeGreaterThanEqual(from));
+    ready = true;
+    log.info("[RUNNERS LOG] 모집글 메모리 인덱스 적재 완료 : {} 건", posts.size());
+  }
+
+  /**
+   * 다른 서버에서 변경된 모집글 반영 (SYNC_INTERVAL 마다)
+   * - 지도 조회 대상 모집글의 버전만 조회해 인덱스와 비교하고,
+   *   새로 등록/변경된 모집글은 다시 적재하고 DB 에 없는 모집글은 제거한다.
+   * - 복제 지연으로 방금 반영한 변경을 되돌리지 않도록 primary 에서 읽는다.
+   */
+  @Scheduled(fixedDelay = SYNC_INTERVAL, initialDelay = SYNC_INTERVAL)
+  @Transactional(readOnly = true)
+  public void sync() {
+    if (!ready) {
+      return;
+    }
+    ReplicaRoutingDataSource.readFromPrimary(() -> {
+      // 버전 조회 이후에 커밋되어 이벤트로 반영된 모집글은 제거 대상에서 제외
+      Set<Long> indexed = new HashSet<>(posts.keySet());
+      LocalDateTime from = LocalDateTime.now().minusDays(PostSpecification.ARRIVED_VISIBLE_DAYS);
+      Map<Long, Version> latest = postRepository.findVersionsByStartDateTimeGreaterThanEqual(from)
+          .stream()
+          .collect(Collectors.toMap(PostVersion::getPostId, Version::of));
+
+      List<Long> removed = indexed.stream()
+          .filter(postId -> !latest.containsKey(postId))
+          .toList();
+      removed.forEach(this::remove);
+
+      List<Long> changed = latest.entrySet().stream()
+          .filter(entry -> !entry.getValue().equals(versions.get(entry.getKey())))
+          .map(Map.Entry::getKey)
+          .toList();
+      if (!changed.isEmpty()) {
+        putAll(postRepository.findAllById(changed));
+      }
+
+      if (!removed.isEmpty() || !changed.isEmpty()) {
+        log.debug("[RUNNERS LOG] 모집글 메모리 인덱스 동기화 : 변경 {} 건, 제거 {} 건",
+            changed.size(), removed.size());
+      }
+      return null;
+    });
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 인덱스에 보관된 모집글 (없으면 null)
+   */
+  public PostDto get(Long postId) {
+    return posts.get(postId);
+  }
+
+  /**
+   * 모집글 변경 반영 (트랜잭션 커밋 이후)
+   */
+  @Order(0) // 인덱스 반영 이후에 캐시 무효화가 수행되도록 가장 먼저 반영
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    PostDto after = event.getAfter();
+    if (after == null) {
+      remove(event.getPostId());
+      return;
+    }
+
+    // 출발/도착처럼 경로 없이 전달된 변경은 기존 경로를 유지
+    PostDto previous = posts.get(event.getPostId());
+    if (after.getPath() == null && previous != null) {
+      after = after.toBuilder()
+          .path(previous.getPath())
+          .pathLevels(previous.getPathLevels())
+          .build();
+    }
+    put(after);
+  }
+
+  /**
+   * 노출 기간이 지난 모집글 정리 (10분마다)
+   */
+  @Scheduled(fixedDelay = 10 * 60 * 1000)
+  public void evictExpired() {
+    LocalDateTime from = LocalDateTime.now().minusDays(PostSpecification.ARRIVED_VISIBLE_DAYS);
+    posts.values().stream()
+        .filter(post -> post.getStartDateTime().isBefore(from))
+        .map(PostDto::getPostId)
+        .toList()
+        .forEach(this::remove);
+  }
+
+  public void put(PostDto post) {
+    put(post, null);
+  }
+
+  private synchronized void put(PostDto post, Version version) {
+    if (version == null) {
+      versions.remove(post.getPostId());
+    } else {
+      versions.put(post.getPostId(), version);
+    }
+    PostDto previous = posts.put(post.getPostId(), post);
+    if (previous != null) {
+      removeFromCell(previous);
+    }
+    cells.computeIfAbsent(GeoCell.of(post.getCenterLat(), post.getCenterLng()),
+        key -> ConcurrentHashMap.newKeySet()).add(post.getPostId());
+    routes.put(post.getPostId(), post.pathOf(PathDetail.HIGH));
+  }
+
+  public synchronized void remove(Long postId) {
+    versions.remove(postId);
+    PostDto previous = posts.remove(postId);
+    if (previous != null) {
+      removeFromCell(previous);
+    }
+    routes.remove(postId);
+  }
+
+  /**
+   * 중심 좌표 반경 내 지도 노출 대상 모집글 조회 (PostSpecification.search 와 동일한 조건)
+   */
+  public List<PostDto> search(PostInDto inDto, double radiusKm, int limit, LocalDateTime now) {
+    BoundingBox box = GeoUtils.boundingBox(inDto.getLat(), inDto.getLng(), radiusKm);
+
+    return candidates(box).stream()
+        .filter(post -> GeoUtils.distanceKm(inDto.getLat(), inDto.getLng(),
+            post.getCenterLat(), post.getCenterLng()) < radiusKm)
+        .filter(post -> isVisible(post, now))
+        .filter(post -> matches(post, inDto))
+        .sorted(Comparator.comparing(PostDto::getStartDateTime))
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * 경로가 좌표에서 반경(m) 이내를 지나는 지도 노출 대상 모집글 조회 (출발일시 오름차순)
+   */
+  public List<PostDto> searchNearRoute(double lat, double lng, double radiusMeter, int limit,
+      LocalDateTime now) {
+    return routes.findNear(lat, lng, radiusMeter).stream()
+        .map(posts::get)
+        .filter(post -> post != null && isVisible(post, now))
+        .sorted(Comparator.comparing(PostDto::getStartDateTime))
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * 사각형 영역 내 지도 노출 대상 모집글 조회 (출발일시 오름차순)
+   */
+  public List<PostDto> searchBox(BoundingBox box, LocalDateTime now) {
+    return candidates(box).stream()
+        .filter(post -> isVisible(post, now))
+        .sorted(Comparator.comparing(PostDto::getStartDateTime))
+        .toList();
+  }
+
+  /**
+   * 사각형 영역 내 지도 노출 대상 모집글을 cellDegree 크기 격자 단위로 묶어 개수/평균 좌표 반환
+   * - 모집글 객체를 복사하지 않고 격자별 합계만 누적한다.
+   */
+  public List<PostClusterDto> cluster(BoundingBox box, double cellDegree, LocalDateTime now) {
+    Map<Long, double[]> sums = new HashMap<>(); // 격자 key -> {위도 합, 경도 합, 개수}
+
+    for (PostDto post : candidates(box)) {
+      if (!isVisible(post, now)) {
+        continue;
+      }
+      long key = clusterKey(post.getCenterLat(), post.getCenterLng(), cellDegree);
+      double[] sum = sums.computeIfAbsent(key, k -> new double[3]);
+      sum[0] += post.getCenterLat();
+      sum[1] += post.getCenterLng();
+      sum[2]++;
+    }
+
+    return sums.values().stream()
+        .map(sum -> PostClusterDto.builder()
+            .lat(sum[0] / sum[2])
+            .lng(sum[1] / sum[2])
+            .count((long) sum[2])
+            .build())
+        .toList();
+  }
+
+  // 모집글과 경로를 DB 버전과 함께 인덱스에 반영
+  private void putAll(List<Post> loaded) {
+    Map<Long, PostRoute> routes = postRouteRepository.findAllById(
+            loaded.stream().map(Post::getPostId).toList())
+        .stream()
+        .collect(Collectors.toMap(PostRoute::getPostId, route -> route));
+
+    loaded.forEach(post -> put(PostDto.fromEntity(post, routes.get(post.getPostId())),
+        Version.of(post)));
+  }
+
+  // 사각형 영역에 걸친 격자의 모집글 중 영역 안에 있는 모집글
+  private List<PostDto> candidates(BoundingBox box) {
+    long minLatIdx = GeoCell.index(box.getMinLat());
+    long maxLatIdx = GeoCell.index(box.getMaxLat());
+    long minLngIdx = GeoCell.index(box.getMinLng());
+    long maxLngIdx = GeoCell.index(box.getMaxLng());
+
+    List<PostDto> result = new ArrayList<>();
+
+    // 넓은 영역이라 격자 수가 모집글 수보다 많으면 전체를 훑는 편이 빠름
+    if ((maxLatIdx - minLatIdx + 1) * (maxLngIdx - minLngIdx + 1) > posts.size()) {
+      posts.values().stream()
+          .filter(post -> box.contains(post.getCenterLat(), post.getCenterLng()))
+          .forEach(result::add);
+      return result;
+    }
+
+    for (long latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+      for (long lngIdx = minLngIdx; lngIdx <= maxLngIdx; lngIdx++) {
+        Set<Long> postIds = cells.get(GeoCell.key(latIdx, lngIdx));
+        if (postIds == null) {
+          continue;
+        }
+        for (Long postId : postIds) {
+          PostDto post = posts.get(postId);
+          if (post != null && box.contains(post.getCenterLat(), post.getCenterLng())) {
+            result.add(post);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  // 출발 예정인 모집글 or 도착 완료 후 3일 이내의 모집글
+  public static boolean isVisible(PostDto post, LocalDateTime now) {
+    LocalDateTime start = post.getStartDateTime();
+    if (Boolean.TRUE.equals(post.getArriveYn())) {
+      return !start.isBefore(now.minusDays(PostSpecification.ARRIVED_VISIBLE_DAYS))
+          && !start.isAfter(now);
+    }
+    return !start.isBefore(now);
+  }
+
+  // 사용자가 지정한 필터 조건 (null 이면 조건 없음)
+  public static boolean matches(PostDto post, PostInDto inDto) {
+    double pace = post.getPaceMin() + post.getPaceSec() / 60.0;
+
+    return (inDto.getGender() == null || inDto.getGender().equals(post.getGender()))
+        && (inDto.getPaceMinStart() == null || pace >= inDto.getPaceMinStart())
+        && (inDto.getPaceMinEnd() == null || pace <= inDto.getPaceMinEnd())
+        && (inDto.getDistanceStart() == null || post.getDistance() >= inDto.getDistanceStart())
+        && (inDto.getDistanceEnd() == null || post.getDistance() <= inDto.getDistanceEnd())
+        && (inDto.getStartDateTime() == null
+            || !post.getStartDateTime().isBefore(inDto.getStartDateTime()))
+        && (inDto.getEndDateTime() == null
+            || !post.getStartDateTime().isAfter(inDto.getEndDateTime()))
+        && (inDto.getLimitMemberCntStart() == null
+            || post.getLimitMemberCnt() >= inDto.getLimitMemberCntStart())
+        && (inDto.getLimitMemberCntEnd() == null
+            || post.getLimitMemberCnt() <= inDto.getLimitMemberCntEnd());
+  }
+
+  private void removeFromCell(PostDto post) {
+    long key = GeoCell.of(post.getCenterLat(), post.getCenterLng());
+    Set<Long> postIds = cells.get(key);
+    if (postIds != null) {
+      postIds.remove(post.getPostId());
+      if (postIds.isEmpty()) {
+        cells.remove(key);
+      }
+    }
+  }
+
+  // 모집글 변경 확인용 버전 (도착 처리는 수정일시가 바뀌지 않는 벌크 수정이라 출발/도착 여부도 비교)
+  private record Version(LocalDateTime updatedDateTime, Boolean departureYn, Boolean arriveYn) {
+
+    static Version of(Post post) {
+      return new Version(post.getUpdatedDateTime(), post.getDepartureYn(), post.getArriveYn());
+    }
+
+    static Version of(PostVersion version) {
+      return new Version(version.getUpdatedDateTime(), version.getDepartureYn(),
+          version.getArriveYn());
+    }
+  }
+
+  // 묶음(cluster) 조회용 격자 key
+  private static long clusterKey(double lat, double lng, double cellDegree) {
+    long latIdx = (long) Math.floor(lat / cellDegree);
+    long lngIdx = (long) Math.floor(lng / cellDegree);
+    return (latIdx << 32) | (lngIdx & 0xffffffffL);
+  }
+}
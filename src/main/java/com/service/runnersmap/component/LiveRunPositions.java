@@ -0,0 +1,156 @@
+package com.service.runnersmap.component;
+
+import com.service.runnersmap.dto.LivePositionDto;
+import com.service.runnersmap.dto.LivePositionsDto;
+import com.service.runnersmap.event.ParticipantStateEvent;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.type.ParticipantStateType;
+import com.service.runnersmap.type.PostChangeType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 러닝 중 참여자 위치 공유
+ * - 참여자가 보낸 위치는 모집글별로 참여자당 마지막 위치 하나만 보관한다. (이전 위치는 덮어씀)
+ * - TICK_MILLIS 마다 변경이 있는 모집글만 참여자 위치 모음 한 건을 /sub/posts/{postId}/positions 로 전달하므로,
+ *   참여자가 위치를 보내는 빈도와 관계없이 모집글당 전달 비용은 주기당 참여자 수만큼이다.
+ * - 일정 시간 위치가 오지 않은 참여자, 완료/나가기 한 참여자, 도착/삭제된 모집글은 정리한다.
+ * - 인스턴스별 메모리이므로 같은 모집글 참여자는 같은 서버에 연결되어 있어야 서로의 위치를 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveRunPositions {
+
+  private static final long TICK_MILLIS = 2_000;
+
+  // 이 시간 동안 위치가 오지 않은 참여자는 제외
+  private static final long STALE_MILLIS = 2 * 60 * 1000;
+
+  private static final int MAX_MEMBERS_PER_RUN = 100;
+
+  private static final String DESTINATION_PREFIX = "/sub/posts/";
+
+  private static final String DESTINATION_SUFFIX = "/positions";
+
+  private final SimpMessagingTemplate template;
+
+  // postId -> 참여자별 마지막 위치
+  private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+  public static String destination(Long postId) {
+    return DESTINATION_PREFIX + postId + DESTINATION_SUFFIX;
+  }
+
+  /**
+   * 참여자 위치 갱신 (전달은 다음 주기에 모아서)
+   */
+  public void update(Long postId, LivePositionDto position) {
+    rooms.computeIfAbsent(postId, key -> new Room()).update(position, System.currentTimeMillis());
+  }
+
+  /**
+   * 변경이 있는 모집글별 참여자 위치 모음 전달
+   */
+  @Scheduled(fixedRate = TICK_MILLIS)
+  public void broadcast() {
+    long staleBefore = System.currentTimeMillis() - STALE_MILLIS;
+    rooms.forEach((postId, room) -> {
+      List<LivePositionDto> positions = room.snapshotIfChanged(staleBefore);
+      if (room.isEmpty()) {
+        rooms.remove(postId, room);
+      }
+      if (positions == null) {
+        return;
+      }
+      try {
+        template.convertAndSend(destination(postId), LivePositionsDto.builder()
+            .postId(postId)
+            .positions(positions)
+            .build());
+      } catch (RuntimeException e) {
+        log.warn("[RUNNERS LOG] 러닝 위치 전달 실패 : postId = {}", postId, e);
+      }
+    });
+  }
+
+  @TransactionalEventListener
+  public void onParticipantStateChange(ParticipantStateEvent event) {
+    if (event.getState() == ParticipantStateType.COMPLETE
+        || event.getState() == ParticipantStateType.OUT) {
+      Room room = rooms.get(event.getPostId());
+      if (room != null) {
+        room.remove(event.getUserId());
+      }
+    }
+  }
+
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    if (event.getType() == PostChangeType.COMPLETE || event.getType() == PostChangeType.DELETE) {
+      rooms.remove(event.getPostId());
+    }
+  }
+
+  int size() {
+    return rooms.size();
+  }
+
+  /**
+   * 모집글 하나의 참여자별 마지막 위치
+   */
+  private static class Room {
+
+    // userId -> 마지막 위치
+    private final Map<Long, Position> latest = new ConcurrentHashMap<>();
+
+    // 마지막 전달 이후 변경 여부
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    void update(LivePositionDto position, long receivedAt) {
+      if (latest.size() >= MAX_MEMBERS_PER_RUN && !latest.containsKey(position.getUserId())) {
+        return;
+      }
+      // 늦게 도착한 이전 위치로 덮어쓰지 않음
+      latest.merge(position.getUserId(), new Position(position, receivedAt),
+          (previous, current) -> current.position().getTime() >= previous.position().getTime()
+              ? current : previous);
+      changed.set(true);
+    }
+
+    void remove(Long userId) {
+      if (latest.remove(userId) != null) {
+        changed.set(true);
+      }
+    }
+
+    /**
+     * 오래된 위치를 정리하고, 변경이 있으면 참여자 위치 모음 (없으면 null)
+     */
+    List<LivePositionDto> snapshotIfChanged(long staleBefore) {
+      if (latest.values().removeIf(position -> position.receivedAt() < staleBefore)) {
+        changed.set(true);
+      }
+      if (!changed.getAndSet(false)) {
+        return null;
+      }
+      return latest.values().stream().map(Position::position).toList();
+    }
+
+    boolean isEmpty() {
+      return latest.isEmpty();
+    }
+  }
+
+  private record Position(LivePositionDto position, long receivedAt) {
+
+  }
+}
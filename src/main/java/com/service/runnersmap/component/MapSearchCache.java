@@ -0,0 +1,180 @@
+package com.service.runnersmap.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.service.runnersmap.config.ReplicaRoutingDataSource;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.service.PostService;
+import com.service.runnersmap.type.PathDetail;
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.GeoUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 지도 조회(/api/posts/map-posts) 결과 캐시
+ * - 중심 좌표를 격자(약 220m)의 중앙으로 맞추고(snap), 같은 격자 + 같은 필터 조건의 조회는 결과를 공유한다.
+ * - 모집글 변경 시 변경 전/후 위치가 조회 반경에 들어가는 격자의 결과를 무효화한다.
+ *   (조회 중 변경이 일어나면 만료시간(TTL) 이내로 반영이 지연될 수 있다.)
+ * - 적중률은 cache.gets{cache="map.search"}, 응답시간은 map.search.latency{cache=hit|miss} 지표로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MapSearchCache {
+
+  public static final String CACHE_NAME = "map.search";
+
+  // 중심 좌표 격자 크기(도) : 위도 기준 약 220m
+  private static final double CELL_SIZE_DEGREE = 0.002;
+
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(10);
+
+  private static final long MAX_RESULT_COUNT = 20_000;
+
+  private final MeterRegistry meterRegistry;
+
+  // 격자 key -> 해당 격자의 캐시 key 목록 (무효화용)
+  private final Map<Long, Set<SearchKey>> cells = new ConcurrentHashMap<>();
+
+  private final Cache<SearchKey, List<PostDto>> results = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRE_AFTER_WRITE)
+      .maximumSize(MAX_RESULT_COUNT)
+      .recordStats()
+      // 만료/크기 초과로 제거된 결과는 격자 목록에서도 제거 (무효화는 격자 목록을 먼저 비움)
+      .evictionListener((SearchKey key, List<PostDto> value, RemovalCause cause) -> {
+        if (key != null) {
+          removeFromCell(key);
+        }
+      })
+      .build();
+
+  private Timer hitTimer;
+
+  private Timer missTimer;
+
+  @PostConstruct
+  public void bindMetrics() {
+    CaffeineCacheMetrics.monitor(meterRegistry, results, CACHE_NAME);
+    hitTimer = Timer.builder("map.search.latency").tag("cache", "hit").register(meterRegistry);
+    missTimer = Timer.builder("map.search.latency").tag("cache", "miss").register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 조회 결과 반환, 없으면 격자 중앙 좌표로 바꾼 조건으로 loader 를 호출하여 캐시
+   * - 반환되는 목록은 캐시 내부 객체이므로 수정하지 않는다.
+   */
+  public List<PostDto> get(PostInDto inDto, Function<PostInDto, List<PostDto>> loader) {
+    long start = System.nanoTime();
+    long latIdx = index(inDto.getLat());
+    long lngIdx = index(inDto.getLng());
+    SearchKey key = new SearchKey(cellKey(latIdx, lngIdx), filterKey(inDto));
+
+    boolean[] loaded = {false};
+    List<PostDto> posts = results.get(key, k -> {
+      loaded[0] = true;
+      cells.computeIfAbsent(k.cell(), cell -> ConcurrentHashMap.newKeySet()).add(k);
+      PostInDto snapped = snap(inDto, latIdx, lngIdx);
+      return ReplicaRoutingDataSource.readFromPrimary(() -> loader.apply(snapped));
+    });
+
+    (loaded[0] ? missTimer : hitTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return posts;
+  }
+
+  /**
+   * 모집글 변경 시 조회 반경에 해당 모집글이 들어가는 격자의 결과 무효화 (메모리 인덱스 반영 이후)
+   */
+  @Order(1)
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    evict(event.getBefore());
+    evict(event.getAfter());
+  }
+
+  private void evict(PostDto post) {
+    if (post == null || cells.isEmpty()) {
+      return;
+    }
+    BoundingBox box = GeoUtils.boundingBox(post.getCenterLat(), post.getCenterLng(),
+        PostService.SEARCH_RADIUS_KM);
+    for (long latIdx = index(box.getMinLat()) - 1; latIdx <= index(box.getMaxLat()) + 1; latIdx++) {
+      for (long lngIdx = index(box.getMinLng()) - 1; lngIdx <= index(box.getMaxLng()) + 1; lngIdx++) {
+        Set<SearchKey> keys = cells.remove(cellKey(latIdx, lngIdx));
+        if (keys != null) {
+          results.invalidateAll(keys);
+        }
+      }
+    }
+  }
+
+  private void removeFromCell(SearchKey key) {
+    Set<SearchKey> keys = cells.get(key.cell());
+    if (keys != null) {
+      keys.remove(key);
+      if (keys.isEmpty()) {
+        cells.remove(key.cell(), keys);
+      }
+    }
+  }
+
+  // 중심 좌표를 격자 중앙으로 맞춘 조회 조건
+  private static PostInDto snap(PostInDto inDto, long latIdx, long lngIdx) {
+    return PostInDto.builder()
+        .lat((latIdx + 0.5) * CELL_SIZE_DEGREE)
+        .lng((lngIdx + 0.5) * CELL_SIZE_DEGREE)
+        .gender(inDto.getGender())
+        .paceMinStart(inDto.getPaceMinStart())
+        .paceMinEnd(inDto.getPaceMinEnd())
+        .distanceStart(inDto.getDistanceStart())
+        .distanceEnd(inDto.getDistanceEnd())
+        .startDateTime(inDto.getStartDateTime())
+        .endDateTime(inDto.getEndDateTime())
+        .limitMemberCntStart(inDto.getLimitMemberCntStart())
+        .limitMemberCntEnd(inDto.getLimitMemberCntEnd())
+        .zoom(inDto.getZoom())
+        .build();
+  }
+
+  // 필터 조건 (확대 수준은 경로 상세 수준으로 정규화)
+  private static String filterKey(PostInDto inDto) {
+    return String.join("|",
+        String.valueOf(inDto.getGender()),
+        String.valueOf(inDto.getPaceMinStart()),
+        String.valueOf(inDto.getPaceMinEnd()),
+        String.valueOf(inDto.getDistanceStart()),
+        String.valueOf(inDto.getDistanceEnd()),
+        String.valueOf(inDto.getStartDateTime()),
+        String.valueOf(inDto.getEndDateTime()),
+        String.valueOf(inDto.getLimitMemberCntStart()),
+        String.valueOf(inDto.getLimitMemberCntEnd()),
+        PathDetail.fromZoom(inDto.getZoom()).name());
+  }
+
+  private static long index(double degree) {
+    return (long) Math.floor(degree / CELL_SIZE_DEGREE);
+  }
+
+  private static long cellKey(long latIdx, long lngIdx) {
+    return (latIdx << 32) | (lngIdx & 0xffffffffL);
+  }
+
+  private record SearchKey(long cell, String filters) {
+
+  }
+}
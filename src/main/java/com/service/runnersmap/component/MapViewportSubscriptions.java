@@ -0,0 +1,172 @@
+package com.service.runnersmap.component;
+
+import com.service.runnersmap.dto.MapViewportDto;
+import com.service.runnersmap.dto.PostDiffDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.exception.RunnersMapException;
+import com.service.runnersmap.type.ErrorCode;
+import com.service.runnersmap.type.PathDetail;
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.ViewportGrid;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 지도 화면 영역(viewport) 구독
+ * - 클라이언트는 화면 영역과 필터를 등록(/pub/map/viewport)하고 /user/queue/map 을 구독한다.
+ * - 모집글 등록/수정/삭제/출발/도착 시 변경 전/후 위치를 포함하는 구독자에게만
+ *   추가/변경/삭제된 모집글(PostDiffDto)을 전달하여 지도 재조회(polling)를 대신한다.
+ * - 구독은 WebSocket 세션 단위이며 세션당 하나의 화면 영역만 유지한다. (재등록 시 교체)
+ * - 인스턴스별 메모리이므로 변경이 발생한 서버에 연결된 구독자에게만 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapViewportSubscriptions {
+
+  public static final String DESTINATION = "/queue/map";
+
+  // 화면 영역 격자 한 칸의 크기(도) : 위도 기준 약 11km
+  private static final double CELL_SIZE_DEGREE = 0.1;
+
+  // 이보다 많은 격자에 걸치는 넓은 화면 영역은 격자에 등록하지 않음
+  private static final int MAX_CELLS_PER_VIEWPORT = 64;
+
+  private final SimpMessagingTemplate template;
+
+  private final LivePostIndex livePostIndex;
+
+  // 세션 ID -> 필터 조건
+  private final Map<String, PostInDto> filters = new ConcurrentHashMap<>();
+
+  private final ViewportGrid viewports = new ViewportGrid(CELL_SIZE_DEGREE, MAX_CELLS_PER_VIEWPORT);
+
+  /**
+   * 화면 영역 등록 (같은 세션은 교체)
+   */
+  public void subscribe(String sessionId, MapViewportDto viewport) {
+    validateViewport(viewport);
+    filters.put(sessionId, viewport.toFilter());
+    viewports.put(sessionId, viewport.toBoundingBox());
+  }
+
+  public void unsubscribe(String sessionId) {
+    viewports.remove(sessionId);
+    filters.remove(sessionId);
+  }
+
+  /**
+   * 연결 종료 시 구독 해제
+   */
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    unsubscribe(event.getSessionId());
+  }
+
+  /**
+   * 모집글 변경분 전달 (메모리 인덱스 반영 / 타일 캐시 무효화 이후)
+   */
+  @Order(2)
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    if (viewports.size() == 0) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    PostDto before = event.getBefore();
+    // 출발/도착처럼 경로 없이 전달된 변경은 경로가 유지된 인덱스의 모집글을 사용
+    PostDto after = event.getAfter();
+    if (after != null && after.getPath() == null && livePostIndex.get(event.getPostId()) != null) {
+      after = livePostIndex.get(event.getPostId());
+    }
+
+    Set<String> sessionIds = new HashSet<>();
+    if (before != null) {
+      sessionIds.addAll(viewports.findContaining(before.getCenterLat(), before.getCenterLng()));
+    }
+    if (after != null) {
+      sessionIds.addAll(viewports.findContaining(after.getCenterLat(), after.getCenterLng()));
+    }
+
+    for (String sessionId : sessionIds) {
+      PostInDto filter = filters.get(sessionId);
+      if (filter == null) {
+        continue;
+      }
+      PostDiffDto diff = diff(sessionId, filter, event.getPostId(), before, after, now);
+      if (diff != null) {
+        send(sessionId, diff);
+      }
+    }
+  }
+
+  // 구독자 기준 변경 전/후 노출 여부로 추가/변경/삭제 구분 (둘 다 노출되지 않으면 null)
+  private PostDiffDto diff(String sessionId, PostInDto filter, Long postId,
+      PostDto before, PostDto after, LocalDateTime now) {
+    boolean wasShown = isShown(sessionId, filter, before, now);
+    boolean isShown = isShown(sessionId, filter, after, now);
+    if (!wasShown && !isShown) {
+      return null;
+    }
+    if (!isShown) {
+      return PostDiffDto.builder().added(List.of()).changed(List.of()).removed(List.of(postId))
+          .build();
+    }
+    PostDto post = after.toBuilder()
+        .path(after.pathOf(PathDetail.fromZoom(filter.getZoom())))
+        .build();
+    return PostDiffDto.builder()
+        .added(wasShown ? List.of() : List.of(post))
+        .changed(wasShown ? List.of(post) : List.of())
+        .removed(List.of())
+        .build();
+  }
+
+  private boolean isShown(String sessionId, PostInDto filter, PostDto post, LocalDateTime now) {
+    if (post == null) {
+      return false;
+    }
+    BoundingBox box = viewports.get(sessionId);
+    return box != null
+        && box.contains(post.getCenterLat(), post.getCenterLng())
+        && LivePostIndex.isVisible(post, now)
+        && LivePostIndex.matches(post, filter);
+  }
+
+  private void send(String sessionId, PostDiffDto diff) {
+    SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    headers.setSessionId(sessionId);
+    headers.setLeaveMutable(true);
+    try {
+      template.convertAndSendToUser(sessionId, DESTINATION, diff, headers.getMessageHeaders());
+    } catch (RuntimeException e) {
+      log.error("[RUNNERS LOG] 지도 변경분 전송 실패 : sessionId = {}", sessionId, e);
+    }
+  }
+
+  private void validateViewport(MapViewportDto viewport) {
+    if (viewport == null
+        || viewport.getMinLat() == null || viewport.getMinLng() == null
+        || viewport.getMaxLat() == null || viewport.getMaxLng() == null
+        || viewport.getMinLat() > viewport.getMaxLat()
+        || viewport.getMinLng() > viewport.getMaxLng()) {
+      throw new RunnersMapException(ErrorCode.INVALID_MAP_AREA);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.service.runnersmap.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.runnersmap.config.ReplicaRoutingDataSource;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.PostMemberChangeEvent;
+import com.service.runnersmap.event.UserProfileChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집글 상세(모집글 + 경로 + 참여자 목록) 캐시
+ * - 대기실에서 반복 조회되는 상세 정보를 조립된 결과(PostDto) 단위로 보관한다.
+ * - 모집글 변경(수정/삭제/출발/도착), 참여자 변경(참가/나가기), 참여자 프로필 변경 시 커밋 이후 무효화한다.
+ * - 적중/실패 수는 cache.gets{cache="post.detail"} 지표로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+  public static final String CACHE_NAME = "post.detail";
+
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
+  private static final long MAX_POST_COUNT = 10_000;
+
+  private final MeterRegistry meterRegistry;
+
+  // postId -> 모집글 상세 (경로는 원본 + 상세 수준별 경로)
+  private final Cache<Long, PostDto> posts = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRE_AFTER_WRITE)
+      .maximumSize(MAX_POST_COUNT)
+      .recordStats()
+      .build();
+
+  @PostConstruct
+  public void bindMetrics() {
+    CaffeineCacheMetrics.monitor(meterRegistry, posts, CACHE_NAME);
+  }
+
+  /**
+   * 캐시된 모집글 상세 반환, 없으면 loader 로 조회하여 캐시
+   * - 반환되는 객체는 캐시 내부 객체이므로 수정하지 않는다.
+   */
+  public PostDto get(Long postId, Function<Long, PostDto> loader) {
+    return posts.get(postId,
+        id -> ReplicaRoutingDataSource.readFromPrimary(() -> loader.apply(id)));
+  }
+
+  public void evict(Long postId) {
+    posts.invalidate(postId);
+  }
+
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    evict(event.getPostId());
+  }
+
+  @TransactionalEventListener
+  public void onMemberChange(PostMemberChangeEvent event) {
+    evict(event.getPostId());
+  }
+
+  /**
+   * 참여자 목록에 해당 사용자가 포함된 모집글만 무효화
+   */
+  @TransactionalEventListener
+  public void onProfileChange(UserProfileChangeEvent event) {
+    posts.asMap().values().removeIf(post -> post.getPostUsers() != null
+        && post.getPostUsers().stream()
+        .anyMatch(user -> event.getUserId().equals(user.getUserId())));
+  }
+}
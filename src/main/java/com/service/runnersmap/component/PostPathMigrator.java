@@ -0,0 +1,106 @@
+package com.service.runnersmap.component;
+
+import com.service.runnersmap.converter.PathCodec;
+import com.service.runnersmap.converter.PathListConverter;
+import com.service.runnersmap.entity.PostRoute;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모집글 경로 일회성 이관 (post 테이블의 JSON path 컬럼 -> post_route 테이블)
+ * - runners.migration.post-path=true 로 기동한 경우에만 등록되어, 기동 시 한 번
+ *   경로(post_route)가 없는 모집글을 post_id 순으로 나누어 변환한다. (평소 기동에는 수행되지 않음)
+ * - 이미 이관된 모집글은 건너뛰므로 여러 번(여러 서버에서) 수행되어도 결과는 같다.
+ * - path 컬럼이 이미 삭제되었으면 건너뛰고, 이관 중 실패해도 기동은 계속한다.
+ * - db/004_post_route.sql 적용 이후 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "runners.migration.post-path", havingValue = "true")
+public class PostPathMigrator implements ApplicationRunner {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final PathListConverter legacyConverter = new PathListConverter();
+
+  /**
+   * 메모리 인덱스 적재(LivePostIndex, ApplicationReadyEvent) 전에 수행
+   */
+  @Override
+  public void run(ApplicationArguments args) {
+    try {
+      if (!hasLegacyPathColumn()) {
+        log.info("[RUNNERS LOG] 모집글 경로 이관 대상 없음 : post.path 컬럼 없음");
+        return;
+      }
+      migrate();
+    } catch (RuntimeException e) {
+      log.error("[RUNNERS LOG] 모집글 경로 이관 중단", e);
+    }
+  }
+
+  // 이관 전 경로 컬럼(post.path)이 남아 있는지
+  private boolean hasLegacyPathColumn() {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.columns "
+            + "WHERE table_schema = SCHEMA() AND table_name = 'post' AND column_name = 'path'",
+        Integer.class);
+    return count != null && count > 0;
+  }
+
+  void migrate() {
+    long lastPostId = 0;
+    int migrated = 0;
+    int failed = 0;
+
+    while (true) {
+      List<Object[]> rows = jdbcTemplate.query(
+          "SELECT p.post_id, p.path FROM post p "
+              + "LEFT JOIN post_route r ON r.post_id = p.post_id "
+              + "WHERE p.post_id > ? AND r.post_id IS NULL AND p.path IS NOT NULL "
+              + "ORDER BY p.post_id LIMIT ?",
+          (rs, rowNum) -> new Object[]{rs.getLong("post_id"), rs.getString("path")},
+          lastPostId, BATCH_SIZE);
+      if (rows.isEmpty()) {
+        break;
+      }
+
+      List<Object[]> inserts = new ArrayList<>(rows.size());
+      for (Object[] row : rows) {
+        try {
+          PostRoute route = new PostRoute();
+          route.updatePath(legacyConverter.convertToEntityAttribute((String) row[1]));
+          inserts.add(new Object[]{row[0],
+              PathCodec.encode(route.getPath() != null ? route.getPath() : List.of()), // path_bin 은 NOT NULL
+              PathCodec.encode(route.getPathHigh()),
+              PathCodec.encode(route.getPathMedium()),
+              PathCodec.encode(route.getPathLow())});
+        } catch (RuntimeException e) {
+          // 변환 불가한 행은 기존 컬럼을 남겨두고 다음 행 진행
+          failed++;
+          log.error("[RUNNERS LOG] 모집글 경로 이관 실패 : postId = {}", row[0], e);
+        }
+      }
+      jdbcTemplate.batchUpdate(
+          "INSERT IGNORE INTO post_route (post_id, path_bin, path_high, path_medium, path_low) "
+              + "VALUES (?, ?, ?, ?, ?)", inserts);
+
+      migrated += inserts.size();
+      lastPostId = (Long) rows.get(rows.size() - 1)[0];
+    }
+
+    if (migrated > 0 || failed > 0) {
+      log.info("[RUNNERS LOG] 모집글 경로 이관 완료 : 성공 {} 건, 실패 {} 건", migrated, failed);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.service.runnersmap.component;
+
+import com.service.runnersmap.dto.ParticipantStateDto;
+import com.service.runnersmap.event.ParticipantStateEvent;
+import com.service.runnersmap.event.RunArrivedEvent;
+import com.service.runnersmap.type.ParticipantStateType;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집글 상태 채널
+ * - 러닝 참여자는 /sub/posts/{postId}/state 를 구독하고, 참가/나가기/출발/도착과 러닝 도착(모든 참여자 완료)을
+ *   커밋 이후 전달받아 상태 조회(/api/posts/userpost-state) 반복 호출을 대신한다.
+ * - 연결이 끊긴 동안의 변경은 전달되지 않으므로, 클라이언트는 재연결 시 상태 조회로 한 번 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostStateBroadcaster {
+
+  private static final String DESTINATION_PREFIX = "/sub/posts/";
+
+  private static final String DESTINATION_SUFFIX = "/state";
+
+  private final SimpMessagingTemplate template;
+
+  public static String destination(Long postId) {
+    return DESTINATION_PREFIX + postId + DESTINATION_SUFFIX;
+  }
+
+  @TransactionalEventListener
+  public void onParticipantStateChange(ParticipantStateEvent event) {
+    send(event.getPostId(), event.getUserId(), event.getState());
+  }
+
+  @TransactionalEventListener
+  public void onRunArrived(RunArrivedEvent event) {
+    send(event.getPostId(), null, ParticipantStateType.ARRIVE);
+  }
+
+  private void send(Long postId, Long userId, ParticipantStateType state) {
+    try {
+      template.convertAndSend(destination(postId), ParticipantStateDto.builder()
+          .postId(postId)
+          .userId(userId)
+          .state(state)
+          .changedDateTime(LocalDateTime.now())
+          .build());
+    } catch (RuntimeException e) {
+      // 전달 실패는 상태 조회로 보완되므로 요청 처리에는 영향 주지 않음
+      log.warn("[RUNNERS LOG] 모집글 상태 전달 실패 : postId = {}, state = {}", postId, state, e);
+    }
+  }
+}
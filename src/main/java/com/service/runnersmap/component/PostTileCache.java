@@ -0,0 +1,94 @@
+package com.service.runnersmap.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.runnersmap.config.ReplicaRoutingDataSource;
+import com.service.runnersmap.dto.MapTileDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.util.TileUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 지도 타일(z/x/y) 단위 모집글 캐시
+ * - 같은 타일을 보는 사용자들은 캐시된 결과와 ETag 를 공유한다.
+ * - 모집글 변경 시 변경 전/후 위치가 속한 타일을 모든 확대 수준에서 무효화한다.
+ * - 인증샷/좋아요 변경은 이벤트가 없으므로 만료시간(TTL) 이내로 반영이 지연될 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostTileCache {
+
+  // 타일 조회를 지원하는 확대 수준 (이보다 작으면 타일 하나가 너무 넓음)
+  public static final int MIN_ZOOM = 12;
+  public static final int MAX_ZOOM = 18;
+
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+  private static final long MAX_TILE_COUNT = 10_000;
+
+  private final ObjectMapper objectMapper;
+
+  // "z/x/y" -> 타일
+  private final Cache<String, MapTileDto> tiles = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRE_AFTER_WRITE)
+      .maximumSize(MAX_TILE_COUNT)
+      .build();
+
+  public static boolean isSupportedZoom(int z) {
+    return z >= MIN_ZOOM && z <= MAX_ZOOM;
+  }
+
+  /**
+   * 캐시된 타일 반환, 없으면 loader 로 조회하여 캐시
+   */
+  public MapTileDto get(int z, int x, int y, Supplier<List<PostDto>> loader) {
+    return tiles.get(key(z, x, y), key -> {
+      List<PostDto> posts = ReplicaRoutingDataSource.readFromPrimary(loader);
+      return new MapTileDto(etag(posts), posts);
+    });
+  }
+
+  /**
+   * 모집글 변경 시 해당 타일 무효화 (메모리 인덱스 반영 이후)
+   */
+  @Order(1)
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    evict(event.getBefore());
+    evict(event.getAfter());
+  }
+
+  private void evict(PostDto post) {
+    if (post == null) {
+      return;
+    }
+    for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+      tiles.invalidate(key(z,
+          TileUtils.tileX(post.getCenterLng(), z),
+          TileUtils.tileY(post.getCenterLat(), z)));
+    }
+  }
+
+  // 타일 내용(JSON) 기준 해시
+  private String etag(List<PostDto> posts) {
+    try {
+      return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(posts));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String key(int z, int x, int y) {
+    return z + "/" + x + "/" + y;
+  }
+}
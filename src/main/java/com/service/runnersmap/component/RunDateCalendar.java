@@ -0,0 +1,96 @@
+package com.service.runnersmap.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.PostMemberChangeEvent;
+import com.service.runnersmap.repository.UserPostRepository;
+import com.service.runnersmap.type.PostChangeType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 러닝 예정 날짜 (같은 날짜 중복 참여 확인 : 러닝 참가, 모집글 등록)
+ * - 오늘 이후 유효 참여의 러닝 날짜를 사용자 단위로 보관하고, 해당 날짜가 없으면 DB 조회 없이 중복 아님으로 본다.
+ * - 날짜가 있으면 (users_id, valid_run_date) 유니크 키로 한 번 더 확인한다. (나가기 직후 등 지난 값일 수 있음)
+ * - 다른 서버에서의 변경처럼 캐시에 빠진 날짜는 저장 시 유니크 키(uk_user_post_valid_run_date)에서 막히므로 조회를 줄이는 용도로만 사용한다.
+ * - 적중/실패 수는 cache.gets{cache="user.run-date"} 지표로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RunDateCalendar {
+
+  public static final String CACHE_NAME = "user.run-date";
+
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+
+  private static final long MAX_USER_COUNT = 100_000;
+
+  private final UserPostRepository userPostRepository;
+
+  private final MeterRegistry meterRegistry;
+
+  // userId -> 오늘 이후 러닝 날짜
+  private final Cache<Long, Set<LocalDate>> calendars = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRE_AFTER_WRITE)
+      .maximumSize(MAX_USER_COUNT)
+      .recordStats()
+      .build();
+
+  @PostConstruct
+  public void bindMetrics() {
+    CaffeineCacheMetrics.monitor(meterRegistry, calendars, CACHE_NAME);
+  }
+
+  /**
+   * 해당 날짜에 유효하게 참여 중인 러닝이 있는지 여부
+   */
+  public boolean isBooked(Long userId, LocalDate runDate) {
+    // 보관하지 않는 지난 날짜는 바로 조회
+    if (runDate.isBefore(LocalDate.now())) {
+      return userPostRepository.existsByUser_IdAndValidRunDate(userId, runDate);
+    }
+    Set<LocalDate> booked = calendars.get(userId, key -> Set.copyOf(
+        userPostRepository.findValidRunDates(key, LocalDate.now())));
+    return booked.contains(runDate)
+        && userPostRepository.existsByUser_IdAndValidRunDate(userId, runDate);
+  }
+
+  public void evict(Long userId) {
+    calendars.invalidate(userId);
+  }
+
+  @TransactionalEventListener
+  public void onMemberChange(PostMemberChangeEvent event) {
+    evict(event.getUserId());
+  }
+
+  /**
+   * 모집글 등록 시 그룹장, 출발일자 변경 시 전체 무효화 (참여자 목록을 보관하지 않으므로)
+   * - 삭제는 날짜가 남아 있어도 DB 로 다시 확인하므로 무효화하지 않음
+   */
+  @TransactionalEventListener
+  public void onPostChange(PostChangeEvent event) {
+    if (event.getType() == PostChangeType.REGISTER && event.getAfter() != null) {
+      evict(event.getAfter().getAdminId());
+    } else if (event.getType() == PostChangeType.MODIFY
+        && event.getBefore() != null && event.getAfter() != null
+        && !Objects.equals(runDate(event.getBefore().getStartDateTime()),
+        runDate(event.getAfter().getStartDateTime()))) {
+      calendars.invalidateAll();
+    }
+  }
+
+  private static LocalDate runDate(LocalDateTime startDateTime) {
+    return startDateTime == null ? null : startDateTime.toLocalDate();
+  }
+}
@@ -0,0 +1,246 @@
+package com.service.runnersmap.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.runnersmap.converter.TrackCodec;
+import com.service.runnersmap.entity.TrackPoint;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 러닝 위치 기록 저장소 (write-behind)
+ * - 러닝 중 수신한 위치는 참여 정보(userPostId)별 메모리 버퍼에 쌓아 두고,
+ *   FLUSH_INTERVAL 마다 버퍼 하나를 TrackCodec 바이너리 한 행(run_track)으로 묶어 일괄 저장(batchUpdate)한다.
+ * - 러닝 완료 시에는 해당 러닝의 버퍼를 먼저 저장한 뒤 전체 기록을 읽는다.
+ *   flushAll 이 그 러닝의 버퍼에서 꺼낸 위치를 저장하는 중이면 저장이 끝날 때까지 기다린 뒤 저장한다. (러닝별 잠금)
+ *   완료 트랜잭션이 롤백되면 저장했던 위치는 버퍼로 되돌려 다음 flushAll 에서 다시 저장한다.
+ * - 종료(완료/나가기/자동 종료)된 러닝의 버퍼는 버리고, 이후 도착한 위치도 받지 않는다. (어느 완료 기록에도 쓰이지 않는 행이 남지 않도록)
+ * - 버퍼는 인스턴스별 메모리이므로, 저장 전 서버가 비정상 종료되면 마지막 FLUSH_INTERVAL 동안의 위치는 유실될 수 있다.
+ * - db/009_run_track.sql 적용 이후 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunTrackStore {
+
+  private static final long FLUSH_INTERVAL_MILLIS = 10_000;
+
+  // 러닝 하나의 버퍼에 보관할 최대 좌표 수 (초과분은 저장 전까지 버림)
+  private static final int MAX_BUFFERED_POINTS = 2_000;
+
+  private static final int BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // userPostId -> 저장 대기 중인 위치
+  private final Map<Long, List<TrackPoint>> buffers = new ConcurrentHashMap<>();
+
+  // userPostId -> 버퍼에서 꺼낸 위치를 저장하는 동안 보유하는 잠금 (완료 시 flush 가 저장 중인 위치를 놓치지 않도록)
+  // 사용 중인 잠금만 남도록 약한 참조로 보관
+  private final Cache<Long, ReentrantLock> flushLocks = Caffeine.newBuilder()
+      .weakValues()
+      .build();
+
+  // 종료된 러닝의 참여 정보 ID (종료 직전에 조회한 ID 로 늦게 도착한 위치를 받지 않도록 잠시 보관)
+  private final Cache<Long, Boolean> finishedRuns = Caffeine.newBuilder()
+      .expireAfterWrite(Duration.ofMinutes(10))
+      .maximumSize(100_000)
+      .build();
+
+  // "postId:userId" -> 러닝 중인 참여 정보 ID (요청마다 참여 정보를 조회하지 않도록 보관)
+  private final Cache<String, Long> activeRuns = Caffeine.newBuilder()
+      .expireAfterAccess(Duration.ofHours(1))
+      .maximumSize(100_000)
+      .build();
+
+  /**
+   * 러닝 중인 참여 정보 ID (없으면 loader 로 조회하여 보관)
+   */
+  public Long activeRun(Long postId, Long userId, Function<String, Long> loader) {
+    return activeRuns.get(postId + ":" + userId, loader);
+  }
+
+  /**
+   * 러닝 종료 (완료/나가기/자동 종료)
+   * - 진행 중인 트랜잭션이 있으면 커밋 이후에 종료 처리한다. (롤백되면 러닝은 계속되고 버퍼도 유지)
+   * - 버퍼에 남은 위치는 버린다. (완료 시에는 flush 이후 도착한 위치)
+   */
+  public void finishRun(Long postId, Long userId, Long userPostId) {
+    activeRuns.invalidate(postId + ":" + userId);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      discard(userPostId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        discard(userPostId);
+      }
+    });
+  }
+
+  /**
+   * 위치 추가 (저장은 flush 시)
+   *
+   * @return 버퍼에 추가된 좌표 수 (종료된 러닝이면 0)
+   */
+  public int append(Long userPostId, List<TrackPoint> points) {
+    int[] appended = {0};
+    buffers.compute(userPostId, (key, buffer) -> {
+      // 종료 처리(discard)와 같은 key 의 compute 로 순서가 정해지므로 종료 이후의 위치는 버퍼에 남지 않음
+      if (finishedRuns.getIfPresent(key) != null) {
+        return buffer;
+      }
+      List<TrackPoint> target = buffer != null ? buffer : new ArrayList<>();
+      appended[0] = Math.max(0, Math.min(points.size(), MAX_BUFFERED_POINTS - target.size()));
+      target.addAll(points.subList(0, appended[0]));
+      return target;
+    });
+    if (appended[0] == 0 && finishedRuns.getIfPresent(userPostId) != null) {
+      log.debug("[RUNNERS LOG] 종료된 러닝의 위치 버림 : userPostId = {}, {} 건", userPostId, points.size());
+    } else if (appended[0] < points.size()) {
+      log.warn("[RUNNERS LOG] 러닝 위치 버퍼 초과 : userPostId = {}, 버림 {} 건",
+          userPostId, points.size() - appended[0]);
+    }
+    return appended[0];
+  }
+
+  /**
+   * 모든 러닝의 버퍼 저장
+   * - 일괄 저장(BATCH_SIZE 건) 동안에는 그 묶음에 포함된 러닝의 잠금만 보유한다.
+   *   (다른 러닝의 완료는 기다리지 않음, flushAll 끼리는 순서대로 수행)
+   */
+  @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+  @PreDestroy
+  public synchronized void flushAll() {
+    List<ReentrantLock> held = new ArrayList<>();
+    try {
+      List<Object[]> rows = new ArrayList<>();
+      for (Long userPostId : buffers.keySet()) {
+        ReentrantLock lock = lockOf(userPostId);
+        lock.lock();
+        List<TrackPoint> points = buffers.remove(userPostId);
+        if (points == null || points.isEmpty()) {
+          lock.unlock();
+          continue;
+        }
+        held.add(lock);
+        rows.add(row(userPostId, points));
+        if (rows.size() >= BATCH_SIZE) {
+          insert(rows);
+          rows = new ArrayList<>();
+          unlockAll(held);
+        }
+      }
+      insert(rows);
+    } finally {
+      unlockAll(held);
+    }
+  }
+
+  /**
+   * 특정 러닝의 버퍼 저장 (러닝 완료 시)
+   * - 진행 중인 트랜잭션이 있으면 같은 트랜잭션으로 저장하고, 롤백되면 위치를 버퍼로 되돌린다.
+   */
+  public void flush(Long userPostId) {
+    ReentrantLock lock = lockOf(userPostId);
+    lock.lock();
+    try {
+      List<TrackPoint> points = buffers.remove(userPostId);
+      if (points == null || points.isEmpty()) {
+        return;
+      }
+      try {
+        jdbcTemplate.update(
+            "INSERT INTO run_track (user_post_id, point_count, data) VALUES (?, ?, ?)",
+            row(userPostId, points));
+      } catch (RuntimeException e) {
+        append(userPostId, points);
+        throw e;
+      }
+      rebufferOnRollback(userPostId, points);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 저장된 러닝 위치 전체 (저장 순)
+   * - 잠금 조회(FOR UPDATE)로 읽어, 트랜잭션 시작 이후 flushAll 이 커밋한 행도 포함한다.
+   *   (REPEATABLE READ 의 일반 조회는 트랜잭션의 첫 조회 시점 이후 커밋된 행을 보지 못함)
+   */
+  public List<TrackPoint> load(Long userPostId) {
+    List<TrackPoint> track = new ArrayList<>();
+    jdbcTemplate.query(
+            "SELECT data FROM run_track WHERE user_post_id = ? ORDER BY run_track_id FOR UPDATE",
+            (rs, rowNum) -> rs.getBytes("data"), userPostId)
+        .forEach(data -> track.addAll(TrackCodec.decode(data)));
+    return track;
+  }
+
+  private ReentrantLock lockOf(Long userPostId) {
+    return flushLocks.get(userPostId, key -> new ReentrantLock());
+  }
+
+  private static void unlockAll(List<ReentrantLock> locks) {
+    locks.forEach(ReentrantLock::unlock);
+    locks.clear();
+  }
+
+  // 종료된 러닝으로 표시하고 남은 버퍼를 버림
+  private void discard(Long userPostId) {
+    finishedRuns.put(userPostId, Boolean.TRUE);
+    List<TrackPoint> points = buffers.remove(userPostId);
+    if (points != null && !points.isEmpty()) {
+      log.debug("[RUNNERS LOG] 종료된 러닝의 위치 버림 : userPostId = {}, {} 건", userPostId, points.size());
+    }
+  }
+
+  private void insert(List<Object[]> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    try {
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO run_track (user_post_id, point_count, data) VALUES (?, ?, ?)", rows);
+    } catch (RuntimeException e) {
+      // 저장 실패한 위치는 다음 flush 에서 다시 저장
+      log.error("[RUNNERS LOG] 러닝 위치 저장 실패 : {} 건", rows.size(), e);
+      for (Object[] row : rows) {
+        append((Long) row[0], TrackCodec.decode((byte[]) row[2]));
+      }
+    }
+  }
+
+  // 진행 중인 트랜잭션이 롤백되면 저장했던 위치를 버퍼로 되돌림
+  private void rebufferOnRollback(Long userPostId, List<TrackPoint> points) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          append(userPostId, points);
+        }
+      }
+    });
+  }
+
+  private static Object[] row(Long userPostId, List<TrackPoint> points) {
+    return new Object[]{userPostId, points.size(), TrackCodec.encode(points)};
+  }
+}
@@ -0,0 +1,79 @@
+package com.service.runnersmap.config;
+
+import com.service.runnersmap.service.PostArchiveService;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 완료된 모집글 보관 Job 설정 (JobScheduler 에서 실행)
+ * - Job 을 빈으로 등록하면 기동 시 Job 자동 실행(spring.batch.job.enabled)이 Job 이름 설정 없이는
+ *   실패하므로(Job 이 둘 이상), rankJob 과 달리 설정 클래스에서 직접 생성하여 제공한다.
+ */
+@Slf4j
+@Configuration
+public class ArchiveJobConfig {
+
+  private static final String JOB_NAME = "archiveJob";
+
+  private static final String STEP_NAME = "archiveStep";
+
+  // 한 번(한 트랜잭션)에 옮기는 모집글 수
+  private static final int ARCHIVE_BATCH_SIZE = 200;
+
+  private final PostArchiveService postArchiveService;
+
+  @Getter
+  private final Job archiveJob;
+
+  public ArchiveJobConfig(PostArchiveService postArchiveService, JobRepository jobRepository,
+      PlatformTransactionManager transactionManager) {
+    this.postArchiveService = postArchiveService;
+    this.archiveJob = new JobBuilder(JOB_NAME, jobRepository)
+        .incrementer(new RunIdIncrementer())
+        .start(archiveStep(jobRepository, transactionManager))
+        .build();
+  }
+
+  private Step archiveStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+    return new StepBuilder(STEP_NAME, jobRepository)
+        .tasklet(archiveTasklet(), transactionManager)
+        .build();
+  }
+
+  /**
+   * Tasklet 수행
+   * - 출발일이 archiveBefore(yyyy-MM-dd) 이전인 도착 완료 모집글을 ARCHIVE_BATCH_SIZE 건씩 보관
+   * - 한 번 수행(트랜잭션)마다 한 묶음을 옮기고, 남은 대상이 있으면 반복한다.
+   */
+  private Tasklet archiveTasklet() {
+    return (contribution, chunkContext) -> {
+      String archiveBefore = chunkContext.getStepContext().getStepExecution()
+          .getJobParameters().getString("archiveBefore");
+      if (archiveBefore == null || archiveBefore.isEmpty()) {
+        log.info("[Runners-Batch] archiveBefore 파라미터 null ");
+        return RepeatStatus.FINISHED;
+      }
+
+      int archived = postArchiveService.archiveArrivedPosts(
+          LocalDate.parse(archiveBefore).atStartOfDay(), ARCHIVE_BATCH_SIZE);
+      contribution.incrementWriteCount(archived);
+
+      if (archived < ARCHIVE_BATCH_SIZE) {
+        log.info("[Runners-Batch] archiveJob 종료 ({} 이전 모집글)", archiveBefore);
+        return RepeatStatus.FINISHED;
+      }
+      return RepeatStatus.CONTINUABLE;
+    };
+  }
+}
@@ -0,0 +1,56 @@
+package com.service.runnersmap.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary / replica DataSource 설정
+ * - spring.datasource.replica.jdbc-url 이 주어진 경우에만 사용하며, 없으면 기본 DataSource(primary 단일) 를 사용한다.
+ * - primary : spring.datasource.* (커넥션 풀은 spring.datasource.hikari.*)
+ * - replica : spring.datasource.replica.* (jdbc-url, username, password, connection-timeout 등 Hikari 설정)
+ * - runners.datasource.pin-after-write : 쓰기 이후 해당 사용자의 읽기를 primary 로 보낼 시간 (기본 0, 사용 안 함)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "jdbc-url")
+public class DataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    return new HikariDataSource();
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource routingDataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      @Value("${runners.datasource.pin-after-write:0s}") Duration pinAfterWrite) {
+    return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, pinAfterWrite);
+  }
+
+  /**
+   * JPA/배치 등에서 사용하는 DataSource
+   * - 트랜잭션의 readOnly 여부가 정해진 이후(첫 쿼리 시점)에 연결을 가져오도록 지연
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
@@ -1,6 +1,8 @@
 package com.service.runnersmap.config;
 
+import com.service.runnersmap.service.AbandonedRunService;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -21,6 +23,21 @@ public class JobScheduler {
 
   private final Job rankJob; // 랭킹계산 Job
 
+  private final ArchiveJobConfig archiveJobConfig; // 완료 모집글 보관 Job
+
+  private final AbandonedRunService abandonedRunService; // 미완료 러닝 자동 종료
+
+  // 도착 완료 후 보관 테이블로 옮기기까지의 기간(일) (지도 노출 기간 3일보다 길어야 함)
+  private static final int ARCHIVE_AFTER_DAYS = 30;
+
+  // 출발일시 이후 미완료 러닝을 자동 종료하기까지의 시간
+  private static final int ABANDON_AFTER_HOURS = 6;
+
+  // 자동 종료 1회 처리 건수 / 실행당 최대 반복 횟수 (한 번에 오래 잠그지 않도록 나누어 처리)
+  private static final int ABANDON_BATCH_SIZE = 200;
+
+  private static final int ABANDON_MAX_BATCHES = 10;
+
 //  @Scheduled(cron = "*/10 * * * * *") // 10초에 한번(개발용)
   @Scheduled(cron = "0 0 0 * * *") // 매일 자정
 //  @Scheduled(cron = "0 0 * * * *") // 정각마다 수행
@@ -42,4 +59,35 @@ public class JobScheduler {
       e.printStackTrace();
     }
   }
-}
\ No newline at end of file
+
+  @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
+  public void runArchiveJob() {
+    try {
+      String archiveBefore = LocalDate.now().minusDays(ARCHIVE_AFTER_DAYS).toString();
+
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addLong("time", System.currentTimeMillis())
+          .addString("archiveBefore", archiveBefore)
+          .toJobParameters();
+
+      jobLauncher.run(archiveJobConfig.getArchiveJob(), jobParameters);
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 60 * 1000) // 5분마다
+  public void runAbandonedRunSweep() {
+    try {
+      LocalDateTime departedBefore = LocalDateTime.now().minusHours(ABANDON_AFTER_HOURS);
+      for (int i = 0; i < ABANDON_MAX_BATCHES; i++) {
+        if (abandonedRunService.closeAbandonedRuns(departedBefore, ABANDON_BATCH_SIZE)
+            < ABANDON_BATCH_SIZE) {
+          break;
+        }
+      }
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.service.runnersmap.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제(replica) DB 로 보내는 DataSource
+ * - @Transactional(readOnly = true) 트랜잭션은 replica, 그 외는 primary 로 연결한다.
+ *   (트랜잭션 시작 이후에 연결을 가져오도록 LazyConnectionDataSourceProxy 로 감싸서 사용)
+ * - replica 연결에 실패하면 일정 시간(REPLICA_RETRY_INTERVAL) 동안 primary 로 대신 연결한다.
+ *   replica 커넥션 풀의 connection-timeout 은 짧게 두어야 장애 시 대기 시간이 줄어든다.
+ * - pinAfterWrite 가 주어지면, 쓰기 트랜잭션을 커밋한 사용자의 읽기는 그 시간 동안 primary 로 보낸다.
+ *   (복제 지연 중에도 자신이 변경한 내용은 바로 조회되도록 함, read-your-writes)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Target {
+    PRIMARY, REPLICA
+  }
+
+  private static final Duration REPLICA_RETRY_INTERVAL = Duration.ofSeconds(10);
+
+  private static final long MAX_PINNED_USER_COUNT = 100_000;
+
+  // readFromPrimary 수행 중인 스레드 (중첩 횟수)
+  private static final ThreadLocal<Integer> PRIMARY_READS = new ThreadLocal<>();
+
+  private final DataSource primary;
+
+  private final DataSource replica;
+
+  // 최근 쓰기 트랜잭션을 커밋한 사용자 (pinAfterWrite 가 0 이면 null)
+  private final Cache<String, Boolean> pinnedUsers;
+
+  // replica 재연결 시도 시각 (System.nanoTime 기준, 시각끼리의 차이로만 비교)
+  private volatile long replicaRetryAt = System.nanoTime();
+
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration pinAfterWrite) {
+    this.primary = primary;
+    this.replica = replica;
+    this.pinnedUsers = pinAfterWrite == null || pinAfterWrite.isZero() ? null
+        : Caffeine.newBuilder()
+            .expireAfterWrite(pinAfterWrite)
+            .maximumSize(MAX_PINNED_USER_COUNT)
+            .build();
+    setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  /**
+   * reader 안에서 새로 가져오는 연결은 readOnly 트랜잭션이라도 primary 로 연결 (캐시 적재용)
+   * - 캐시는 쓰기 커밋 직후 무효화되므로, 바로 다음 적재가 지연된 replica 를 읽으면 변경 전 결과가
+   *   만료시간 동안 모든 사용자(쓴 사용자 포함)에게 반환된다. 대신 캐시 실패(miss) 조회는 primary 부하가 된다.
+   *   (캐시 적중은 DB 를 사용하지 않으므로, 캐시된 조회의 DB 부하는 만료시간/무효화 횟수만큼으로 제한됨)
+   * - 트랜잭션이 이미 replica 연결을 가져온 뒤라면 그 연결을 계속 사용하므로,
+   *   트랜잭션의 첫 쿼리 이전(또는 트랜잭션 밖)에서 호출해야 한다.
+   */
+  public static <T> T readFromPrimary(Supplier<T> reader) {
+    Integer depth = PRIMARY_READS.get();
+    PRIMARY_READS.set(depth == null ? 1 : depth + 1);
+    try {
+      return reader.get();
+    } finally {
+      if (depth == null) {
+        PRIMARY_READS.remove();
+      } else {
+        PRIMARY_READS.set(depth);
+      }
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        && PRIMARY_READS.get() == null
+        && isReplicaAvailable()
+        && !isPinned(currentUser())) {
+      return Target.REPLICA;
+    }
+    return Target.PRIMARY;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (determineCurrentLookupKey() == Target.REPLICA) {
+      try {
+        return replica.getConnection();
+      } catch (SQLException e) {
+        markReplicaDown(e);
+      }
+    } else {
+      pinAfterCommit();
+    }
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (determineCurrentLookupKey() == Target.REPLICA) {
+      try {
+        return replica.getConnection(username, password);
+      } catch (SQLException e) {
+        markReplicaDown(e);
+      }
+    } else {
+      pinAfterCommit();
+    }
+    return primary.getConnection(username, password);
+  }
+
+  private boolean isReplicaAvailable() {
+    return System.nanoTime() - replicaRetryAt >= 0;
+  }
+
+  private void markReplicaDown(SQLException e) {
+    replicaRetryAt = System.nanoTime() + REPLICA_RETRY_INTERVAL.toNanos();
+    log.warn("[RUNNERS LOG] replica 연결 실패, {}초 동안 primary 로 조회 : {}",
+        REPLICA_RETRY_INTERVAL.toSeconds(), e.getMessage());
+  }
+
+  private boolean isPinned(String user) {
+    return pinnedUsers != null && user != null && pinnedUsers.getIfPresent(user) != null;
+  }
+
+  // 쓰기 트랜잭션이면 커밋 이후 사용자의 읽기를 primary 로 고정
+  private void pinAfterCommit() {
+    if (pinnedUsers == null
+        || !TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return;
+    }
+    String user = currentUser();
+    if (user == null) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        pinnedUsers.put(user, Boolean.TRUE);
+      }
+    });
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && authentication.isAuthenticated()
+        ? authentication.getName() : null;
+  }
+}
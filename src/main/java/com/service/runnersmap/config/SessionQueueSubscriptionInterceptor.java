@@ -0,0 +1,45 @@
+package com.service.runnersmap.config;
+
+import com.service.runnersmap.exception.RunnersMapException;
+import com.service.runnersmap.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 전달 목적지(/queue) 구독 제한
+ * - convertAndSendToUser(세션 ID, "/queue/xxx") 는 "/queue/xxx-user{세션 ID}" 로 전달되므로,
+ *   /queue 를 직접 구독하면 다른 세션의 ID 만 알아도 그 세션의 메시지를 받을 수 있다.
+ * - 클라이언트는 /user/queue/xxx 로 구독하고(자기 세션으로 변환됨),
+ *   /queue 직접 구독은 자기 세션의 목적지일 때만 허용한다.
+ */
+@Slf4j
+@Component
+public class SessionQueueSubscriptionInterceptor implements ChannelInterceptor {
+
+  private static final String QUEUE_PREFIX = "/queue/";
+
+  // DefaultUserDestinationResolver 가 세션 ID 를 붙일 때 사용하는 구분자
+  private static final String SESSION_SUFFIX = "-user";
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    if (accessor.getMessageType() != SimpMessageType.SUBSCRIBE) {
+      return message;
+    }
+
+    String destination = accessor.getDestination();
+    if (destination != null && destination.startsWith(QUEUE_PREFIX)
+        && !destination.endsWith(SESSION_SUFFIX + accessor.getSessionId())) {
+      log.warn("[RUNNERS LOG] 다른 세션 목적지 구독 거부 : sessionId = {}, destination = {}",
+          accessor.getSessionId(), destination);
+      throw new RunnersMapException(ErrorCode.FORBIDDEN_QUEUE_SUBSCRIPTION);
+    }
+    return message;
+  }
+}
@@ -1,7 +1,9 @@
 package com.service.runnersmap.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -11,10 +13,13 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Slf4j
 @Configuration
 @EnableWebSocketMessageBroker   // stomp 사용을 위해 선언
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   // WebSocketConfigurer : 1대1 채팅방
   // WebSocketMessageBrokerConfigurer : 단톡방 - 메시징 시스템 필요
 
+  private final SessionQueueSubscriptionInterceptor sessionQueueSubscriptionInterceptor;
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/ws/chat")  // 클라이언트가 WebSocket 연결을 위해 사용할 STOMP 엔드포인트(URL)
@@ -30,10 +35,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     // 현재는 메모리 내 브로커를 사용하여 시도해보고 있습니다.
     // 이후에 외부 메시지 브로커로 변경 고려해야 할 듯합니다.
-    registry.enableSimpleBroker("/sub", "/user/queue/chat");  // (서버 -> 클라이언트) 메시지 받기
+    registry.enableSimpleBroker("/sub", "/queue", "/user/queue/chat");  // (서버 -> 클라이언트) 메시지 받기 (/queue : 세션별 전달)
     registry.setApplicationDestinationPrefixes("/pub");    // (클라이언트 -> 서버) 메시지 보내기
     registry.setUserDestinationPrefix("/user");
 
   }
 
-}
\ No newline at end of file
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    // 세션별 전달(/queue) 목적지는 자기 세션 것만 구독 가능
+    registration.interceptors(sessionQueueSubscriptionInterceptor);
+  }
+
+}
@@ -0,0 +1,32 @@
+package com.service.runnersmap.controller;
+
+import com.service.runnersmap.component.LiveRunPositions;
+import com.service.runnersmap.dto.LivePositionDto;
+import com.service.runnersmap.service.UserPostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class LivePositionController {
+
+  private final UserPostService userPostService;
+
+  private final LiveRunPositions liveRunPositions;
+
+  /**
+   * 러닝 중 현재 위치 공유
+   * - 러닝 중인 참여자만 가능하며, 참여자 위치 모음은 주기적으로 /sub/posts/{postId}/positions 로 전달
+   */
+  @MessageMapping(value = "/posts/{postId}/position")
+  public void publishPosition(@DestinationVariable("postId") Long postId,
+      @Payload LivePositionDto position) {
+    userPostService.activeUserPostId(postId, position.getUserId());
+    liveRunPositions.update(postId, position);
+  }
+}
@@ -0,0 +1,35 @@
+package com.service.runnersmap.controller;
+
+import com.service.runnersmap.component.MapViewportSubscriptions;
+import com.service.runnersmap.dto.MapViewportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class MapViewportController {
+
+  private final MapViewportSubscriptions mapViewportSubscriptions;
+
+  /**
+   * 지도 화면 영역 구독 등록/변경
+   * - 등록 이후 화면 영역 내 모집글 변경분을 /user/queue/map 으로 전달
+   */
+  @MessageMapping(value = "/map/viewport")
+  public void subscribe(@Payload MapViewportDto viewport, SimpMessageHeaderAccessor accessor) {
+    mapViewportSubscriptions.subscribe(accessor.getSessionId(), viewport);
+  }
+
+  /**
+   * 지도 화면 영역 구독 해제
+   */
+  @MessageMapping(value = "/map/viewport/clear")
+  public void unsubscribe(SimpMessageHeaderAccessor accessor) {
+    mapViewportSubscriptions.unsubscribe(accessor.getSessionId());
+  }
+}
@@ -1,9 +1,12 @@
 package com.service.runnersmap.controller;
 
+import com.service.runnersmap.dto.MapTileDto;
+import com.service.runnersmap.dto.PostClusterDto;
 import com.service.runnersmap.dto.PostDto;
 import com.service.runnersmap.dto.PostInDto;
 import com.service.runnersmap.entity.Post;
 import com.service.runnersmap.service.PostService;
+import com.service.runnersmap.type.PathDetail;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -13,10 +16,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -35,6 +40,7 @@ public class PostController {
   /*
    * 러닝모집글/인증샷 내역 조회
    * - 지도에 표시될 데이터를 표시한다.
+   * - zoom 을 지정하면 지도 확대 수준에 맞게 단순화된 경로를 반환한다.
    */
   @GetMapping("/map-posts")
   public ResponseEntity<List<PostDto>> searchMapPost(
@@ -48,7 +54,8 @@ public class PostController {
       @RequestParam(value = "startDateTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTime,
       @RequestParam(value = "endDateTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDateTime,
       @RequestParam(value = "limitMemberCntStart", required = false) Integer limitMemberCntStart,
-      @RequestParam(value = "limitMemberCntEnd", required = false) Integer limitMemberCntEnd
+      @RequestParam(value = "limitMemberCntEnd", required = false) Integer limitMemberCntEnd,
+      @RequestParam(value = "zoom", required = false) Integer zoom
   ) throws Exception {
 
     PostInDto inDto = PostInDto.builder()
@@ -63,6 +70,7 @@ public class PostController {
         .endDateTime(endDateTime)
         .limitMemberCntStart(limitMemberCntStart)
         .limitMemberCntEnd(limitMemberCntEnd)
+        .zoom(zoom)
         .build();
 
     List<PostDto> posts = postService.searchPost(inDto);
@@ -74,14 +82,78 @@ public class PostController {
     }
   }
 
+  /*
+   * 지도 타일(z/x/y) 단위 러닝모집글/인증샷 내역 조회
+   * - 타일별로 캐시되며, 요청의 If-None-Match 가 ETag 와 같으면 304(Not Modified) 응답
+   */
+  @GetMapping("/map-tiles/{z}/{x}/{y}")
+  public ResponseEntity<List<PostDto>> searchMapTile(
+      @PathVariable("z") int z,
+      @PathVariable("x") int x,
+      @PathVariable("y") int y
+  ) throws Exception {
+
+    MapTileDto tile = postService.searchTilePost(z, x, y);
+
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .eTag(tile.getEtag())
+        .body(tile.getPosts());
+  }
+
+  /*
+   * 경로가 중심 좌표 근처(radius m 이내)를 지나는 러닝모집글 조회
+   */
+  @GetMapping("/route-posts")
+  public ResponseEntity<List<PostDto>> searchRoutePost(
+      @RequestParam(value = "centerLat") Double centerLat,
+      @RequestParam(value = "centerLng") Double centerLng,
+      @RequestParam(value = "radius", defaultValue = "500") Double radius,
+      @RequestParam(value = "zoom", required = false) Integer zoom
+  ) throws Exception {
+
+    List<PostDto> posts = postService.searchRoutePost(centerLat, centerLng, radius, zoom);
+
+    if (posts.isEmpty()) {
+      return ResponseEntity.noContent().build();
+    } else {
+      return ResponseEntity.ok(posts);
+    }
+  }
+
+  /*
+   * 지도 영역 내 러닝모집글 묶음(cluster) 조회
+   * - 축소된 지도에서 격자별 모집글 개수와 평균 좌표를 표시한다.
+   */
+  @GetMapping("/map-clusters")
+  public ResponseEntity<List<PostClusterDto>> searchMapCluster(
+      @RequestParam(value = "minLat") Double minLat,
+      @RequestParam(value = "minLng") Double minLng,
+      @RequestParam(value = "maxLat") Double maxLat,
+      @RequestParam(value = "maxLng") Double maxLng,
+      @RequestParam(value = "zoom") Integer zoom
+  ) throws Exception {
+
+    List<PostClusterDto> clusters =
+        postService.searchPostCluster(minLat, minLng, maxLat, maxLng, zoom);
+
+    if (clusters.isEmpty()) {
+      return ResponseEntity.noContent().build();
+    } else {
+      return ResponseEntity.ok(clusters);
+    }
+  }
+
   /*
    * 러닝모집글 상세조회
+   * - zoom 을 지정하면 지도 확대 수준에 맞게 단순화된 경로를 반환한다.
    */
   @GetMapping
   public ResponseEntity<PostDto> searchDetailPost(
-      @RequestParam(value = "postId") Long postId
+      @RequestParam(value = "postId") Long postId,
+      @RequestParam(value = "zoom", required = false) Integer zoom
   ) throws Exception {
-    PostDto postDto = postService.searchDetailPost(postId);
+    PostDto postDto = postService.searchDetailPost(postId, PathDetail.fromZoom(zoom));
     return ResponseEntity.ok(postDto);
   }
 
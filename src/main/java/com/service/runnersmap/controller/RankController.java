@@ -1,7 +1,6 @@
 package com.service.runnersmap.controller;
 
 import com.service.runnersmap.dto.RankDto;
-import com.service.runnersmap.entity.Rank;
 import com.service.runnersmap.service.RankService;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,12 +36,11 @@ public class RankController {
   ) throws Exception {
 
     Pageable pageable = PageRequest.of(page,size);
-    Page<Rank> rankPage = rankService.searchRankByMonth(year, month, pageable);
+    Page<RankDto> rankDtoPage = rankService.searchRankByMonth(year, month, pageable);
 
-    if (rankPage.isEmpty()) {
+    if (rankDtoPage.isEmpty()) {
       return ResponseEntity.noContent().build();
     } else {
-      Page<RankDto> rankDtoPage = rankPage.map(RankDto::fromEntity);
       return ResponseEntity.ok(rankDtoPage);
 //      return ResponseEntity.ok(
 //          rank.stream().map(p -> RankDto.fromEntity(p)).collect(Collectors.toList())
@@ -2,15 +2,20 @@ package com.service.runnersmap.controller;
 
 import com.service.runnersmap.dto.PostDto;
 import com.service.runnersmap.dto.UserPostSearchDto;
+import com.service.runnersmap.entity.TrackPoint;
 import com.service.runnersmap.entity.UserPost;
 import com.service.runnersmap.service.UserPostService;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,13 +30,17 @@ public class UserPostController {
 
   /*
    * 러닝모집글 리스트 조회 (사용자별 러닝참여 리스트 조회)
+   * size 를 주면 출발일시 순으로 size 건씩 조회, 다음 페이지는 마지막 모집글의 출발일시(lastStartDateTime)와 ID(lastPostId)로 요청
    */
   @GetMapping("/list")
   public ResponseEntity<List<PostDto>> listParticipatePost(
-      @RequestParam(value = "userId") Long userId
+      @RequestParam(value = "userId") Long userId,
+      @RequestParam(value = "lastStartDateTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastStartDateTime,
+      @RequestParam(value = "lastPostId", required = false) Long lastPostId,
+      @RequestParam(value = "size", required = false) Integer size
   ) throws Exception {
     return ResponseEntity.ok(
-        userPostService.listParticipatePost(userId)
+        userPostService.listParticipatePost(userId, lastStartDateTime, lastPostId, size)
     );
   }
 
@@ -84,6 +93,18 @@ public class UserPostController {
     return ResponseEntity.ok().build();
   }
 
+  /*
+   * 러닝기록 위치 전송 (러닝 중 수신한 위치를 모아서 전송)
+   */
+  @PostMapping("/record/track")
+  public ResponseEntity<Integer> recordTrack(
+      @RequestParam(value = "postId") Long postId,
+      @RequestParam(value = "userId") Long userId,
+      @RequestBody List<TrackPoint> points
+  ) throws Exception {
+    return ResponseEntity.ok(userPostService.recordTrack(postId, userId, points));
+  }
+
   /*
    * 러닝기록 조회
    */
@@ -100,14 +121,20 @@ public class UserPostController {
 
 
   /*
-   * 모집글 사용자 상태조회 [polling]
+   * 모집글 사용자 상태조회
    * - 사용자별 도착버튼 활성화 여부
+   * - 상태 변경은 STOMP /sub/posts/{postId}/state 로 전달되므로 연결/재연결 시에만 조회 (polling 대체)
+   * - 응답 상태를 ETag 로 내려주고, 요청의 If-None-Match 가 같으면 304(Not Modified) 응답
    */
   @GetMapping("/userpost-state")
   public ResponseEntity<String> userPostState(
       @RequestParam(value = "postId") Long postId,
       @RequestParam(value = "userId") Long userId
   ) throws Exception {
-    return ResponseEntity.ok(userPostService.userPostState(postId, userId));
+    String state = userPostService.userPostState(postId, userId);
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .eTag(state)
+        .body(state);
   }
 }
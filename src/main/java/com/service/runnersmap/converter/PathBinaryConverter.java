@@ -0,0 +1,23 @@
+package com.service.runnersmap.converter;
+
+import com.service.runnersmap.entity.Path;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/**
+ * 경로 <-> 바이너리(BLOB) 변환 (PathCodec 형식)
+ */
+@Converter
+public class PathBinaryConverter implements AttributeConverter<List<Path>, byte[]> {
+
+  @Override
+  public byte[] convertToDatabaseColumn(List<Path> attribute) {
+    return PathCodec.encode(attribute);
+  }
+
+  @Override
+  public List<Path> convertToEntityAttribute(byte[] dbData) {
+    return PathCodec.decode(dbData);
+  }
+}
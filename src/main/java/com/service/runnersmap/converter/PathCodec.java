@@ -0,0 +1,101 @@
+package com.service.runnersmap.converter;
+
+import com.service.runnersmap.entity.Path;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로(Path 목록) 바이너리 인코딩
+ * - 좌표를 1e-6도(약 0.1m) 정수로 고정소수점 변환 후 이전 좌표와의 차이(delta)만 저장
+ * - 차이값은 zigzag + varint 로 가변 길이 저장 (인접 좌표는 대부분 1 ~ 3 byte)
+ * - 형식 : [버전(1byte)] [좌표 수(varint)] [위도 delta, 경도 delta (varint)] ...
+ * - 경로가 없으면(null) 컬럼도 NULL 로 두어, 단순화 경로가 없는 기존 행을 빈 경로와 구분한다.
+ */
+public final class PathCodec {
+
+  private static final byte VERSION = 1;
+
+  private static final double SCALE = 1_000_000.0;
+
+  private PathCodec() {
+  }
+
+  public static byte[] encode(List<Path> path) {
+    if (path == null) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream(2 + path.size() * 6);
+    out.write(VERSION);
+    writeVarint(out, path.size());
+
+    long prevLat = 0;
+    long prevLng = 0;
+    for (Path point : path) {
+      long lat = Math.round(point.getLat() * SCALE);
+      long lng = Math.round(point.getLng() * SCALE);
+      writeVarint(out, zigzag(lat - prevLat));
+      writeVarint(out, zigzag(lng - prevLng));
+      prevLat = lat;
+      prevLng = lng;
+    }
+    return out.toByteArray();
+  }
+
+  public static List<Path> decode(byte[] data) {
+    if (data == null || data.length == 0) {
+      return null;
+    }
+    if (data[0] != VERSION) {
+      throw new IllegalArgumentException("unsupported path encoding version : " + data[0]);
+    }
+
+    int[] pos = {1};
+    int size = (int) readVarint(data, pos);
+    // 좌표 하나는 최소 2byte 이므로 잘못된 길이로 큰 배열이 할당되지 않도록 확인
+    if (size < 0 || size > (data.length - pos[0]) / 2) {
+      throw new IllegalArgumentException("invalid path size : " + size);
+    }
+
+    List<Path> path = new ArrayList<>(size);
+    long lat = 0;
+    long lng = 0;
+    for (int i = 0; i < size; i++) {
+      lat += unzigzag(readVarint(data, pos));
+      lng += unzigzag(readVarint(data, pos));
+      path.add(new Path(lat / SCALE, lng / SCALE));
+    }
+    return path;
+  }
+
+  static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  static long readVarint(byte[] data, int[] pos) {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      if (pos[0] >= data.length) {
+        throw new IllegalArgumentException("truncated path data");
+      }
+      byte b = data[pos[0]++];
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("malformed varint in path data");
+  }
+}
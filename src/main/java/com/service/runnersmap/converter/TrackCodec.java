@@ -0,0 +1,71 @@
+package com.service.runnersmap.converter;
+
+import com.service.runnersmap.entity.TrackPoint;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 러닝 위치 기록(TrackPoint 목록) 바이너리 인코딩
+ * - 좌표는 PathCodec 과 같이 1e-6도 정수의 이전 좌표 대비 차이(delta), 수신 시각은 이전 시각 대비 차이(ms)를 저장
+ * - 차이값은 zigzag + varint 로 가변 길이 저장 (수 초 간격 기록은 좌표당 약 5 ~ 8 byte)
+ * - 형식 : [버전(1byte)] [좌표 수(varint)] [위도 delta, 경도 delta, 시각 delta (varint)] ...
+ */
+public final class TrackCodec {
+
+  private static final byte VERSION = 1;
+
+  private static final double SCALE = 1_000_000.0;
+
+  private TrackCodec() {
+  }
+
+  public static byte[] encode(List<TrackPoint> track) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(2 + track.size() * 8);
+    out.write(VERSION);
+    PathCodec.writeVarint(out, track.size());
+
+    long prevLat = 0;
+    long prevLng = 0;
+    long prevTime = 0;
+    for (TrackPoint point : track) {
+      long lat = Math.round(point.getLat() * SCALE);
+      long lng = Math.round(point.getLng() * SCALE);
+      PathCodec.writeVarint(out, PathCodec.zigzag(lat - prevLat));
+      PathCodec.writeVarint(out, PathCodec.zigzag(lng - prevLng));
+      PathCodec.writeVarint(out, PathCodec.zigzag(point.getTime() - prevTime));
+      prevLat = lat;
+      prevLng = lng;
+      prevTime = point.getTime();
+    }
+    return out.toByteArray();
+  }
+
+  public static List<TrackPoint> decode(byte[] data) {
+    if (data == null || data.length == 0) {
+      return new ArrayList<>();
+    }
+    if (data[0] != VERSION) {
+      throw new IllegalArgumentException("unsupported track encoding version : " + data[0]);
+    }
+
+    int[] pos = {1};
+    int size = (int) PathCodec.readVarint(data, pos);
+    // 좌표 하나는 최소 3byte 이므로 잘못된 길이로 큰 배열이 할당되지 않도록 확인
+    if (size < 0 || size > (data.length - pos[0]) / 3) {
+      throw new IllegalArgumentException("invalid track size : " + size);
+    }
+
+    List<TrackPoint> track = new ArrayList<>(size);
+    long lat = 0;
+    long lng = 0;
+    long time = 0;
+    for (int i = 0; i < size; i++) {
+      lat += PathCodec.unzigzag(PathCodec.readVarint(data, pos));
+      lng += PathCodec.unzigzag(PathCodec.readVarint(data, pos));
+      time += PathCodec.unzigzag(PathCodec.readVarint(data, pos));
+      track.add(new TrackPoint(lat / SCALE, lng / SCALE, time));
+    }
+    return track;
+  }
+}
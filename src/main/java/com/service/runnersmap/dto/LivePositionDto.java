@@ -0,0 +1,25 @@
+package com.service.runnersmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 러닝 중 참여자 현재 위치 (STOMP /pub/posts/{postId}/position 으로 전송)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LivePositionDto {
+
+  private Long userId;
+
+  private double lat;
+
+  private double lng;
+
+  private long time; // 수신 시각 (epoch milliseconds)
+
+}
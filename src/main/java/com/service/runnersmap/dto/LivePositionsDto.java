@@ -0,0 +1,22 @@
+package com.service.runnersmap.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 러닝 참여자 현재 위치 모음 (STOMP /sub/posts/{postId}/positions 로 주기적으로 전달)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LivePositionsDto {
+
+  private Long postId;
+
+  private List<LivePositionDto> positions; // 참여자별 마지막 위치
+
+}
@@ -0,0 +1,15 @@
+package com.service.runnersmap.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MapTileDto {
+
+  private String etag; // 타일 내용 기준 ETag
+
+  private List<PostDto> posts; // 타일 내 모집글
+
+}
@@ -0,0 +1,60 @@
+package com.service.runnersmap.dto;
+
+import com.service.runnersmap.util.BoundingBox;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 화면 영역 구독 요청 (STOMP /pub/map/viewport)
+ * - 화면 영역(남서 ~ 북동)과 지도 조회(/api/posts/map-posts)와 같은 필터 조건
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MapViewportDto {
+
+  private Double minLat;
+  private Double minLng;
+  private Double maxLat;
+  private Double maxLng;
+
+  private String gender;
+  private Integer paceMinStart;
+  private Integer paceMinEnd;
+  private Long distanceStart;
+  private Long distanceEnd;
+
+  private LocalDateTime startDateTime;
+  private LocalDateTime endDateTime;
+
+  private Integer limitMemberCntStart;
+  private Integer limitMemberCntEnd;
+
+  private Integer zoom; // 지도 확대 수준 (경로 상세 수준 선택, null 이면 원본 경로)
+
+  public BoundingBox toBoundingBox() {
+    return new BoundingBox(minLat, minLng, maxLat, maxLng);
+  }
+
+  /**
+   * 필터 조건 (중심 좌표 제외)
+   */
+  public PostInDto toFilter() {
+    return PostInDto.builder()
+        .gender(gender)
+        .paceMinStart(paceMinStart)
+        .paceMinEnd(paceMinEnd)
+        .distanceStart(distanceStart)
+        .distanceEnd(distanceEnd)
+        .startDateTime(startDateTime)
+        .endDateTime(endDateTime)
+        .limitMemberCntStart(limitMemberCntStart)
+        .limitMemberCntEnd(limitMemberCntEnd)
+        .zoom(zoom)
+        .build();
+  }
+}
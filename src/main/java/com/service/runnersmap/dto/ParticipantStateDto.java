@@ -0,0 +1,27 @@
+package com.service.runnersmap.dto;
+
+import com.service.runnersmap.type.ParticipantStateType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모집글 상태 채널로 전달하는 참여자 상태 변경 (STOMP /sub/posts/{postId}/state)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantStateDto {
+
+  private Long postId;
+
+  private Long userId; // 상태가 바뀐 참여자 (ARRIVE 는 null)
+
+  private ParticipantStateType state;
+
+  private LocalDateTime changedDateTime;
+
+}
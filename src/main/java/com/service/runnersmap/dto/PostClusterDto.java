@@ -0,0 +1,20 @@
+package com.service.runnersmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostClusterDto {
+
+  private Double lat; // 묶음 내 모집글 중심 좌표 평균(위도)
+
+  private Double lng; // 묶음 내 모집글 중심 좌표 평균(경도)
+
+  private Long count; // 묶음 내 모집글 수
+
+}
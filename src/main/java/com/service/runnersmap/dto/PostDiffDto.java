@@ -0,0 +1,24 @@
+package com.service.runnersmap.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 화면 영역 구독자에게 전달하는 모집글 변경분 (STOMP /user/queue/map)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostDiffDto {
+
+  private List<PostDto> added; // 화면 영역에 새로 노출되는 모집글
+
+  private List<PostDto> changed; // 화면 영역 내에서 변경된 모집글
+
+  private List<Long> removed; // 화면 영역에서 사라지는 모집글 ID
+
+}
@@ -1,9 +1,14 @@
 package com.service.runnersmap.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.service.runnersmap.entity.Path;
 import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.PostRoute;
+import com.service.runnersmap.type.PathDetail;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +19,7 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostDto {
 
   private Long postId; //메이트모집글ID
@@ -41,6 +46,9 @@ public class PostDto {
 
   private List<Path> path; //경로
 
+  @JsonIgnore
+  private Map<PathDetail, List<Path>> pathLevels; // 상세 수준별 단순화 경로 (응답 시 path 로 선택)
+
   private Boolean departureYn; //출발여부
 
   private Boolean arriveYn; //도착여부
@@ -59,6 +67,31 @@ public class PostDto {
 
   private List<PostUserDto> postUsers;
 
+  /**
+   * 상세 수준에 맞는 경로 (단순화 경로가 없으면 원본)
+   */
+  public List<Path> pathOf(PathDetail detail) {
+    if (pathLevels == null || !pathLevels.containsKey(detail)) {
+      return path;
+    }
+    return pathLevels.get(detail);
+  }
+
+  /**
+   * 모집글 + 경로 (경로가 없으면 path 는 null)
+   */
+  public static PostDto fromEntity(Post post, PostRoute route) {
+    PostDto postDto = fromEntity(post);
+    if (route != null) {
+      postDto.setPath(route.getPath());
+      postDto.setPathLevels(pathLevels(route));
+    }
+    return postDto;
+  }
+
+  /**
+   * 모집글 (경로 제외)
+   */
   public static PostDto fromEntity(Post post) {
 
     if (post == null) {
@@ -77,7 +110,6 @@ public class PostDto {
         .distance(post.getDistance())
         .paceMin(post.getPaceMin())
         .paceSec(post.getPaceSec())
-        .path(post.getPath())
         .chatRoomId(post.getChatRoom() != null ? post.getChatRoom().getId() : null)
         .centerLat(post.getLat())
         .centerLng(post.getLng())
@@ -85,4 +117,15 @@ public class PostDto {
         .arriveYn(post.getArriveYn())
         .build();
   }
+
+  private static Map<PathDetail, List<Path>> pathLevels(PostRoute route) {
+    Map<PathDetail, List<Path>> levels = new EnumMap<>(PathDetail.class);
+    for (PathDetail detail : PathDetail.values()) {
+      List<Path> path = route.getPath(detail);
+      if (detail != PathDetail.FULL && path != null && !path.isEmpty()) {
+        levels.put(detail, path);
+      }
+    }
+    return levels;
+  }
 }
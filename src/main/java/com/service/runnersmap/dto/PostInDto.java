@@ -24,4 +24,6 @@ public class PostInDto {
   private Integer limitMemberCntStart;
   private Integer limitMemberCntEnd;
 
+  private Integer zoom; // 지도 확대 수준 (경로 상세 수준 선택, null 이면 원본 경로)
+
 }
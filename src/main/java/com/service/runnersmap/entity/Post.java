@@ -1,8 +1,7 @@
 package com.service.runnersmap.entity;
 
-import com.service.runnersmap.converter.PathListConverter;
+import com.service.runnersmap.util.GeoCell;
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
@@ -12,14 +11,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -31,6 +32,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @Setter
 @Builder
+@DynamicUpdate // 참여 인원(currentMemberCnt)은 SQL 로만 증감하므로 변경된 컬럼만 update
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
 
@@ -55,6 +57,12 @@ public class Post {
   @Column(nullable = false)
   private Integer limitMemberCnt; //제한인원
 
+  @Column(nullable = false)
+  private Integer currentMemberCnt; // 현재 참여인원 (PostRepository.increaseMemberCnt / decreaseMemberCnt 로만 변경)
+
+  @Column(nullable = false)
+  private Integer remainingRunnerCnt; // 완료하지 않은 참여인원 (PostRepository 의 조건부 UPDATE 로만 변경, 0 이 되면 도착 처리)
+
   @Column(nullable = true)
   private String gender; //모집성별
 
@@ -73,11 +81,6 @@ public class Post {
   @Column(nullable = false)
   private Integer paceSec;  //예상 페이스초
 
-  @Convert(converter = PathListConverter.class)
-//  @Column(columnDefinition = "json")
-  @Column(columnDefinition = "LONGTEXT", nullable = false)
-  private List<Path> path;
-
   @Column(nullable = true)
   private Boolean departureYn; //출발여부
 
@@ -90,10 +93,24 @@ public class Post {
   @Column(nullable = false)
   private Double lng;  //경도
 
+  @Column(nullable = false)
+  private Integer paceTotalSec; // 예상 페이스(초) : 페이스 범위 검색용 (paceMin * 60 + paceSec)
+
+  @Column(nullable = false)
+  private Long geoCell; // 중심 좌표의 격자 번호(GeoCell) : 지도 검색용
+
   @CreatedDate
   private LocalDateTime createdDateTime;
   @LastModifiedDate
   private LocalDateTime updatedDateTime;
 
+  // 검색용 컬럼은 원본 값으로부터 계산하여 저장
+  @PrePersist
+  @PreUpdate
+  private void updateSearchColumns() {
+    this.paceTotalSec = paceMin * 60 + paceSec;
+    this.geoCell = GeoCell.of(lat, lng);
+  }
+
 
 }
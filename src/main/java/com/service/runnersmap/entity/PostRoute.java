@@ -0,0 +1,84 @@
+package com.service.runnersmap.entity;
+
+import com.service.runnersmap.converter.PathBinaryConverter;
+import com.service.runnersmap.type.PathDetail;
+import com.service.runnersmap.util.PathSimplifier;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 모집글 경로
+ * - 경로는 크기가 커서 모집글(Post)과 분리하여 저장하고, 경로가 필요한 조회에서만 읽는다.
+ */
+@Entity
+@Table(name = "post_route")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostRoute {
+
+  @Id
+  @Column(name = "post_id")
+  private Long postId;
+
+  @MapsId
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "post_id")
+  private Post post;
+
+  // 원본 경로 (PathCodec 바이너리)
+  @Convert(converter = PathBinaryConverter.class)
+  @Column(name = "path_bin", columnDefinition = "MEDIUMBLOB", nullable = false)
+  private List<Path> path;
+
+  // 지도 표시용 단순화 경로 (PathDetail 허용 오차별, 경로 등록/수정 시 생성)
+  @Convert(converter = PathBinaryConverter.class)
+  @Column(name = "path_high", columnDefinition = "MEDIUMBLOB")
+  private List<Path> pathHigh;
+
+  @Convert(converter = PathBinaryConverter.class)
+  @Column(name = "path_medium", columnDefinition = "MEDIUMBLOB")
+  private List<Path> pathMedium;
+
+  @Convert(converter = PathBinaryConverter.class)
+  @Column(name = "path_low", columnDefinition = "MEDIUMBLOB")
+  private List<Path> pathLow;
+
+  /**
+   * 경로 변경 (상세 수준별 단순화 경로를 함께 생성)
+   */
+  public void updatePath(List<Path> path) {
+    this.path = path;
+    this.pathHigh = PathSimplifier.simplify(path, PathDetail.HIGH.getToleranceMeter());
+    this.pathMedium = PathSimplifier.simplify(path, PathDetail.MEDIUM.getToleranceMeter());
+    this.pathLow = PathSimplifier.simplify(path, PathDetail.LOW.getToleranceMeter());
+  }
+
+  /**
+   * 상세 수준별 경로 (단순화 경로가 없는 기존 모집글은 원본)
+   */
+  public List<Path> getPath(PathDetail detail) {
+    List<Path> simplified = switch (detail) {
+      case HIGH -> pathHigh;
+      case MEDIUM -> pathMedium;
+      case LOW -> pathLow;
+      default -> null;
+    };
+    return simplified != null && !simplified.isEmpty() ? simplified : path;
+  }
+}
@@ -0,0 +1,24 @@
+package com.service.runnersmap.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 러닝 기록 (참여 중인 기록 UserPost / 보관된 기록 UserPostArchive 공통)
+ * - 러닝 기록 조회, 랭킹 집계처럼 두 테이블을 함께 읽는 곳에서 사용
+ */
+public interface RunRecord {
+
+  User getUser();
+
+  Boolean getValidYn();
+
+  Double getTotalDistance();
+
+  LocalDateTime getActualStartTime();
+
+  LocalDateTime getActualEndTime();
+
+  Duration getRunningDuration();
+
+}
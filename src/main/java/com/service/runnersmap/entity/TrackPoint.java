@@ -0,0 +1,23 @@
+package com.service.runnersmap.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 러닝 중 기록된 위치 (GPS 수신 좌표)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TrackPoint {
+
+  private double lat;
+
+  private double lng;
+
+  private long time; // 수신 시각 (epoch milliseconds)
+
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,7 +30,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Setter
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-public class UserPost {
+public class UserPost implements RunRecord {
+
+  // 유효한 참여만 대상으로 하는 유니크 키 (db/007_participation_constraints.sql)
+  // 같은 모집글 중복 참여 방지 (users_id, valid_post_id)
+  public static final String UK_VALID_POST = "uk_user_post_valid_post";
+
+  // 같은 날짜 러닝 중복 참여 방지 (users_id, valid_run_date)
+  public static final String UK_VALID_RUN_DATE = "uk_user_post_valid_run_date";
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -47,6 +55,9 @@ public class UserPost {
   @Column(nullable = false)
   private Boolean validYn; // 유효여부(탈퇴, 강퇴여부)
 
+  @Column(nullable = false)
+  private Boolean abandonedYn; // 자동 종료여부 (출발 후 완료하지 않아 AbandonedRunService 가 종료 처리)
+
   private Double totalDistance; // 달린 거리
 
   private LocalDateTime actualStartTime; //(실제)출발시간
@@ -55,6 +66,14 @@ public class UserPost {
 
   private Duration runningDuration; // 소요시간
 
+  private Long runningSeconds; // 소요시간(초) : SQL 집계용 (runningDuration 과 같은 값)
+
+  @Column(nullable = false)
+  private LocalDate runDate; // 러닝 날짜 (모집글 출발일자) : 같은 날 중복 참여 방지 유니크 키용
+
+  @Column(insertable = false, updatable = false)
+  private LocalDate validRunDate; // 유효한 참여일 때만 runDate (DB 생성 컬럼, 같은 날짜 참여 여부 조회용)
+
   @Column(nullable = false)
   private Integer year;
 
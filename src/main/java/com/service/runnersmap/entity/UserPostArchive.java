@@ -0,0 +1,61 @@
+package com.service.runnersmap.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관된 러닝 참여 기록 (user_post_archive)
+ * - 도착 완료 후 보관 기간이 지난 모집글의 참여 기록을 archiveJob 이 user_post 에서 옮겨 저장한다.
+ * - 러닝 기록 조회, 랭킹 집계에서만 읽으며 수정하지 않는다.
+ */
+@Entity
+@Immutable
+@Table(name = "user_post_archive")
+@NoArgsConstructor
+@Getter
+public class UserPostArchive implements RunRecord {
+
+  @Id
+  @Column(name = "user_post_id")
+  private Long userPostId;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "users_id")
+  private User user;
+
+  @Column(name = "post_id")
+  private Long postId; // 보관된 모집글 ID (post_archive)
+
+  private Boolean validYn; // 유효여부(탈퇴, 강퇴여부)
+
+  private Boolean abandonedYn; // 자동 종료여부
+
+  private Double totalDistance; // 달린 거리
+
+  private LocalDateTime actualStartTime; //(실제)출발시간
+
+  private LocalDateTime actualEndTime; //(실제)도착시간
+
+  private Duration runningDuration; // 소요시간
+
+  private Long runningSeconds; // 소요시간(초) : SQL 집계용 (runningDuration 과 같은 값)
+
+  private Integer year;
+
+  private Integer month;
+
+  private LocalDateTime createdDateTime;
+
+  private LocalDateTime updatedDateTime;
+
+}
@@ -0,0 +1,21 @@
+package com.service.runnersmap.event;
+
+import com.service.runnersmap.type.ParticipantStateType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 러닝 참여자 상태 변경 이벤트 (참가/나가기/출발/도착)
+ * - 트랜잭션 커밋 이후 모집글 상태 채널(/sub/posts/{postId}/state)로 전달하기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ParticipantStateEvent {
+
+  private final Long postId;
+
+  private final Long userId;
+
+  private final ParticipantStateType state;
+
+}
@@ -0,0 +1,26 @@
+package com.service.runnersmap.event;
+
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.type.PostChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모집글 변경 이벤트
+ * - 트랜잭션 커밋 이후 메모리 인덱스/캐시 등에서 변경 사항을 반영하기 위해 사용
+ * - before : 변경 전 모집글 (등록인 경우 null)
+ * - after  : 변경 후 모집글 (삭제인 경우 null)
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangeEvent {
+
+  private final PostChangeType type;
+
+  private final Long postId;
+
+  private final PostDto before;
+
+  private final PostDto after;
+
+}
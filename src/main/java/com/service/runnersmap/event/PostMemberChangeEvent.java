@@ -0,0 +1,18 @@
+package com.service.runnersmap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모집글 참여자 변경 이벤트 (러닝 참가/나가기)
+ * - 트랜잭션 커밋 이후 모집글 상세 캐시 등에서 참여자 목록 변경을 반영하기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class PostMemberChangeEvent {
+
+  private final Long postId;
+
+  private final Long userId;
+
+}
@@ -0,0 +1,20 @@
+package com.service.runnersmap.event;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 러닝 도착 이벤트 (모든 참여자 완료)
+ * - 모집글의 남은 러너 수가 0 이 되어 도착 처리된 시점에 한 번만 발행된다.
+ * - 도착 이후 처리(상태 전달, 인증샷 업로드 안내 등)에서 사용
+ */
+@Getter
+@AllArgsConstructor
+public class RunArrivedEvent {
+
+  private final Long postId;
+
+  private final LocalDateTime arrivedDateTime;
+
+}
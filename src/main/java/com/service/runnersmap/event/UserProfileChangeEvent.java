@@ -0,0 +1,16 @@
+package com.service.runnersmap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 프로필 변경 이벤트 (닉네임/프로필 사진 변경, 회원탈퇴)
+ * - 트랜잭션 커밋 이후 참여자 정보를 담고 있는 캐시에서 변경을 반영하기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfileChangeEvent {
+
+  private final Long userId;
+
+}
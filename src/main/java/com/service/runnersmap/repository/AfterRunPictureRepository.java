@@ -2,8 +2,12 @@ package com.service.runnersmap.repository;
 
 import com.service.runnersmap.entity.AfterRunPicture;
 import com.service.runnersmap.entity.Post;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +15,18 @@ public interface AfterRunPictureRepository extends JpaRepository<AfterRunPicture
 
   Optional<AfterRunPicture> findByPost(Post post); // 모집글에 해당하는 인증샷 조회
 
+  // 여러 모집글의 인증샷을 한 번에 조회 (연관 엔티티 로딩 없이 필요한 컬럼만)
+  @Query("SELECT a.post.postId AS postId, a.id AS fileId, a.afterRunPictureUrl AS afterRunPictureUrl "
+      + "FROM AfterRunPicture a WHERE a.post.postId IN :postIds")
+  List<PostPicture> findAllByPostIds(@Param("postIds") Collection<Long> postIds);
+
+  interface PostPicture {
+
+    Long getPostId();
+
+    Long getFileId();
+
+    String getAfterRunPictureUrl();
+  }
+
 }
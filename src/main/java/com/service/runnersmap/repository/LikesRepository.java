@@ -3,9 +3,12 @@ package com.service.runnersmap.repository;
 import com.service.runnersmap.entity.AfterRunPicture;
 import com.service.runnersmap.entity.Likes;
 import com.service.runnersmap.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LikesRepository extends JpaRepository<Likes, Long> {
 
@@ -18,4 +21,16 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
   // 특정 인증샷에 대한 좋아요 정보
   List<Likes> findByAfterRunPicture(AfterRunPicture afterRunPicture);
 
+  // 여러 인증샷의 좋아요 누른 사용자 ID를 한 번에 조회 (사용자 엔티티 로딩 없이)
+  @Query("SELECT l.afterRunPicture.id AS pictureId, l.user.id AS userId "
+      + "FROM Likes l WHERE l.afterRunPicture.id IN :pictureIds")
+  List<PictureLike> findAllByPictureIds(@Param("pictureIds") Collection<Long> pictureIds);
+
+  interface PictureLike {
+
+    Long getPictureId();
+
+    Long getUserId();
+  }
+
 }
@@ -5,66 +5,150 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
 
+  // 사각형 영역(지도 타일) 내 지도 노출 대상 모집글 (공간 인덱스 사용)
   @Query(value =
       "SELECT * " +
           "FROM post p " +
-          // 사용자의 위치(lat, lng)를 기준으로 2km 내 존재하는 Post 조회
-          "WHERE (6371 * acos(cos(radians(:lat)) * cos(radians(p.lat)) " +
-          "* cos(radians(p.lng) - radians(:lng)) " +
-          "+ sin(radians(:lat)) * sin(radians(p.lat)))) < 2 " +
+          "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), p.location) " +
+          "AND ( (p.start_date_time >= CURRENT_TIMESTAMP AND p.arrive_yn = false) " +
+          "   OR ( p.start_date_time >= DATE_SUB(CURRENT_TIMESTAMP, INTERVAL 3 DAY) "
+          + " AND p.start_date_time <= CURRENT_TIMESTAMP "
+          + " AND p.arrive_yn = true) ) " +
+          "ORDER BY p.start_date_time ASC",
+      nativeQuery = true)
+  List<Post> findAllInBox(
+      @Param("minLat") double minLat,
+      @Param("minLng") double minLng,
+      @Param("maxLat") double maxLat,
+      @Param("maxLng") double maxLng
+  );
 
-          // 현재시각보다 미래에 러닝을 할 게시글 or 러닝 끝난 지 3일 내의 모집글(인증샷도 보여주려고)
+  // 사각형 영역 내 지도 노출 대상 모집글을 격자(cellDegree) 단위로 묶은 개수/평균 좌표 (공간 인덱스 사용)
+  @Query(value =
+      "SELECT AVG(p.lat) AS lat, AVG(p.lng) AS lng, COUNT(*) AS count " +
+          "FROM post p " +
+          "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), p.location) " +
           "AND ( (p.start_date_time >= CURRENT_TIMESTAMP AND p.arrive_yn = false) " +
           "   OR ( p.start_date_time >= DATE_SUB(CURRENT_TIMESTAMP, INTERVAL 3 DAY) "
           + " AND p.start_date_time <= CURRENT_TIMESTAMP "
           + " AND p.arrive_yn = true) ) " +
-          // 젠더가 null 이면 성별 상관 없이, 젠더 지정되면 해당 성별에 맞는 모집글만
-          "AND (:gender IS NULL OR p.gender = :gender) " +
-          // 사용자가 지정한 페이스 범위에 맞는 모집글 (null이면 페이스 제한 없이 모든 모집글 조회)
-          "AND (:paceMinStart IS NULL OR (p.pace_min + p.pace_sec / 60) >= :paceMinStart) " +
-          "AND (:paceMinEnd IS NULL OR (p.pace_min + p.pace_sec / 60) <= :paceMinEnd) " +
-          // 사용자가 지정한 거리 범위에 맞는 모집글 (null이면 거리 제한 없이 모든 모집글 조회)
-          "AND (:distanceStart IS NULL OR p.distance >= :distanceStart) " +
-          "AND (:distanceEnd IS NULL OR p.distance <= :distanceEnd) " +
-
-          // 사용자가 지정한 특정 날짜와 시간에 해당하는 모집글만 조회 (수정 예정)
-//          "AND (:startDate IS NULL OR (p.start_date_time BETWEEN :startDate AND DATE_ADD(:startDate, INTERVAL 1 DAY))) " +
-//          "AND (:startTime IS NULL OR TIME_FORMAT(p.start_date_time, '%H%i') = :startTime) " +
-
-          // 사용자가 지정한 특정 날짜/시간 사이의 모든 모집글 조회
-          "AND (:startDateTime IS NULL OR p.start_date_time >= :startDateTime) " +
-          "AND (:endDateTime IS NULL OR p.start_date_time <= :endDateTime) " +
-
-          // 인원수 필터
-          "AND (:limitMemberCntStart IS NULL OR p.limit_member_cnt >= :limitMemberCntStart)" +
-          "AND (:limitMemberCntEnd IS NULL OR p.limit_member_cnt <= :limitMemberCntEnd)" +
-          // 시작 시간 기준 오름차순 (최대 20개 제한)
-          "ORDER BY p.start_date_time ASC " +
-          "LIMIT 20",
+          "GROUP BY FLOOR(p.lat / :cellDegree), FLOOR(p.lng / :cellDegree)",
       nativeQuery = true)
-  List<Post> findAllWithin2Km(
-      @Param("lat") double lat,
-      @Param("lng") double lng,
-      @Param("gender") String gender,
-      @Param("paceMinStart") Integer paceMinStart,
-      @Param("paceMinEnd") Integer paceMinEnd,
-      @Param("distanceStart") Long distanceStart,
-      @Param("distanceEnd") Long distanceEnd,
-      @Param("startDateTime") LocalDateTime startDateTime,
-      @Param("endDateTime") LocalDateTime endDateTime,
-      @Param("limitMemberCntStart") Integer limitMemberCntStart,
-      @Param("limitMemberCntEnd") Integer limitMemberCntEnd
+  List<PostCluster> countClustersInBox(
+      @Param("minLat") double minLat,
+      @Param("minLng") double minLng,
+      @Param("maxLat") double maxLat,
+      @Param("maxLng") double maxLng,
+      @Param("cellDegree") double cellDegree
   );
 
+  // 검색 조건(PostSpecification)에 맞는 모집글 중 출발일시 순 최대 limit 개 (건수 조회 쿼리 없이)
+  default List<Post> findAllForMap(Specification<Post> spec, int limit) {
+    return findBy(spec, query -> query
+        .sortBy(Sort.by("startDateTime", "postId"))
+        .limit(limit)
+        .all());
+  }
+
+  interface PostCluster {
+
+    Double getLat();
+
+    Double getLng();
+
+    Long getCount();
+  }
+
+  // 검증용 모집글 요약 (경로/연관 엔티티 로딩 없이 필요한 컬럼만)
+  @Query("SELECT p.postId AS postId, p.admin.id AS adminId, p.startDateTime AS startDateTime, "
+      + "p.distance AS distance, p.limitMemberCnt AS limitMemberCnt, "
+      + "p.departureYn AS departureYn, p.arriveYn AS arriveYn "
+      + "FROM Post p WHERE p.postId = :postId")
+  Optional<PostSummary> findSummaryById(@Param("postId") Long postId);
+
+  interface PostSummary {
+
+    Long getPostId();
+
+    Long getAdminId();
+
+    LocalDateTime getStartDateTime();
+
+    Double getDistance();
+
+    Integer getLimitMemberCnt();
+
+    Boolean getDepartureYn();
+
+    Boolean getArriveYn();
+  }
+
+  // 참여 인원 증가 : 제한 인원 미만일 때만 증가 (행 잠금 하나로 인원 확인과 증가를 같이 처리, 0 이면 인원 마감)
+  // 남은 러너 수도 같이 증가
+  @Modifying
+  @Query("UPDATE Post p SET p.currentMemberCnt = p.currentMemberCnt + 1, "
+      + "p.remainingRunnerCnt = p.remainingRunnerCnt + 1 "
+      + "WHERE p.postId = :postId AND p.currentMemberCnt < p.limitMemberCnt")
+  int increaseMemberCnt(@Param("postId") Long postId);
+
+  // 참여 인원 감소
+  @Modifying
+  @Query("UPDATE Post p SET p.currentMemberCnt = p.currentMemberCnt - 1 "
+      + "WHERE p.postId = :postId AND p.currentMemberCnt > 0")
+  int decreaseMemberCnt(@Param("postId") Long postId);
+
+  // 남은 러너 수 감소 (참여자 완료, 완료 전 나가기)
+  @Modifying
+  @Query("UPDATE Post p SET p.remainingRunnerCnt = p.remainingRunnerCnt - 1 "
+      + "WHERE p.postId = :postId AND p.remainingRunnerCnt > 0")
+  int decreaseRemainingRunnerCnt(@Param("postId") Long postId);
+
+  // 도착 처리 : 출발 후 남은 러너가 없고 아직 도착 처리되지 않은 경우만 (동시 완료 시에도 한 요청만 1 반환)
+  @Modifying
+  @Query("UPDATE Post p SET p.arriveYn = true "
+      + "WHERE p.postId = :postId AND p.remainingRunnerCnt = 0 "
+      + "AND p.departureYn = true AND p.arriveYn = false")
+  int markArrived(@Param("postId") Long postId);
 
   boolean existsByAdminIdAndArriveYnIsFalse(Long adminId);
 
+  // 모집글 + 채팅방 (채팅방은 mappedBy OneToOne 이라 지연 로딩되지 않으므로 함께 조회하여 건별 조회 방지)
+  @Query("SELECT p FROM Post p LEFT JOIN FETCH p.chatRoom WHERE p.postId IN :postIds")
+  List<Post> findAllWithChatRoomByPostIdIn(@Param("postIds") List<Long> postIds);
+
+  // 출발일시가 특정 시점 이후인 모집글 (지도 조회 메모리 인덱스 적재용)
+  List<Post> findAllByStartDateTimeGreaterThanEqual(LocalDateTime startDateTime);
+
+  // 출발일시가 특정 시점 이후인 모집글의 변경 확인용 버전 (지도 조회 메모리 인덱스 동기화용)
+  // 도착 처리(markArrived)는 벌크 수정이라 수정일시가 바뀌지 않으므로 출발/도착 여부도 같이 비교한다.
+  @Query("SELECT p.postId AS postId, p.updatedDateTime AS updatedDateTime, "
+      + "p.departureYn AS departureYn, p.arriveYn AS arriveYn "
+      + "FROM Post p WHERE p.startDateTime >= :startDateTime")
+  List<PostVersion> findVersionsByStartDateTimeGreaterThanEqual(
+      @Param("startDateTime") LocalDateTime startDateTime);
+
+  interface PostVersion {
+
+    Long getPostId();
+
+    LocalDateTime getUpdatedDateTime();
+
+    Boolean getDepartureYn();
+
+    Boolean getArriveYn();
+  }
+
 }
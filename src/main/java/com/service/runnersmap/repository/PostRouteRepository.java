@@ -0,0 +1,10 @@
+package com.service.runnersmap.repository;
+
+import com.service.runnersmap.entity.PostRoute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostRouteRepository extends JpaRepository<PostRoute, Long> {
+
+}
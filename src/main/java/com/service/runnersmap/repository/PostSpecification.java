@@ -0,0 +1,150 @@
+package com.service.runnersmap.repository;
+
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.GeoCell;
+import com.service.runnersmap.util.GeoUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 모집글 검색 조건
+ * - 값이 없는 조건은 null 을 반환하여 쿼리에 포함되지 않도록 한다. (인덱스를 탈 수 있는 조건만 생성)
+ */
+public final class PostSpecification {
+
+  // 도착 완료된 모집글이 지도에 노출되는 기간(일) : 메모리 인덱스(LivePostIndex)도 같은 값을 사용
+  public static final int ARRIVED_VISIBLE_DAYS = 3;
+
+  private PostSpecification() {
+  }
+
+  /**
+   * 지도 검색 조건 : 중심 좌표 반경(km) 내 지도 노출 대상 + 사용자가 지정한 필터
+   */
+  public static Specification<Post> search(PostInDto inDto, LocalDateTime now, double radiusKm) {
+    // 격자 인덱스 1차 필터용 검색 영역 (반경을 감싸는 사각형)
+    BoundingBox box = GeoUtils.boundingBox(inDto.getLat(), inDto.getLng(), radiusKm);
+
+    return Specification.where(inBox(box))
+        .and(withinKm(inDto.getLat(), inDto.getLng(), radiusKm))
+        .and(visibleAt(now))
+        .and(genderEquals(inDto.getGender()))
+        .and(paceMinBetween(inDto.getPaceMinStart(), inDto.getPaceMinEnd()))
+        .and(distanceBetween(inDto.getDistanceStart(), inDto.getDistanceEnd()))
+        .and(startDateTimeBetween(inDto.getStartDateTime(), inDto.getEndDateTime()))
+        .and(limitMemberCntBetween(inDto.getLimitMemberCntStart(), inDto.getLimitMemberCntEnd()));
+  }
+
+  /**
+   * 중심 좌표가 사각형 영역 안에 있는 모집글 (geo_cell 인덱스 + 위경도 범위)
+   */
+  public static Specification<Post> inBox(BoundingBox box) {
+    return (root, query, cb) -> cb.and(
+        root.get("geoCell").in(GeoCell.covering(box)),
+        cb.between(root.get("lat"), box.getMinLat(), box.getMaxLat()),
+        cb.between(root.get("lng"), box.getMinLng(), box.getMaxLng()));
+  }
+
+  /**
+   * 중심 좌표가 기준 좌표에서 반경(km) 이내인 모집글 (GeoUtils.distanceKm 과 같은 하버사인 거리)
+   * - 거리 = 2R * asin(sqrt(a)) < radius 를 a < sin^2(radius / 2R) 로 바꾸어 역삼각함수 없이 비교
+   * - 인덱스를 탈 수 없으므로 inBox 로 후보를 줄인 뒤 적용된다.
+   */
+  public static Specification<Post> withinKm(double lat, double lng, double radiusKm) {
+    double threshold = Math.pow(Math.sin(radiusKm / (2 * GeoUtils.EARTH_RADIUS_KM)), 2);
+    double latRad = Math.toRadians(lat);
+    double lngRad = Math.toRadians(lng);
+
+    return (root, query, cb) -> {
+      Expression<Double> postLat = radians(cb, root.get("lat"));
+      Expression<Double> postLng = radians(cb, root.get("lng"));
+      Expression<Double> sinHalfDLat = sin(cb, cb.quot(cb.diff(postLat, latRad), 2.0));
+      Expression<Double> sinHalfDLng = sin(cb, cb.quot(cb.diff(postLng, lngRad), 2.0));
+
+      Expression<Double> a = cb.sum(
+          cb.prod(sinHalfDLat, sinHalfDLat),
+          cb.prod(cb.prod(cb.literal(Math.cos(latRad)), cos(cb, postLat)),
+              cb.prod(sinHalfDLng, sinHalfDLng)));
+      return cb.lessThan(a, threshold);
+    };
+  }
+
+  /**
+   * 지도 노출 대상 : 출발 예정인 모집글 or 도착 완료 후 3일 이내의 모집글
+   */
+  public static Specification<Post> visibleAt(LocalDateTime now) {
+    return (root, query, cb) -> cb.or(
+        cb.and(
+            cb.isFalse(root.get("arriveYn")),
+            cb.greaterThanOrEqualTo(root.get("startDateTime"), now)),
+        cb.and(
+            cb.isTrue(root.get("arriveYn")),
+            cb.between(root.get("startDateTime"), now.minusDays(ARRIVED_VISIBLE_DAYS), now)));
+  }
+
+  public static Specification<Post> genderEquals(String gender) {
+    if (gender == null) {
+      return null;
+    }
+    return (root, query, cb) -> cb.equal(root.get("gender"), gender);
+  }
+
+  /**
+   * 페이스 범위 (분 단위 입력을 초 단위 paceTotalSec 컬럼과 비교)
+   */
+  public static Specification<Post> paceMinBetween(Integer paceMinStart, Integer paceMinEnd) {
+    return between("paceTotalSec",
+        paceMinStart != null ? paceMinStart * 60 : null,
+        paceMinEnd != null ? paceMinEnd * 60 : null);
+  }
+
+  public static Specification<Post> distanceBetween(Long distanceStart, Long distanceEnd) {
+    return between("distance",
+        distanceStart != null ? distanceStart.doubleValue() : null,
+        distanceEnd != null ? distanceEnd.doubleValue() : null);
+  }
+
+  public static Specification<Post> startDateTimeBetween(LocalDateTime startDateTime,
+      LocalDateTime endDateTime) {
+    return between("startDateTime", startDateTime, endDateTime);
+  }
+
+  public static Specification<Post> limitMemberCntBetween(Integer limitMemberCntStart,
+      Integer limitMemberCntEnd) {
+    return between("limitMemberCnt", limitMemberCntStart, limitMemberCntEnd);
+  }
+
+  private static Expression<Double> radians(CriteriaBuilder cb, Expression<?> degree) {
+    return cb.function("radians", Double.class, degree);
+  }
+
+  private static Expression<Double> sin(CriteriaBuilder cb, Expression<?> radian) {
+    return cb.function("sin", Double.class, radian);
+  }
+
+  private static Expression<Double> cos(CriteriaBuilder cb, Expression<?> radian) {
+    return cb.function("cos", Double.class, radian);
+  }
+
+  private static <T extends Comparable<? super T>> Specification<Post> between(
+      String attribute, T from, T to) {
+    if (from == null && to == null) {
+      return null;
+    }
+    return (root, query, cb) -> {
+      Path<T> path = root.get(attribute);
+      if (from == null) {
+        return cb.lessThanOrEqualTo(path, to);
+      }
+      if (to == null) {
+        return cb.greaterThanOrEqualTo(path, from);
+      }
+      return cb.between(path, from, to);
+    };
+  }
+}
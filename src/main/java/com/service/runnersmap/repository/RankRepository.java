@@ -3,6 +3,7 @@ package com.service.runnersmap.repository;
 import com.service.runnersmap.entity.Rank;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
@@ -14,6 +15,8 @@ public interface RankRepository extends JpaRepository<Rank, Long> {
 //  List<Rank> findAllByRankPositionBetweenAndYearAndMonthOrderByRankPosition(
 //      Integer startRankPosition, Integer endRankPosition, Integer year, Integer month);
 
+  // 랭킹 응답에 사용자 정보가 포함되므로 함께 조회 (조회 결과를 여러 요청이 공유)
+  @EntityGraph(attributePaths = "user")
   Page<Rank> findAllByRankPositionBetweenAndYearAndMonthOrderByRankPosition(
       Integer startRankPosition,
       Integer endRankPosition,
@@ -0,0 +1,13 @@
+package com.service.runnersmap.repository;
+
+import com.service.runnersmap.entity.UserPostArchive;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserPostArchiveRepository extends JpaRepository<UserPostArchive, Long> {
+
+  List<UserPostArchive> findAllByValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(int year, int month);
+
+}
@@ -2,9 +2,12 @@ package com.service.runnersmap.repository;
 
 import com.service.runnersmap.entity.UserPost;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,14 +19,29 @@ public interface UserPostRepository extends JpaRepository<UserPost, Long> {
   // 사용자가 참여한 모든 모집글 리스트 조회 (유효한 모집글만)
   List<UserPost> findByUser_IdAndValidYnIsTrue(Long userId);
 
-  @Query("SELECT CASE WHEN COUNT(u) > 0 THEN TRUE ELSE FALSE END " +
-      "FROM UserPost u " +
-      "WHERE u.user.id = :userId " +
-      "AND FUNCTION('DATE', u.post.startDateTime) = :startDate " +
-      "AND u.validYn = TRUE")
-  boolean existsByUser_IdAndPost_StartDateTime_DateAndValidYnIsTrue(@Param("userId")  Long userId, @Param("startDate") LocalDate startDate);
-  // 유저별 러닝리스트
-  List<UserPost> findAllByUser_IdAndValidYnIsTrueAndActualEndTimeIsNull(Long userId);
+  // 같은 날짜 러닝 참여 여부 / 오늘 이후 러닝 날짜 (RunDateCalendar)
+  // 유효한 참여의 러닝 날짜(valid_run_date) 로 조회하여 (users_id, valid_run_date) 유니크 키만 사용 (모집글 조인 없음)
+  boolean existsByUser_IdAndValidRunDate(Long userId, LocalDate validRunDate);
+
+  @Query("SELECT u.validRunDate FROM UserPost u "
+      + "WHERE u.user.id = :userId AND u.validRunDate >= :fromDate")
+  List<LocalDate> findValidRunDates(@Param("userId") Long userId, @Param("fromDate") LocalDate fromDate);
+
+  // 유저별 러닝리스트 : 참여 중인(러닝 종료 전) 모집글 + 경로를 한 번에 조회 ([Post, PostRoute], 경로가 없으면 null)
+  // 출발일시, 모집글 ID 순으로 정렬하고 마지막으로 받은 (출발일시, 모집글 ID) 다음부터 limit 건 조회 (keyset 페이지)
+  @Query("SELECT p, r FROM UserPost u "
+      + "JOIN u.post p "
+      + "LEFT JOIN FETCH p.chatRoom "
+      + "LEFT JOIN PostRoute r ON r.postId = p.postId "
+      + "WHERE u.user.id = :userId AND u.validYn = TRUE AND u.actualEndTime IS NULL "
+      + "AND (:lastStartDateTime IS NULL "
+      + "  OR p.startDateTime > :lastStartDateTime "
+      + "  OR (p.startDateTime = :lastStartDateTime AND p.postId > :lastPostId)) "
+      + "ORDER BY p.startDateTime, p.postId")
+  List<Object[]> findParticipatePosts(@Param("userId") Long userId,
+      @Param("lastStartDateTime") LocalDateTime lastStartDateTime,
+      @Param("lastPostId") Long lastPostId,
+      Limit limit);
 
   boolean existsByUser_IdAndPost_PostIdAndValidYnIsTrue(Long userId, Long postId);
 
@@ -35,14 +53,54 @@ public interface UserPostRepository extends JpaRepository<UserPost, Long> {
   @Transactional
   int deleteByPost_PostId(Long postId);
 
-  boolean existsByPost_PostIdAndValidYnIsTrueAndActualEndTimeIsNull(Long postId);
+  // 모집글 출발일자 변경 시 참여자의 러닝 날짜 변경
+  @Modifying
+  @Query("UPDATE UserPost u SET u.runDate = :runDate WHERE u.post.postId = :postId")
+  int updateRunDateByPostId(@Param("postId") Long postId, @Param("runDate") LocalDate runDate);
+
+  // 러닝기록 조회용 집계 (참여 기록 + 보관된 기록)
+  // 해당 월에 완료한 유효 기록은 도착일자별로, 나머지 기록은 runDay 가 NULL 인 한 행으로 묶음
+  // - allDistance   : 유효 기록의 누적 거리 (전체 행 합계가 ALL)
+  // - monthDistance : 해당 월 기록의 거리 (전체 행 합계가 MONTH)
+  // - distance, runningSeconds : 도착일자별 거리, 소요시간(초) (DAY)
+  @Query(value =
+      "SELECT DAY(t.run_day) AS dayOfMonth, " +
+          "SUM(CASE WHEN t.valid_yn = TRUE THEN t.total_distance END) AS allDistance, " +
+          "SUM(CASE WHEN t.year = :year AND t.month = :month THEN t.total_distance END) AS monthDistance, " +
+          "SUM(t.total_distance) AS distance, " +
+          "SUM(t.running_seconds) AS runningSeconds " +
+          "FROM ( " +
+          "  SELECT up.valid_yn, up.total_distance, up.year, up.month, up.running_seconds, " +
+          "    CASE WHEN up.valid_yn = TRUE AND up.year = :year AND up.month = :month " +
+          "      AND up.actual_end_time IS NOT NULL THEN DATE(up.actual_end_time) END AS run_day " +
+          "  FROM user_post up WHERE up.users_id = :userId " +
+          "  UNION ALL " +
+          "  SELECT ua.valid_yn, ua.total_distance, ua.year, ua.month, ua.running_seconds, " +
+          "    CASE WHEN ua.valid_yn = TRUE AND ua.year = :year AND ua.month = :month " +
+          "      AND ua.actual_end_time IS NOT NULL THEN DATE(ua.actual_end_time) END AS run_day " +
+          "  FROM user_post_archive ua WHERE ua.users_id = :userId " +
+          ") t " +
+          "GROUP BY t.run_day " +
+          "ORDER BY t.run_day",
+      nativeQuery = true)
+  List<RunningStat> sumRunningStats(
+      @Param("userId") Long userId,
+      @Param("year") int year,
+      @Param("month") int month
+  );
+
+  interface RunningStat {
+
+    Number getDayOfMonth();
+
+    Number getAllDistance();
 
-  @Query("SELECT SUM(up.totalDistance) FROM UserPost up WHERE up.user.Id = :userId AND up.validYn = true")
-  Double findTotalDistanceByUserId(@Param("userId") Long userId);
+    Number getMonthDistance();
 
-  List<UserPost> findAllByUserIdAndYearAndMonth(Long userId, int year, int month);
+    Number getDistance();
 
-  List<UserPost> findAllByUser_IdAndValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(Long userId, int year, int month);
+    Number getRunningSeconds();
+  }
 
   List<UserPost> findAllByValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(int year, int month);
 
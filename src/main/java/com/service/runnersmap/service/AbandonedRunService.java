@@ -0,0 +1,85 @@
+package com.service.runnersmap.service;
+
+import com.service.runnersmap.component.RunTrackStore;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.RunArrivedEvent;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.type.PostChangeType;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 출발 후 완료되지 않은 러닝 자동 종료 (JobScheduler 에서 호출)
+ * - 참여자 중 완료 버튼을 누르지 않은 사람이 있으면 모집글이 도착 처리되지 않아 인증샷 등록이 막히므로,
+ *   출발일시가 지난 지 일정 시간이 넘은 모집글은 도착 처리하고 미완료 참여자는 자동 종료(abandoned_yn)로 표시한다.
+ * - 대상 조회는 idx_post_open_run (db/011_abandoned_run_sweep.sql) 를 사용하고, batchSize 건씩 나누어 일괄 UPDATE 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AbandonedRunService {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final PostRepository postRepository;
+
+  private final RunTrackStore runTrackStore;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 출발일시가 departedBefore 이전인 미도착 모집글을 최대 batchSize 건 종료
+   * - 다른 서버에서 같은 작업이 실행 중이면 잠긴 모집글은 건너뛴다. (SKIP LOCKED)
+   *
+   * @return 종료한 모집글 수 (batchSize 보다 작으면 남은 대상 없음)
+   */
+  @Transactional
+  public int closeAbandonedRuns(LocalDateTime departedBefore, int batchSize) {
+    List<Long> postIds = jdbcTemplate.queryForList(
+        "SELECT post_id FROM post WHERE arrive_yn = false AND departure_yn = true "
+            + "AND start_date_time < ? ORDER BY start_date_time LIMIT ? FOR UPDATE SKIP LOCKED",
+        Long.class, departedBefore, batchSize);
+    if (postIds.isEmpty()) {
+      return 0;
+    }
+
+    String placeholders = String.join(",", Collections.nCopies(postIds.size(), "?"));
+    Object[] args = postIds.toArray();
+
+    // 미완료 참여자 (러닝 중 위치 기록 대상에서 제외)
+    List<Long[]> runners = jdbcTemplate.query(
+        "SELECT post_id, users_id, user_post_id FROM user_post "
+            + "WHERE post_id IN (" + placeholders + ") AND valid_yn = true AND actual_end_time IS NULL",
+        (rs, rowNum) -> new Long[]{rs.getLong("post_id"), rs.getLong("users_id"),
+            rs.getLong("user_post_id")}, args);
+
+    jdbcTemplate.update("UPDATE user_post SET abandoned_yn = true "
+        + "WHERE post_id IN (" + placeholders + ") AND valid_yn = true AND actual_end_time IS NULL", args);
+    jdbcTemplate.update("UPDATE post SET arrive_yn = true, remaining_runner_cnt = 0 "
+        + "WHERE post_id IN (" + placeholders + ")", args);
+
+    runners.forEach(runner -> runTrackStore.finishRun(runner[0], runner[1], runner[2]));
+
+    // 캐시 / 지도 인덱스 / 상태 채널 반영 (커밋 이후 처리, 이벤트 내용은 한 번의 조회로 생성)
+    LocalDateTime now = LocalDateTime.now();
+    postRepository.findAllWithChatRoomByPostIdIn(postIds).forEach(post -> {
+      PostDto after = PostDto.fromEntity(post).toBuilder().arriveYn(true).build();
+      PostDto before = after.toBuilder().arriveYn(false).build();
+      eventPublisher.publishEvent(
+          new PostChangeEvent(PostChangeType.COMPLETE, post.getPostId(), before, after));
+      eventPublisher.publishEvent(new RunArrivedEvent(post.getPostId(), now));
+    });
+
+    log.info("[RUNNERS LOG] 미완료 러닝 자동 종료 : 모집글 {} 건, 미완료 참여자 {} 명",
+        postIds.size(), runners.size());
+    return postIds.size();
+  }
+}
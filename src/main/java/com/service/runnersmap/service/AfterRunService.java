@@ -3,12 +3,12 @@ package com.service.runnersmap.service;
 import com.service.runnersmap.dto.AfterRunPictureDto;
 import com.service.runnersmap.entity.AfterRunPicture;
 import com.service.runnersmap.entity.Likes;
-import com.service.runnersmap.entity.Post;
 import com.service.runnersmap.entity.User;
 import com.service.runnersmap.exception.RunnersMapException;
 import com.service.runnersmap.repository.AfterRunPictureRepository;
 import com.service.runnersmap.repository.LikesRepository;
 import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.PostRepository.PostSummary;
 import com.service.runnersmap.repository.UserRepository;
 import com.service.runnersmap.type.ErrorCode;
 import jakarta.persistence.OptimisticLockException;
@@ -41,7 +41,7 @@ public class AfterRunService {
     log.info("인증샷 업로드 시도 요청");
 
     // 모집글 유무 확인
-    Post post = postRepository.findById(postId)
+    PostSummary post = postRepository.findSummaryById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
 
     // 그룹장 권한 체크
@@ -54,8 +54,8 @@ public class AfterRunService {
     log.info("S3에 인증샷 업로드 완료: {}", afterRunPictureUrl);
 
     AfterRunPicture afterRunPicture = AfterRunPicture.builder()
-        .user(post.getAdmin())
-        .post(post)
+        .user(userRepository.getReferenceById(post.getAdminId()))
+        .post(postRepository.getReferenceById(postId))
         .afterRunPictureUrl(afterRunPictureUrl)
         .createdAt(LocalDateTime.now())
         .likeCount(0)
@@ -75,10 +75,11 @@ public class AfterRunService {
   @Transactional(readOnly = true)
   public AfterRunPictureDto viewAfterRunPicture(Long postId) {
     log.info("인증샷 조회 요청 : 모집글Id = {}", postId);
-    Post post = postRepository.findById(postId)
+    postRepository.findSummaryById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
 
-    AfterRunPicture afterRunPicture = afterRunPictureRepository.findByPost(post)
+    AfterRunPicture afterRunPicture = afterRunPictureRepository.findByPost(
+            postRepository.getReferenceById(postId))
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_FILE_DATA));
 
     int likeCount = likesRepository.countByAfterRunPicture(afterRunPicture);
@@ -90,15 +91,15 @@ public class AfterRunService {
   }
 
   // 그룹장 권한 체크
-  private void validateAdminAccess(Post post, Long userId) {
-    if (!post.getAdmin().getId().equals(userId)) {
+  private void validateAdminAccess(PostSummary post, Long userId) {
+    if (!post.getAdminId().equals(userId)) {
       log.error("그룹장만 인증샷을 업로드할 수 있습니다.");
       throw new RunnersMapException(ErrorCode.OWNER_ONLY_ACCESS_POST_DATA);
     }
   }
 
   // 도착 여부 확인
-  private void validateArrivedAYn(Post post) {
+  private void validateArrivedAYn(PostSummary post) {
     if (!post.getArriveYn()) {
       log.error("러닝이 아직 종료되지 않았습니다.");
       throw new RunnersMapException(ErrorCode.NOT_FINISHED_RUNNING);
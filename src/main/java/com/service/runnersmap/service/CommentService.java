@@ -151,9 +151,11 @@ public class CommentService {
     }
   }
 
+  // 모집글 존재 여부만 확인하고 연관관계 설정용 참조 반환 (모집글 전체를 로딩하지 않음)
   private Post validatePost(Long postId) {
-    return postRepository.findById(postId)
+    postRepository.findSummaryById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
+    return postRepository.getReferenceById(postId);
   }
 
   private User validateUser(Long userId) {
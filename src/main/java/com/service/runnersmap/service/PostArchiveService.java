@@ -0,0 +1,101 @@
+package com.service.runnersmap.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 완료된 러닝 모집글 보관 (archiveJob 에서 호출)
+ * - 도착 완료 후 보관 기간이 지난 모집글과 연관 데이터(참여 기록, 위치 기록, 경로, 인증샷/좋아요, 댓글, 채팅)를
+ *   *_archive 테이블로 옮기고 기존 테이블에서 삭제하여 지도 검색 대상 테이블과 인덱스를 작게 유지한다.
+ * - 보관 테이블은 db/006_archive_tables.sql 에서 생성하며, 보관 테이블에 있는 컬럼만 옮긴다. (생성 컬럼 제외)
+ * - 테이블마다 보관한 행 수와 삭제한 행 수가 다르면(보관 테이블에 이미 같은 키가 있거나, 그 사이 행이 추가됨)
+ *   예외를 던져 전체를 롤백한다. 옮기지 못한 행을 삭제하지 않기 위함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostArchiveService {
+
+  // 옮길 테이블과 모집글 조건 (부모 테이블 순서, 삭제는 역순)
+  private static final List<String[]> TABLES = List.of(
+      new String[]{"post", "post_id IN (%s)"},
+      new String[]{"post_route", "post_id IN (%s)"},
+      new String[]{"user_post", "post_id IN (%s)"},
+      new String[]{"run_track", "user_post_id IN "
+          + "(SELECT user_post_id FROM user_post WHERE post_id IN (%s))"},
+      new String[]{"after_run_picture", "post_id IN (%s)"},
+      new String[]{"likes", "after_run_picture_id IN "
+          + "(SELECT id FROM after_run_picture WHERE post_id IN (%s))"},
+      new String[]{"comment", "post_id IN (%s)"},
+      new String[]{"chat_room", "post_id IN (%s)"},
+      new String[]{"chat_message", "chat_room_id IN "
+          + "(SELECT id FROM chat_room WHERE post_id IN (%s))"});
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 보관 테이블명 -> 옮길 컬럼 목록
+  private final Map<String, String> columns = new ConcurrentHashMap<>();
+
+  /**
+   * 출발일시가 before 이전인 도착 완료 모집글을 최대 batchSize 건 보관
+   *
+   * @return 보관한 모집글 수 (batchSize 보다 작으면 남은 대상 없음)
+   */
+  @Transactional
+  public int archiveArrivedPosts(LocalDateTime before, int batchSize) {
+    List<Long> postIds = jdbcTemplate.queryForList(
+        "SELECT post_id FROM post WHERE arrive_yn = true AND start_date_time < ? "
+            + "ORDER BY start_date_time LIMIT ? FOR UPDATE",
+        Long.class, before, batchSize);
+    if (postIds.isEmpty()) {
+      return 0;
+    }
+
+    String placeholders = String.join(",", Collections.nCopies(postIds.size(), "?"));
+    Object[] args = postIds.toArray();
+
+    int[] archived = new int[TABLES.size()];
+    for (int i = 0; i < TABLES.size(); i++) {
+      String[] table = TABLES.get(i);
+      String columnList = columnsOf(table[0] + "_archive");
+      archived[i] = jdbcTemplate.update("INSERT INTO " + table[0] + "_archive (" + columnList + ") "
+          + "SELECT " + columnList + " FROM " + table[0] + " WHERE "
+          + String.format(table[1], placeholders), args);
+    }
+    for (int i = TABLES.size() - 1; i >= 0; i--) {
+      String[] table = TABLES.get(i);
+      int deleted = jdbcTemplate.update("DELETE FROM " + table[0] + " WHERE "
+          + String.format(table[1], placeholders), args);
+      if (deleted != archived[i]) {
+        throw new IllegalStateException(String.format(
+            "%s 보관 건수(%d)와 삭제 건수(%d)가 다릅니다.", table[0], archived[i], deleted));
+      }
+    }
+
+    log.info("[RUNNERS LOG] 모집글 보관 : {} 건", postIds.size());
+    return postIds.size();
+  }
+
+  // 보관 테이블의 컬럼 목록 (생성 컬럼 제외)
+  // extra 로 거르면 DEFAULT CURRENT_TIMESTAMP 컬럼(DEFAULT_GENERATED)까지 빠지므로 generation_expression 으로 구분
+  private String columnsOf(String archiveTable) {
+    return columns.computeIfAbsent(archiveTable, table -> jdbcTemplate.queryForList(
+            "SELECT column_name FROM information_schema.columns "
+                + "WHERE table_schema = SCHEMA() AND table_name = ? "
+                + "AND (generation_expression IS NULL OR generation_expression = '') "
+                + "ORDER BY ordinal_position",
+            String.class, table)
+        .stream()
+        .map(column -> "`" + column + "`")
+        .collect(Collectors.joining(", ")));
+  }
+}
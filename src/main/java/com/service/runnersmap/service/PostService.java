@@ -1,27 +1,50 @@
 package com.service.runnersmap.service;
 
+import com.service.runnersmap.component.LivePostIndex;
+import com.service.runnersmap.component.MapSearchCache;
+import com.service.runnersmap.component.PostDetailCache;
+import com.service.runnersmap.component.PostTileCache;
+import com.service.runnersmap.component.RunDateCalendar;
 import com.service.runnersmap.dto.AfterRunPictureDto;
+import com.service.runnersmap.dto.MapTileDto;
+import com.service.runnersmap.dto.PostClusterDto;
 import com.service.runnersmap.dto.PostDto;
 import com.service.runnersmap.dto.PostInDto;
 import com.service.runnersmap.dto.PostUserDto;
-import com.service.runnersmap.entity.AfterRunPicture;
 import com.service.runnersmap.entity.ChatRoom;
 import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.PostRoute;
 import com.service.runnersmap.entity.User;
 import com.service.runnersmap.entity.UserPost;
+import com.service.runnersmap.event.PostChangeEvent;
 import com.service.runnersmap.exception.RunnersMapException;
 import com.service.runnersmap.repository.AfterRunPictureRepository;
+import com.service.runnersmap.repository.AfterRunPictureRepository.PostPicture;
 import com.service.runnersmap.repository.LikesRepository;
+import com.service.runnersmap.repository.LikesRepository.PictureLike;
 import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.PostRouteRepository;
+import com.service.runnersmap.repository.PostSpecification;
 import com.service.runnersmap.repository.UserPostRepository;
 import com.service.runnersmap.repository.UserRepository;
 import com.service.runnersmap.type.ErrorCode;
+import com.service.runnersmap.type.PathDetail;
+import com.service.runnersmap.type.PostChangeType;
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.SingleFlight;
+import com.service.runnersmap.util.TileUtils;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,61 +54,155 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostService {
 
   private final PostRepository postRepository;
+  private final PostRouteRepository postRouteRepository;
   private final UserPostRepository userPostRepository;
   private final UserRepository userRepository;
   private final AfterRunPictureRepository afterRunPictureRepository;
   private final LikesRepository likesRepository;
   private final ChatService chatService;
+  private final LivePostIndex livePostIndex;
+  private final PostTileCache postTileCache;
+  private final PostDetailCache postDetailCache;
+  private final MapSearchCache mapSearchCache;
+  private final RunDateCalendar runDateCalendar;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 묶음(cluster) DB 집계 요청 병합 ("영역/확대 수준" -> 집계 결과)
+  private final SingleFlight<String, List<PostClusterDto>> clusterFlight = new SingleFlight<>();
+
+  // 지도 조회 반경(km)
+  public static final double SEARCH_RADIUS_KM = 2.0;
+
+  // 지도 조회 최대 건수
+  private static final int MAX_SEARCH_COUNT = 20;
+
+  // 경로 근처 검색 최대 반경(m)
+  private static final double MAX_ROUTE_SEARCH_RADIUS_METER = 2000;
+
+  // 묶음(cluster) 조회 격자 크기 : 지도 타일 한 변을 4등분 (256px 타일 기준 64px)
+  private static final int CLUSTER_CELLS_PER_TILE = 4;
+
+  // 묶음 조회를 지원하는 최소 확대 수준
+  private static final int MIN_CLUSTER_ZOOM = 3;
 
 
   /**
    * 모집글 조회 (다양한 필터 적용)
    * 러닝이 완료된 모집글은 인증샷 정보로 반환
+   * - 중심 좌표를 격자 단위로 맞추어 같은 격자/필터의 조회 결과를 캐시(MapSearchCache)에서 공유
    */
   @Transactional(readOnly = true)
   public List<PostDto> searchPost(PostInDto inDto) throws Exception {
 
-    // 검색 조건에 맞는 모집글 리스트 가져오기
-    List<Post> posts = postRepository.findAllWithin2Km(
-        inDto.getLat(),
-        inDto.getLng(),
-        inDto.getGender(),
-        inDto.getPaceMinStart(),
-        inDto.getPaceMinEnd(),
-        inDto.getDistanceStart(),
-        inDto.getDistanceEnd(),
-        inDto.getStartDateTime(),
-        inDto.getEndDateTime(),
-        inDto.getLimitMemberCntStart(),
-        inDto.getLimitMemberCntEnd()
-    );
+    return mapSearchCache.get(inDto, snapped -> {
+      // 메모리 인덱스에서 우선 조회 (인덱스 적재 전이면 DB 조회)
+      List<PostDto> posts = livePostIndex.isReady()
+          ? livePostIndex.search(snapped, SEARCH_RADIUS_KM, MAX_SEARCH_COUNT, LocalDateTime.now())
+          : searchPostFromDb(snapped);
+
+      return withAfterRunPicture(posts, PathDetail.fromZoom(snapped.getZoom()));
+    });
+  }
+
+
+  /**
+   * 지도 타일(z/x/y) 내 모집글 조회
+   * - 타일 단위로 캐시되며 캐시 적중 시 DB 를 사용하지 않도록 트랜잭션 없이 수행
+   */
+  public MapTileDto searchTilePost(int z, int x, int y) throws Exception {
+    if (!PostTileCache.isSupportedZoom(z) || !TileUtils.isValid(z, x, y)) {
+      throw new RunnersMapException(ErrorCode.INVALID_MAP_TILE);
+    }
+
+    return postTileCache.get(z, x, y, () -> {
+      BoundingBox box = TileUtils.tileBounds(z, x, y);
+      List<PostDto> posts = livePostIndex.isReady()
+          ? livePostIndex.searchBox(box, LocalDateTime.now())
+          : withRoute(postRepository.findAllInBox(
+              box.getMinLat(), box.getMinLng(), box.getMaxLat(), box.getMaxLng()));
+      return withAfterRunPicture(posts, PathDetail.fromZoom(z));
+    });
+  }
+
+
+  /**
+   * 경로가 좌표 근처(반경 m)를 지나는 모집글 조회
+   * - 출발 지점이 멀더라도 경로가 가까이 지나가는 러닝을 찾는다.
+   * - 경로 선분 인덱스는 메모리 인덱스에만 있으므로 인덱스 적재 전에는 조회 불가
+   */
+  @Transactional(readOnly = true)
+  public List<PostDto> searchRoutePost(double lat, double lng, double radiusMeter, Integer zoom)
+      throws Exception {
+    if (radiusMeter <= 0 || radiusMeter > MAX_ROUTE_SEARCH_RADIUS_METER) {
+      throw new RunnersMapException(ErrorCode.INVALID_ROUTE_SEARCH_RADIUS);
+    }
+    if (!livePostIndex.isReady()) {
+      throw new RunnersMapException(ErrorCode.ROUTE_SEARCH_NOT_READY);
+    }
+
+    List<PostDto> posts = livePostIndex.searchNearRoute(
+        lat, lng, radiusMeter, MAX_SEARCH_COUNT, LocalDateTime.now());
+    return withAfterRunPicture(posts, PathDetail.fromZoom(zoom));
+  }
+
+
+  /**
+   * 지도 영역 내 모집글 묶음(cluster) 조회
+   * - 축소된 지도에서는 모집글 상세 대신 격자별 개수와 평균 좌표만 반환
+   * - 인증샷 조회 없이 집계하므로 인증샷이 없는 완료 모집글도 개수에 포함된다.
+   */
+  @Transactional(readOnly = true)
+  public List<PostClusterDto> searchPostCluster(
+      double minLat, double minLng, double maxLat, double maxLng, int zoom) throws Exception {
+    if (zoom < MIN_CLUSTER_ZOOM || zoom > PostTileCache.MAX_ZOOM) {
+      throw new RunnersMapException(ErrorCode.INVALID_MAP_TILE);
+    }
+    if (minLat > maxLat || minLng > maxLng) {
+      throw new RunnersMapException(ErrorCode.INVALID_MAP_AREA);
+    }
+
+    BoundingBox box = new BoundingBox(minLat, minLng, maxLat, maxLng);
+    double cellDegree = 360.0 / (1 << zoom) / CLUSTER_CELLS_PER_TILE;
+
+    if (livePostIndex.isReady()) {
+      return livePostIndex.cluster(box, cellDegree, LocalDateTime.now());
+    }
+
+    // DB 집계는 동시에 들어온 같은 영역/확대 수준의 요청을 한 번만 수행
+    String key = minLat + "/" + minLng + "/" + maxLat + "/" + maxLng + "/" + zoom;
+    return clusterFlight.execute(key, () ->
+        postRepository.countClustersInBox(minLat, minLng, maxLat, maxLng, cellDegree)
+            .stream()
+            .map(cluster -> PostClusterDto.builder()
+                .lat(cluster.getLat())
+                .lng(cluster.getLng())
+                .count(cluster.getCount())
+                .build())
+            .toList());
+  }
+
+
+  /**
+   * 완료된 모집글에 인증샷 정보를 담아 반환 (인증샷이 없는 완료 모집글은 제외)
+   * - 조회 결과 전체의 인증샷/좋아요를 한 번에 조회하여 모집글 수만큼 쿼리가 늘지 않도록 한다.
+   * - 경로는 지도 확대 수준에 맞게 단순화된 경로로 반환
+   */
+  private List<PostDto> withAfterRunPicture(List<PostDto> posts, PathDetail pathDetail) {
+    // 완료된 postId 기준으로 인증샷 일괄 조회
+    Map<Long, AfterRunPictureDto> pictures = findAfterRunPictures(posts.stream()
+        .filter(PostDto::getArriveYn)
+        .map(PostDto::getPostId)
+        .toList());
 
     return posts.stream()
         .map(post -> {
-              // 인증샷이 있는 경우 인증샷 정보를 조회하여 Dto에 담음
-              AfterRunPictureDto afterRunPictureDto = new AfterRunPictureDto();
-              if (post.getArriveYn()) {
-                // 완료된 postId 기준으로 인증샷 조회
-                afterRunPictureDto = viewAfterRunPictureForPost(post);
-
-              }
-              return PostDto.builder()
-                  .postId(post.getPostId())
-                  .adminId(post.getAdmin().getId())
-                  .title(post.getTitle())
-                  .content(post.getContent())
-                  .limitMemberCnt(post.getLimitMemberCnt())
-                  .gender(post.getGender())
-                  .startDateTime(post.getStartDateTime())
-                  .startPosition(post.getStartPosition())
-                  .distance(post.getDistance())
-                  .paceMin(post.getPaceMin())
-                  .paceSec(post.getPaceSec())
-                  .path(post.getPath())
-                  .centerLat(post.getLat())
-                  .centerLng(post.getLng())
-                  .departureYn(post.getDepartureYn())
-                  .arriveYn(post.getArriveYn())
+              // 인증샷이 있는 경우 인증샷 정보를 Dto에 담음
+              AfterRunPictureDto afterRunPictureDto =
+                  pictures.getOrDefault(post.getPostId(), new AfterRunPictureDto());
+
+              // 인덱스 내부 객체는 변경하지 않고 복사하여 반환
+              return post.toBuilder()
+                  .path(post.pathOf(pathDetail))
                   .afterRunPictureUrl(afterRunPictureDto.getAfterRunPictureUrl())
                   .likeCount(afterRunPictureDto.getLikeCount())
                   .fileId(afterRunPictureDto.getFileId())
@@ -95,52 +212,94 @@ public class PostService {
         ).filter(post -> !post.getArriveYn() || (post.getArriveYn()
             && post.getAfterRunPictureUrl() != null))
         .collect(Collectors.toList());
+  }
+
+
+  /**
+   * 모집글 ID 목록에 해당하는 인증샷 정보 조회 (postId -> 인증샷)
+   * - 인증샷 1회, 좋아요 1회 쿼리로 조회
+   */
+  private Map<Long, AfterRunPictureDto> findAfterRunPictures(List<Long> postIds) {
+    if (postIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
 
+    List<PostPicture> pictures = afterRunPictureRepository.findAllByPostIds(postIds);
+    if (pictures.isEmpty()) {
+      return Collections.emptyMap();
+    }
 
+    // 인증샷 ID -> 좋아요 누른 사용자 ID 리스트
+    Map<Long, List<Long>> likeUserIdsByPicture = likesRepository.findAllByPictureIds(
+            pictures.stream().map(PostPicture::getFileId).toList())
+        .stream()
+        .collect(Collectors.groupingBy(PictureLike::getPictureId,
+            Collectors.mapping(PictureLike::getUserId, Collectors.toList())));
+
+    return pictures.stream()
+        .collect(Collectors.toMap(PostPicture::getPostId, picture -> {
+          List<Long> likeUserIds =
+              likeUserIdsByPicture.getOrDefault(picture.getFileId(), Collections.emptyList());
+          return AfterRunPictureDto.builder()
+              .afterRunPictureUrl(picture.getAfterRunPictureUrl())
+              .likeCount(likeUserIds.size())
+              .likeUserIds(likeUserIds)
+              .fileId(picture.getFileId())
+              .build();
+        }));
   }
 
 
   /**
-   * 인증샷 조회 메서드 (모집글 조회 메서드 내에서 사용됨)
+   * DB 에서 검색 조건에 맞는 모집글 조회 (메모리 인덱스 사용 불가시)
+   * - 사용자가 지정한 필터만 조건에 포함하여 (geo_cell, arrive_yn, start_date_time) 인덱스로 조회
+   * - 반경 조건과 건수 제한까지 SQL 에서 처리하여 최대 20건만 읽는다.
    */
-  public AfterRunPictureDto viewAfterRunPictureForPost(Post post) {
-    log.info("인증샷 조회 요청 : 모집글Id = {}", post.getPostId());
-
-    Optional<AfterRunPicture> afterRunPicture = afterRunPictureRepository.findByPost(post);
-    if (afterRunPicture.isPresent()) {
-      AfterRunPicture picture = afterRunPicture.get();
-      int likeCount = likesRepository.countByAfterRunPicture(afterRunPicture.get());
-
-      // 인증샷에 좋아요 누른 사용자 ID 리스트 조회
-      List<Long> likeUserIds = likesRepository.findByAfterRunPicture(picture)
-          .stream()
-          .map(likes -> likes.getUser().getId())
-          .toList();
-
-      return AfterRunPictureDto.builder()
-          .afterRunPictureUrl(picture.getAfterRunPictureUrl())
-          .likeCount(likeCount)
-          .likeUserIds(likeUserIds)
-          .fileId(picture.getId())
-          .build();
-    } else {
-      return AfterRunPictureDto.builder().build();
-    }
+  private List<PostDto> searchPostFromDb(PostInDto inDto) {
+    Specification<Post> spec =
+        PostSpecification.search(inDto, LocalDateTime.now(), SEARCH_RADIUS_KM);
+
+    // 출발일시 오름차순, 최대 20개
+    return withRoute(postRepository.findAllForMap(spec, MAX_SEARCH_COUNT));
+  }
+
+
+  /**
+   * 모집글 목록의 경로를 한 번에 조회하여 Dto 로 변환
+   */
+  private List<PostDto> withRoute(List<Post> posts) {
+    Map<Long, PostRoute> routes = postRouteRepository.findAllById(
+            posts.stream().map(Post::getPostId).toList())
+        .stream()
+        .collect(Collectors.toMap(PostRoute::getPostId, route -> route));
+
+    return posts.stream()
+        .map(post -> PostDto.fromEntity(post, routes.get(post.getPostId())))
+        .collect(Collectors.toList());
   }
 
 
   /**
    * 특정 모집글의 상세 정보를 조회하는 메서드
    * 모집글 상세정보 & 함께 참가한 사용자들의 정보
+   * - 조립된 상세 정보는 PostDetailCache 에 보관하고, 경로만 상세 수준에 맞게 선택하여 반환
    */
   @Transactional(readOnly = true)
-  public PostDto searchDetailPost(Long postId) throws Exception {
+  public PostDto searchDetailPost(Long postId, PathDetail pathDetail) throws Exception {
+    PostDto cached = postDetailCache.get(postId, this::loadDetailPost);
+    return cached.toBuilder()
+        .path(cached.pathOf(pathDetail))
+        .build();
+  }
+
+  // 모집글 + 경로 + 참여자 목록 조회 (캐시 적재용)
+  private PostDto loadDetailPost(Long postId) {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
 
     // 모집글에 참가한 유효한 사용자 조회
     List<UserPost> userPosts = userPostRepository.findAllByPost_PostIdAndValidYnIsTrue(postId);
-    PostDto postDto = PostDto.fromEntity(post);
+    PostDto postDto = PostDto.fromEntity(post, postRouteRepository.findById(postId).orElse(null));
 
     // 사용자 정보를 DTO에 담아 반환
     List<PostUserDto> postUserDtoList = userPosts.stream()
@@ -151,7 +310,7 @@ public class PostService {
           postUserDto.setProfileImageUrl(userPost.getUser().getProfileImageUrl());
           return postUserDto;
         })
-        .collect(Collectors.toList());
+        .toList();
 
     postDto.setPostUsers(postUserDtoList);
     return postDto;
@@ -168,11 +327,9 @@ public class PostService {
     User user = userRepository.findById(postDto.getAdminId())
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_USER));
 
+    // 같은 날짜에 참여 중인 러닝이 있으면 등록 불가 (동시 요청은 유니크 키 uk_user_post_valid_run_date 에서 막힘)
     LocalDate newPostDate = postDto.getStartDateTime().toLocalDate();
-    boolean hasConflict =
-        userPostRepository.existsByUser_IdAndPost_StartDateTime_DateAndValidYnIsTrue(user.getId(), newPostDate);
-
-    if (hasConflict) {
+    if (runDateCalendar.isBooked(user.getId(), newPostDate)) {
       throw new RunnersMapException(ErrorCode.OVERLAPPING_POST_DATE);
     }
 
@@ -182,20 +339,24 @@ public class PostService {
         .title(postDto.getTitle())
         .content(postDto.getContent())
         .limitMemberCnt(postDto.getLimitMemberCnt())
+        .currentMemberCnt(1) // 그룹장
+        .remainingRunnerCnt(1)
         .gender(postDto.getGender())
         .startDateTime(postDto.getStartDateTime())
         .startPosition(postDto.getStartPosition())
         .distance(postDto.getDistance())
         .paceMin(postDto.getPaceMin())
         .paceSec(postDto.getPaceSec())
-        .path(postDto.getPath())
         .lat(postDto.getCenterLat())
         .lng(postDto.getCenterLng())
         .departureYn(false)
         .arriveYn(false)
         .build());
 
-    postRepository.save(post);
+    // 경로 및 지도 표시용 단순화 경로 저장
+    PostRoute route = PostRoute.builder().post(post).build();
+    route.updatePath(postDto.getPath());
+    postRouteRepository.save(route);
     log.info("[RUNNERS LOG] 모집글 작성 postId: {} ", post.getPostId());
 
     // chatRoom 생성 (Post와 연결)
@@ -211,14 +372,25 @@ public class PostService {
     userPost.setPost(post);
     userPost.setUser(user);
     userPost.setValidYn(true);
+    userPost.setAbandonedYn(false);
     userPost.setTotalDistance(postDto.getDistance());
+    userPost.setRunDate(newPostDate);
     userPost.setYear(postDto.getStartDateTime().getYear());
     userPost.setMonth(postDto.getStartDateTime().getMonthValue());
-    userPostRepository.save(userPost);
+    try {
+      userPostRepository.saveAndFlush(userPost);
+    } catch (DataIntegrityViolationException e) {
+      // 같은 날짜 러닝 동시 등록/참여 (uk_user_post_valid_run_date), 모집글 등록 전체 롤백
+      throw new RunnersMapException(ErrorCode.OVERLAPPING_POST_DATE);
+    }
 
     log.info("[RUNNERS LOG] 그룹 사용자 추가 userId : {} ", user.getId());
 
-    return PostDto.fromEntity(post);
+    PostDto registeredPost = PostDto.fromEntity(post, route);
+    eventPublisher.publishEvent(
+        new PostChangeEvent(PostChangeType.REGISTER, post.getPostId(), null, registeredPost));
+
+    return registeredPost;
 
   }
 
@@ -234,6 +406,16 @@ public class PostService {
 
       // 변경 가능 상태인지 체크
       validatePost(post);
+      PostDto before = PostDto.fromEntity(post);
+      PostRoute route = postRouteRepository.findById(post.getPostId())
+          .orElseGet(() -> PostRoute.builder().post(post).build());
+
+      // 현재 참여 인원보다 적게 제한할 수 없음
+      if (postDto.getLimitMemberCnt() < post.getCurrentMemberCnt()) {
+        throw new RunnersMapException(ErrorCode.LIMIT_MEMBER_CNT_UNDER_CURRENT);
+      }
+      boolean runDateChanged = !post.getStartDateTime().toLocalDate()
+          .equals(postDto.getStartDateTime().toLocalDate());
 
       post.setTitle(postDto.getTitle());
       post.setContent(postDto.getContent());
@@ -244,11 +426,25 @@ public class PostService {
       post.setDistance(postDto.getDistance());
       post.setPaceMin(postDto.getPaceMin());
       post.setPaceSec(postDto.getPaceSec());
-      post.setPath(postDto.getPath());
+      route.updatePath(postDto.getPath());
       postRepository.save(post);
+      postRouteRepository.save(route);
+
+      // 출발일자가 바뀌면 참여자의 러닝 날짜도 변경 (참여자 중 그 날짜에 다른 러닝이 있으면 수정 불가)
+      if (runDateChanged) {
+        try {
+          userPostRepository.updateRunDateByPostId(post.getPostId(),
+              postDto.getStartDateTime().toLocalDate());
+        } catch (DataIntegrityViolationException e) {
+          throw new RunnersMapException(ErrorCode.OVERLAPPING_POST_DATE);
+        }
+      }
 
       log.info("[RUNNERS LOG] 모집글 수정 postId : {} ", post.getPostId());
 
+      eventPublisher.publishEvent(new PostChangeEvent(
+          PostChangeType.MODIFY, post.getPostId(), before, PostDto.fromEntity(post, route)));
+
     } else {
       throw new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA);
     }
@@ -271,6 +467,7 @@ public class PostService {
 
       // 변경 가능 상태인지 체크
       validatePost(post);
+      PostDto before = PostDto.fromEntity(post);
 
       // 1. userPost 데이터 삭제 (post에 참여한 모든 사용자 - 최소한 그룹장은 등록되어 있음 )
       // 모집글에 참여하기로 했던 사용자 데이터 삭제
@@ -284,10 +481,14 @@ public class PostService {
       chatService.deleteChatRoom(post.getChatRoom().getId());
       log.info("연관 채팅방 삭제 postId : {} ", postId);
 
-      // 3. 모집글 삭제
+      // 3. 모집글 경로 및 모집글 삭제
+      postRouteRepository.deleteById(post.getPostId());
       postRepository.deleteById(post.getPostId());
       log.info("모집글 삭제 postId : {} ", postId);
 
+      eventPublisher.publishEvent(
+          new PostChangeEvent(PostChangeType.DELETE, postId, before, null));
+
     } else {
       throw new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA);
     }
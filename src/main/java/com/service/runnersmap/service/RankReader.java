@@ -0,0 +1,35 @@
+package com.service.runnersmap.service;
+
+import com.service.runnersmap.dto.RankDto;
+import com.service.runnersmap.repository.RankRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 월별 랭킹 조회 (RankService.searchRankByMonth 의 요청 병합에서 대표 요청만 호출)
+ * - 트랜잭션 안에서 응답 DTO 로 바꾸어 반환하므로, 결과를 함께 받는 요청들은 엔티티를 공유하지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class RankReader {
+
+  // 랭킹 조회 범위 (1~100위)
+  private static final int START_RANK_POSITION = 1;
+  private static final int END_RANK_POSITION = 100;
+
+  private final RankRepository rankRepository;
+
+  @Transactional(readOnly = true)
+  public Page<RankDto> findMonthRanks(Integer year, Integer month, Pageable pageable) {
+    return rankRepository.findAllByRankPositionBetweenAndYearAndMonthOrderByRankPosition(
+            START_RANK_POSITION,
+            END_RANK_POSITION,
+            year,
+            month,
+            pageable)
+        .map(RankDto::fromEntity);
+  }
+}
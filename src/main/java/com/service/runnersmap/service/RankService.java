@@ -1,15 +1,19 @@
 package com.service.runnersmap.service;
 
+import com.service.runnersmap.dto.RankDto;
 import com.service.runnersmap.dto.RankSaveDto;
 import com.service.runnersmap.entity.Rank;
 import com.service.runnersmap.entity.User;
-import com.service.runnersmap.entity.UserPost;
+import com.service.runnersmap.entity.RunRecord;
 import com.service.runnersmap.exception.RunnersMapException;
 import com.service.runnersmap.repository.RankRepository;
+import com.service.runnersmap.repository.UserPostArchiveRepository;
 import com.service.runnersmap.repository.UserPostRepository;
 import com.service.runnersmap.repository.UserRepository;
 import com.service.runnersmap.type.ErrorCode;
+import com.service.runnersmap.util.SingleFlight;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -27,28 +31,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class RankService {
 
   private final UserPostRepository userPostRepository;
+  private final UserPostArchiveRepository userPostArchiveRepository;
   private final RankRepository rankRepository;
   private final UserRepository userRepository;
+  private final RankReader rankReader;
+
+  // 랭킹 조회 요청 병합 ("연/월/페이지" -> 조회 결과)
+  private final SingleFlight<String, Page<RankDto>> rankFlight = new SingleFlight<>();
 
 
   /**
    * 조회 연도,월 랭킹 조회
    * 페이징 처리를 통해 100위까지 보여주는 것으로 수정 (한 페이지당 20)
+   * - 동시에 들어온 같은 조건(연, 월, 페이지)의 조회는 한 번만 수행하고 결과를 공유 (사용자 정보 함께 조회)
+   * - 기다리는 요청이 커넥션을 잡고 있지 않도록 트랜잭션 없이 병합하고, 조회만 RankReader 의 트랜잭션에서 수행
    */
-  @Transactional(readOnly = true)
-  public Page<Rank> searchRankByMonth(Integer year, Integer month, Pageable pageable) throws Exception {
-
-    // 랭킹 조회 범위 설정 (1~100위)
-    int startRankPosition = 1;
-    int endRankPosition = 100;
+  public Page<RankDto> searchRankByMonth(Integer year, Integer month, Pageable pageable) throws Exception {
 
     // 특정 연,월에 해당하는 랭킹 조회 & 페이징처리
-    return rankRepository.findAllByRankPositionBetweenAndYearAndMonthOrderByRankPosition(
-        startRankPosition,
-        endRankPosition,
-        year,
-        month,
-        pageable);
+    return rankFlight.execute(year + "/" + month + "/" + pageable,
+        () -> rankReader.findMonthRanks(year, month, pageable));
   }
 
   /*
@@ -73,9 +75,12 @@ public class RankService {
     // 기존의 랭킹 데이터 삭제 (매일 초기화)
     rankRepository.deleteByYearAndMonth(year, month);
 
-    // 조회년월의 유효한 러너 기록 (실제 종료 시간이 있는 기록만)
-    List<UserPost> monthRunRecords = userPostRepository.findAllByValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(
-        year, month);
+    // 조회년월의 유효한 러너 기록 (실제 종료 시간이 있는 기록만, 보관된 기록 포함)
+    List<RunRecord> monthRunRecords = new ArrayList<>();
+    monthRunRecords.addAll(userPostRepository.findAllByValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(
+        year, month));
+    monthRunRecords.addAll(userPostArchiveRepository.findAllByValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(
+        year, month));
     if (monthRunRecords.isEmpty()) {
       log.info("유효한 러닝 기록이 존재하지 않습니다.");
       return;
@@ -136,7 +141,7 @@ public class RankService {
   /**
    * 거리 & 시간 바탕 점수 계산 메서드 거리에 따라 가중치 부여하여 점수 계산
    */
-  private double calDistanceWeight(UserPost userPost) {
+  private double calDistanceWeight(RunRecord userPost) {
     double totalTimeInSeconds = userPost.getRunningDuration().toMillis() / 1000.0;
     if (totalTimeInSeconds == 0) {
       return 0;
@@ -1,26 +1,41 @@
 package com.service.runnersmap.service;
 
+import com.service.runnersmap.component.RunDateCalendar;
+import com.service.runnersmap.component.RunTrackStore;
 import com.service.runnersmap.dto.PostDto;
 import com.service.runnersmap.dto.UserPostDto;
 import com.service.runnersmap.dto.UserPostSearchDto;
 import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.PostRoute;
+import com.service.runnersmap.entity.TrackPoint;
 import com.service.runnersmap.entity.User;
 import com.service.runnersmap.entity.UserPost;
+import com.service.runnersmap.event.ParticipantStateEvent;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.PostMemberChangeEvent;
+import com.service.runnersmap.event.RunArrivedEvent;
 import com.service.runnersmap.exception.RunnersMapException;
 import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.PostRepository.PostSummary;
 import com.service.runnersmap.repository.UserPostRepository;
+import com.service.runnersmap.repository.UserPostRepository.RunningStat;
 import com.service.runnersmap.repository.UserRepository;
 import com.service.runnersmap.type.ErrorCode;
+import com.service.runnersmap.type.ParticipantStateType;
+import com.service.runnersmap.type.PostChangeType;
+import com.service.runnersmap.util.TrackStats;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,22 +50,37 @@ public class UserPostService {
 
   private final UserRepository userRepository;
 
+  private final RunTrackStore runTrackStore;
+
+  private final RunDateCalendar runDateCalendar;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 러닝 참여 리스트 한 번에 조회하는 최대 건수
+  private static final int MAX_PARTICIPATE_PAGE_SIZE = 100;
+
+  // 위치 기록 한 번에 전송할 수 있는 최대 좌표 수 (3초 간격 30분)
+  private static final int MAX_TRACK_POINTS = 600;
+
+  // 실제 달린 거리 / 시간 계산에 필요한 최소 좌표 수
+  private static final int MIN_TRACK_POINTS = 2;
+
   /**
    * 사용자별 러닝 참여 리스트 조회
+   * - 참여 정보, 모집글, 경로를 한 번의 조회로 가져옴
+   * - size 가 있으면 마지막으로 받은 모집글(출발일시, 모집글 ID) 다음부터 size 건 (없으면 전체)
    */
   @Transactional(readOnly = true)
-  public List<PostDto> listParticipatePost(Long userId) throws Exception {
+  public List<PostDto> listParticipatePost(Long userId, LocalDateTime lastStartDateTime,
+      Long lastPostId, Integer size) throws Exception {
 
-    // 사용자가 참여 중인 유효한 모집글(러닝이 종료되지 않은 것)을 조회
-    return userPostRepository.findAllByUser_IdAndValidYnIsTrueAndActualEndTimeIsNull(userId)
-        .stream()
-        .map(userPost -> {
-          // 참여 중인 각 모집글의 ID를 통해 모집글 상세 정보 조회
-          Post post = postRepository.findById(userPost.getPost().getPostId())
-              .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
-          return PostDto.fromEntity(post);
+    Limit limit = size == null ? Limit.unlimited()
+        : Limit.of(Math.max(1, Math.min(size, MAX_PARTICIPATE_PAGE_SIZE)));
 
-        })
+    return userPostRepository.findParticipatePosts(userId, lastStartDateTime,
+            lastPostId != null ? lastPostId : 0L, limit)
+        .stream()
+        .map(row -> PostDto.fromEntity((Post) row[0], (PostRoute) row[1]))
         .collect(Collectors.toList());
 
   }
@@ -64,7 +94,7 @@ public class UserPostService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_USER));
 
-    Post post = postRepository.findById(postId)
+    PostSummary post = postRepository.findSummaryById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
 
     // 이미 출발/도착한 상태의 모집글인 경우, 참여할 수 없도록 함
@@ -76,6 +106,7 @@ public class UserPostService {
     }
 
     // 동일 사용자가 같은 게시글에 중복 참여되지 않도록 함
+    // (동시 요청은 유니크 키 uk_user_post_valid_post 에서 막힘)
     boolean existYn = userPostRepository.existsByUser_IdAndPost_PostIdAndValidYnIsTrue(userId,
         postId);
     if (existYn) {
@@ -84,23 +115,37 @@ public class UserPostService {
 
 
     // 이전에 참여하기로 한 러닝 날짜 외의 모집글에만 새롭게 참여할 수 있도록 함
+    // (동시 요청은 유니크 키 uk_user_post_valid_run_date 에서 막힘)
     LocalDate newPostDate = post.getStartDateTime().toLocalDate();
-    boolean hasConflict = userPostRepository.existsByUser_IdAndPost_StartDateTime_DateAndValidYnIsTrue(userId, newPostDate);
-    if (hasConflict) {
+    if (runDateCalendar.isBooked(userId, newPostDate)) {
       throw new RunnersMapException(ErrorCode.OVERLAPPING_POST_DATE);
     }
 
+    // 제한 인원 미만일 때만 참여 인원 증가 (조건부 UPDATE 한 번으로 확인과 증가를 같이 처리)
+    if (postRepository.increaseMemberCnt(postId) == 0) {
+      throw new RunnersMapException(ErrorCode.FULL_MEMBER_POST_DATA);
+    }
+
 
     // 참여자 정보 저장
     UserPost newUserPost = new UserPost();
     newUserPost.setUser(user);
-    newUserPost.setPost(post);
+    newUserPost.setPost(postRepository.getReferenceById(postId));
     newUserPost.setValidYn(true);
+    newUserPost.setAbandonedYn(false);
     newUserPost.setTotalDistance(post.getDistance());
+    newUserPost.setRunDate(newPostDate);
     newUserPost.setYear(post.getStartDateTime().getYear());
     newUserPost.setMonth(post.getStartDateTime().getMonthValue());
-    userPostRepository.save(newUserPost);
+    try {
+      userPostRepository.saveAndFlush(newUserPost);
+    } catch (DataIntegrityViolationException e) {
+      // 유니크 키 위반 시 예외로 트랜잭션이 롤백되어 증가한 참여 인원도 되돌려짐
+      throw new RunnersMapException(participateConflict(e));
+    }
 
+    eventPublisher.publishEvent(new PostMemberChangeEvent(postId, userId));
+    eventPublisher.publishEvent(new ParticipantStateEvent(postId, userId, ParticipantStateType.JOIN));
   }
 
   /**
@@ -111,7 +156,7 @@ public class UserPostService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_USER));
 
-    Post post = postRepository.findById(postId)
+    postRepository.findSummaryById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
 
     // 참여 정보 조회
@@ -119,9 +164,19 @@ public class UserPostService {
         userId, postId);
     if (optionalUserPost.isPresent()) {
       UserPost userPost = optionalUserPost.get();
+      boolean finished = userPost.getActualEndTime() != null;
       userPost.setActualEndTime(null); // 실제 종료시간 초기화
       userPost.setValidYn(false); // 유효여부 false 처리
       userPostRepository.save(userPost); // 변경 사항 저장
+      postRepository.decreaseMemberCnt(postId); // 참여 인원 감소
+      if (!finished) {
+        // 완료하지 않은 러너가 나가면 남은 러너 수 감소 (러닝 중 마지막 미완료 러너면 도착 처리)
+        postRepository.decreaseRemainingRunnerCnt(postId);
+        arriveIfAllFinished(postId);
+      }
+      runTrackStore.finishRun(postId, userId, userPost.getUserPostId());
+      eventPublisher.publishEvent(new PostMemberChangeEvent(postId, userId));
+      eventPublisher.publishEvent(new ParticipantStateEvent(postId, userId, ParticipantStateType.OUT));
     } else {
       throw new RunnersMapException(ErrorCode.NOT_FOUND_USER_POST_DATA);
     }
@@ -146,8 +201,11 @@ public class UserPostService {
 
     if (!post.getDepartureYn()) {
       // 첫번째로 사용자가 출발 눌렀을 때 post 테이블의 출발여부를 true로 변경
+      PostDto before = PostDto.fromEntity(post);
       post.setDepartureYn(true); // 출발여부
       postRepository.save(post);
+      eventPublisher.publishEvent(
+          new PostChangeEvent(PostChangeType.START, postId, before, PostDto.fromEntity(post)));
     }
 
     // 사용자별 실제 출발 시간 업데이트
@@ -160,6 +218,7 @@ public class UserPostService {
       }
       userPost.setActualStartTime(LocalDateTime.now());
       userPostRepository.save(userPost);
+      eventPublisher.publishEvent(new ParticipantStateEvent(postId, userId, ParticipantStateType.START));
     } else {
       throw new RunnersMapException(ErrorCode.NOT_FOUND_USER_POST_DATA);
     }
@@ -175,7 +234,7 @@ public class UserPostService {
   @Transactional
   public void completeRecord(Long postId, Long userId) throws Exception {
 
-    Post post = postRepository.findById(postId)
+    postRepository.findSummaryById(postId)
         .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
 
 //    if (!post.getDepartureYn()) {
@@ -193,23 +252,30 @@ public class UserPostService {
         userPostRepository.findByUser_IdAndPost_PostIdAndValidYnIsTrue(userId, postId);
     if (optionalUserPost.isPresent()) {
       UserPost userPost = optionalUserPost.get();
-      if (userPost.getActualEndTime() != null) {
+      // 자동 종료된 러닝은 이후에 완료할 수 없음
+      if (userPost.getActualEndTime() != null || Boolean.TRUE.equals(userPost.getAbandonedYn())) {
         throw new RunnersMapException(ErrorCode.ALREADY_COMPLETE_POST_DATA);
       }
       userPost.setActualEndTime(LocalDateTime.now());
       userPost.setRunningDuration(
-          Duration.between(userPost.getActualStartTime(), LocalDateTime.now()));
+          Duration.between(userPost.getActualStartTime(), userPost.getActualEndTime()));
+
+      // 러닝 중 기록된 위치가 있으면 실제 달린 거리 / 시간으로 저장 (없으면 모집글 거리, 시작~완료 버튼 시간)
+      runTrackStore.flush(userPost.getUserPostId());
+      runTrackStore.finishRun(postId, userId, userPost.getUserPostId());
+      TrackStats track = TrackStats.of(runTrackStore.load(userPost.getUserPostId()));
+      if (track.pointCount() >= MIN_TRACK_POINTS) {
+        userPost.setTotalDistance(track.distanceMeter());
+        userPost.setRunningDuration(Duration.ofSeconds(track.durationSeconds()));
+      }
+      userPost.setRunningSeconds(userPost.getRunningDuration().getSeconds());
       userPostRepository.save(userPost);
+      eventPublisher.publishEvent(new ParticipantStateEvent(postId, userId, ParticipantStateType.COMPLETE));
 
-      // 미완료 러너 존재여부  -> true : 미도착, false : 도착
-      boolean existsIncompleteUser =
-          userPostRepository.existsByPost_PostIdAndValidYnIsTrueAndActualEndTimeIsNull(postId);
-      if (!existsIncompleteUser) {
-        // 모든 사용자가 도착하면 도착 처리(post 테이블 도착처리)
-        // 만약에 사용자가 모두 도착하지 않았는데 비정상 종료처리가 되어야 한다면 그룹장이 모집글 방삭제를 해야한다.
-        post.setArriveYn(true); // 도착여부
-        postRepository.save(post);
-      }
+      // 남은 러너 수 감소, 마지막 러너면 도착 처리
+      // 만약에 사용자가 모두 도착하지 않았는데 비정상 종료처리가 되어야 한다면 그룹장이 모집글 방삭제를 해야한다.
+      postRepository.decreaseRemainingRunnerCnt(postId);
+      arriveIfAllFinished(postId);
 
     } else {
       throw new RunnersMapException(ErrorCode.NOT_FOUND_USER_POST_DATA);
@@ -217,6 +283,55 @@ public class UserPostService {
   }
 
 
+  /**
+   * 남은 러너가 없으면 모집글 도착 처리
+   * - 조건부 UPDATE(markArrived)는 모집글 행 잠금 아래에서 수행되므로 마지막 러너가 동시에 완료해도 한 요청만 도착 처리하고 이벤트를 발행한다.
+   */
+  private void arriveIfAllFinished(Long postId) {
+    if (postRepository.markArrived(postId) == 0) {
+      return;
+    }
+    Post post = postRepository.findById(postId)
+        .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_FOUND_POST_DATA));
+    // 조건부 UPDATE 는 영속성 컨텍스트의 모집글에 반영되지 않으므로 도착 전/후 값을 직접 구성
+    PostDto before = PostDto.fromEntity(post).toBuilder().arriveYn(false).build();
+    PostDto after = before.toBuilder().arriveYn(true).build();
+    eventPublisher.publishEvent(new PostChangeEvent(PostChangeType.COMPLETE, postId, before, after));
+    eventPublisher.publishEvent(new RunArrivedEvent(postId, LocalDateTime.now()));
+    log.info("[RUNNERS LOG] 러닝 도착 처리 postId : {} ", postId);
+  }
+
+  /**
+   * 러닝기록 - 위치 기록
+   * - 시작 버튼 이후 완료 버튼 전까지, 러닝 중 수신한 위치를 모아서 전송 (최대 MAX_TRACK_POINTS 건)
+   * - 메모리 버퍼에 쌓고 주기적으로 일괄 저장하므로 요청마다 DB 에 쓰지 않는다. (RunTrackStore)
+   *
+   * @return 저장 대기열에 추가된 좌표 수
+   */
+  public int recordTrack(Long postId, Long userId, List<TrackPoint> points) {
+    if (points == null || points.isEmpty() || points.size() > MAX_TRACK_POINTS
+        || points.stream().anyMatch(point -> Math.abs(point.getLat()) > 90
+        || Math.abs(point.getLng()) > 180 || point.getTime() <= 0)) {
+      throw new RunnersMapException(ErrorCode.INVALID_TRACK_POINTS);
+    }
+
+    return runTrackStore.append(activeUserPostId(postId, userId), points);
+  }
+
+  /**
+   * 러닝 중(시작 버튼 이후 완료 버튼 전)인 참여 정보 ID
+   * - 처음 한 번만 조회하고 이후에는 보관된 값을 사용 (위치 기록 / 위치 공유처럼 자주 호출되는 곳에서 사용)
+   */
+  public Long activeUserPostId(Long postId, Long userId) {
+    return runTrackStore.activeRun(postId, userId, key -> userPostRepository
+        .findByUser_IdAndPost_PostIdAndValidYnIsTrue(userId, postId)
+        .filter(userPost -> userPost.getActualStartTime() != null
+            && userPost.getActualEndTime() == null
+            && !Boolean.TRUE.equals(userPost.getAbandonedYn()))
+        .map(UserPost::getUserPostId)
+        .orElseThrow(() -> new RunnersMapException(ErrorCode.NOT_RUNNING_USER_POST_DATA)));
+  }
+
   /**
    * 러닝기록 - 조회
    * 1. ALL   : 누적달린 거리
@@ -227,54 +342,52 @@ public class UserPostService {
   public List<UserPostSearchDto> searchRunningData(Long userId, int year, int month)
       throws Exception {
 
-    List<UserPostSearchDto> result = new ArrayList<>();
-
-    // 전체 누적 거리 조회
-    result.add(new UserPostSearchDto("ALL", userPostRepository.findTotalDistanceByUserId(userId)));
+    // 누적 / 월 / 일별 거리와 시간을 한 번의 집계 조회로 가져옴 (참여 기록 + 보관된 기록)
+    List<RunningStat> stats = userPostRepository.sumRunningStats(userId, year, month);
 
-    // 월별 총 달린 거리 계산
-    double sumMonthTotaldistance = 0;
-    List<UserPost> userPosts = userPostRepository.findAllByUserIdAndYearAndMonth(userId, year, month);
-    for (UserPost item : userPosts) {
-      sumMonthTotaldistance += item.getTotalDistance() == null ? 0 : item.getTotalDistance();
-    }
-    result.add(new UserPostSearchDto("MONTH", sumMonthTotaldistance));
+    List<UserPostSearchDto> result = new ArrayList<>();
 
-    // 일별 달린 거리, 시간 계산
-    List<UserPostDto> runningMonths =
-        userPostRepository.findAllByUser_IdAndValidYnIsTrueAndYearAndMonthAndActualEndTimeIsNotNull(userId, year, month)
-        .stream()
-        .collect(Collectors.groupingBy(
-            // 사용자별 일자 기준 groupBy
-            up -> Map.entry(up.getUser().getId(), up.getActualEndTime().toLocalDate()),
-            Collectors.collectingAndThen(
-                Collectors.toList(),
-                group -> {
-                  double totalDistanceSum = group.stream()
-                      .mapToDouble(UserPost::getTotalDistance)
-                      .sum();
-
-                  long totalRunningDuration = group.stream()
-                      .mapToLong(up -> up.getRunningDuration().getSeconds())
-                      .sum();
-
-                  return UserPostDto.builder()
-                      .distance(totalDistanceSum)
-                      .runningTime(DurationToStringConverter.convert(
-                          Duration.ofSeconds(totalRunningDuration)))
-                      .day(group.get(0).getActualEndTime().getDayOfMonth())
-                      .build();
-                }
-            )
-        ))
-        .values().stream()
+    // 전체 누적 거리 (유효한 기록이 없으면 null)
+    boolean hasValidRecord = stats.stream().anyMatch(stat -> stat.getAllDistance() != null);
+    result.add(new UserPostSearchDto("ALL", hasValidRecord
+        ? stats.stream().mapToDouble(stat -> toDouble(stat.getAllDistance())).sum() : null));
+
+    // 월별 총 달린 거리
+    result.add(new UserPostSearchDto("MONTH",
+        stats.stream().mapToDouble(stat -> toDouble(stat.getMonthDistance())).sum()));
+
+    // 일별 달린 거리, 시간
+    List<UserPostDto> runningMonths = stats.stream()
+        .filter(stat -> stat.getDayOfMonth() != null)
+        .map(stat -> UserPostDto.builder()
+            .distance(toDouble(stat.getDistance()))
+            .runningTime(DurationToStringConverter.convert(Duration.ofSeconds(
+                stat.getRunningSeconds() == null ? 0 : stat.getRunningSeconds().longValue())))
+            .day(stat.getDayOfMonth().intValue())
+            .build())
         .collect(Collectors.toList());
-
     result.add(new UserPostSearchDto("DAY", runningMonths));
 
     return result;
   }
 
+  private static double toDouble(Number value) {
+    return value == null ? 0 : value.doubleValue();
+  }
+
+
+  /**
+   * 참여 정보 저장 시 유니크 키 위반 사유
+   * - uk_user_post_valid_run_date : 같은 날짜 러닝에 이미 참여
+   * - uk_user_post_valid_post : 같은 모집글에 이미 참여
+   */
+  private static ErrorCode participateConflict(DataIntegrityViolationException e) {
+    String message = e.getMostSpecificCause().getMessage();
+    if (message != null && message.contains(UserPost.UK_VALID_RUN_DATE)) {
+      return ErrorCode.OVERLAPPING_POST_DATE;
+    }
+    return ErrorCode.ALREADY_PARTICIPATE_USER;
+  }
 
   /**
    * Duration 객체를 시간, 분, 초 형식의 문자열로 변환
@@ -9,6 +9,7 @@ import com.service.runnersmap.dto.UserDto.LoginDto;
 import com.service.runnersmap.dto.UserDto.SignUpDto;
 import com.service.runnersmap.entity.RefreshToken;
 import com.service.runnersmap.entity.User;
+import com.service.runnersmap.event.UserProfileChangeEvent;
 import com.service.runnersmap.exception.RunnersMapException;
 import com.service.runnersmap.repository.RefreshTokenRepository;
 import com.service.runnersmap.repository.UserRepository;
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class UserService {
   private final JwtTokenProvider jwtTokenProvider;
   private final RefreshTokenRepository refreshTokenRepository;
   private final FileStorageService fileStorageService;
+  private final ApplicationEventPublisher eventPublisher;
 
 
   /**
@@ -157,6 +160,7 @@ public class UserService {
 
     // 사용자 삭제
     userRepository.delete(user);
+    eventPublisher.publishEvent(new UserProfileChangeEvent(user.getId()));
     log.info("회원탈퇴 완료");
   }
 
@@ -209,6 +213,7 @@ public class UserService {
         throw new RunnersMapException(ErrorCode.ALREADY_EXISTS_NICKNAME);
       }
       user.setNickname(accountUpdateDto.getNewNickname());
+      eventPublisher.publishEvent(new UserProfileChangeEvent(user.getId()));
     }
 
     // 비밀번호 수정
@@ -269,6 +274,7 @@ public class UserService {
     user.setProfileImageUrl(newProfileImageUrl);
     user.setUpdatedAt(LocalDateTime.now());
     userRepository.save(user);
+    eventPublisher.publishEvent(new UserProfileChangeEvent(user.getId()));
     log.info("프로필 이미지 등록/수정 완료");
 
     return newProfileImageUrl;
@@ -289,6 +295,7 @@ public class UserService {
       user.setProfileImageUrl("");
       user.setUpdatedAt(LocalDateTime.now());
       userRepository.save(user);
+      eventPublisher.publishEvent(new UserProfileChangeEvent(user.getId()));
       log.info("프로필 이미지가 삭제되었습니다.");
     }
 
@@ -34,10 +34,28 @@ public enum ErrorCode {
 
   NOT_FINISHED_RUNNING("러닝이 완료된 후에만 인증샷을 업로드할 수 있습니다."),
 
+  FULL_MEMBER_POST_DATA("모집 인원이 마감되었습니다."),
+
+  LIMIT_MEMBER_CNT_UNDER_CURRENT("현재 참여 인원보다 적은 인원으로 제한할 수 없습니다."),
+
   OVERLAPPING_POST_DATE("이전 러닝 날짜와 겹칩니다. 마지막 러닝 다음날부터 새롭게 참여 가능합니다"),
 
+  NOT_RUNNING_USER_POST_DATA("러닝 중인 참여 정보가 없습니다."),
+
+  INVALID_TRACK_POINTS("잘못된 위치 기록입니다."),
+
   CHAR_ROOM_CREATION_FAILED("채팅방 생성에 실패했습니다."),
 
+  INVALID_MAP_TILE("지원하지 않는 지도 타일 요청입니다."),
+
+  INVALID_MAP_AREA("잘못된 지도 조회 영역입니다."),
+
+  INVALID_ROUTE_SEARCH_RADIUS("경로 검색 반경은 최대 2km 입니다."),
+
+  ROUTE_SEARCH_NOT_READY("경로 검색을 준비 중입니다. 잠시 후 다시 시도해 주세요."),
+
+  FORBIDDEN_QUEUE_SUBSCRIPTION("다른 연결의 메시지는 구독할 수 없습니다."),
+
   // 유저 관련 에러코드
   INVALID_REFRESH_TOKEN("유효하지 않은 토큰입니다."),
 
@@ -0,0 +1,18 @@
+package com.service.runnersmap.type;
+
+/**
+ * 러닝 참여자 상태 변경 유형 (ParticipantStateEvent 구분값)
+ */
+public enum ParticipantStateType {
+
+  JOIN,     // 러닝 참가
+
+  OUT,      // 러닝 나가기
+
+  START,    // 참여자 출발 (시작 버튼)
+
+  COMPLETE, // 참여자 도착 (완료 버튼)
+
+  ARRIVE    // 러닝 도착 (모든 참여자 완료)
+
+}
@@ -0,0 +1,36 @@
+package com.service.runnersmap.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경로 상세 수준 (Douglas-Peucker 단순화 허용 오차)
+ * - 지도 확대 수준(zoom)에서 화면 1px 이 나타내는 거리 정도의 오차로 단순화한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum PathDetail {
+
+  FULL(0),      // 원본 경로 (확대 수준 16 이상)
+  HIGH(5),      // 허용 오차 5m (확대 수준 14 ~ 15)
+  MEDIUM(20),   // 허용 오차 20m (확대 수준 12 ~ 13)
+  LOW(80);      // 허용 오차 80m (확대 수준 11 이하)
+
+  private final double toleranceMeter;
+
+  /**
+   * 지도 확대 수준에 맞는 상세 수준 (확대 수준이 없으면 원본)
+   */
+  public static PathDetail fromZoom(Integer zoom) {
+    if (zoom == null || zoom >= 16) {
+      return FULL;
+    }
+    if (zoom >= 14) {
+      return HIGH;
+    }
+    if (zoom >= 12) {
+      return MEDIUM;
+    }
+    return LOW;
+  }
+}
@@ -0,0 +1,18 @@
+package com.service.runnersmap.type;
+
+/**
+ * 모집글 변경 유형 (PostChangeEvent 구분값)
+ */
+public enum PostChangeType {
+
+  REGISTER, // 모집글 등록
+
+  MODIFY,   // 모집글 수정
+
+  DELETE,   // 모집글 삭제
+
+  START,    // 러닝 출발
+
+  COMPLETE  // 러닝 도착(모든 참여자 완료)
+
+}
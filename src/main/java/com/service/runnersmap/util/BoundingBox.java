@@ -0,0 +1,24 @@
+package com.service.runnersmap.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위경도 사각형 영역 (남서 ~ 북동)
+ */
+@Getter
+@AllArgsConstructor
+public class BoundingBox {
+
+  private final double minLat;
+
+  private final double minLng;
+
+  private final double maxLat;
+
+  private final double maxLng;
+
+  public boolean contains(double lat, double lng) {
+    return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+  }
+}
@@ -0,0 +1,49 @@
+package com.service.runnersmap.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 격자(geo cell) 계산 유틸
+ * - 0.02도(위도 기준 약 2.2km) 격자로 나누고, 격자 번호를 DB 에서도 계산하기 쉬운 양의 정수로 표현한다.
+ *   key = (위도 격자 + 5000) * 20000 + (경도 격자 + 10000)
+ * - post.geo_cell 컬럼과 메모리 인덱스(LivePostIndex)가 같은 격자를 사용한다.
+ */
+public final class GeoCell {
+
+  public static final double CELL_SIZE_DEGREE = 0.02;
+
+  private static final long LAT_OFFSET = 5_000;
+
+  private static final long LNG_OFFSET = 10_000;
+
+  private static final long LNG_RANGE = 20_000;
+
+  private GeoCell() {
+  }
+
+  public static long of(double lat, double lng) {
+    return key(index(lat), index(lng));
+  }
+
+  /**
+   * 사각형 영역에 걸친 격자 목록
+   */
+  public static List<Long> covering(BoundingBox box) {
+    List<Long> cells = new ArrayList<>();
+    for (long latIdx = index(box.getMinLat()); latIdx <= index(box.getMaxLat()); latIdx++) {
+      for (long lngIdx = index(box.getMinLng()); lngIdx <= index(box.getMaxLng()); lngIdx++) {
+        cells.add(key(latIdx, lngIdx));
+      }
+    }
+    return cells;
+  }
+
+  public static long index(double degree) {
+    return (long) Math.floor(degree / CELL_SIZE_DEGREE);
+  }
+
+  public static long key(long latIdx, long lngIdx) {
+    return (latIdx + LAT_OFFSET) * LNG_RANGE + (lngIdx + LNG_OFFSET);
+  }
+}
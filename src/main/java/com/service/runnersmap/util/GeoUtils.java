@@ -0,0 +1,47 @@
+package com.service.runnersmap.util;
+
+/**
+ * 위경도 좌표 계산 유틸
+ */
+public final class GeoUtils {
+
+  public static final double EARTH_RADIUS_KM = 6371.0;
+
+  // 위도 1도당 거리(km)
+  private static final double KM_PER_LAT_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+  // 위도 1도당 거리(m) : 좁은 범위에서 위경도를 평면 좌표(m)로 근사할 때 사용 (경도는 cos(위도)를 곱함)
+  public static final double METER_PER_DEGREE = KM_PER_LAT_DEGREE * 1000;
+
+  private GeoUtils() {
+  }
+
+  /**
+   * 하버사인 공식으로 두 좌표 사이 거리(km) 계산
+   */
+  public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  /**
+   * 중심 좌표에서 반경(km)을 모두 포함하는 사각형 영역 계산
+   * - 공간 인덱스(MBRContains) 1차 필터용
+   */
+  public static BoundingBox boundingBox(double lat, double lng, double radiusKm) {
+    double latDelta = radiusKm / KM_PER_LAT_DEGREE;
+    // 극지방 근처에서 cos 값이 0에 가까워지는 것 방지
+    double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+    double lngDelta = radiusKm / (KM_PER_LAT_DEGREE * cosLat);
+
+    return new BoundingBox(
+        Math.max(lat - latDelta, -90.0),
+        lng - lngDelta,
+        Math.min(lat + latDelta, 90.0),
+        lng + lngDelta);
+  }
+}
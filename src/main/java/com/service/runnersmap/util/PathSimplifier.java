@@ -0,0 +1,86 @@
+package com.service.runnersmap.util;
+
+import com.service.runnersmap.entity.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 경로 단순화 (Douglas-Peucker)
+ * - 허용 오차(m) 이내로 경로 모양을 유지하면서 좌표 수를 줄인다.
+ * - 러닝 경로 범위에서는 평면 근사(equirectangular)로 거리 계산
+ */
+public final class PathSimplifier {
+
+  private PathSimplifier() {
+  }
+
+  public static List<Path> simplify(List<Path> path, double toleranceMeter) {
+    if (path == null || path.size() <= 2 || toleranceMeter <= 0) {
+      return path;
+    }
+
+    int size = path.size();
+    // 첫 좌표 기준 평면 좌표(m)로 변환
+    double cosLat = Math.cos(Math.toRadians(path.get(0).getLat()));
+    double[] xs = new double[size];
+    double[] ys = new double[size];
+    for (int i = 0; i < size; i++) {
+      xs[i] = path.get(i).getLng() * GeoUtils.METER_PER_DEGREE * cosLat;
+      ys[i] = path.get(i).getLat() * GeoUtils.METER_PER_DEGREE;
+    }
+
+    boolean[] keep = new boolean[size];
+    keep[0] = true;
+    keep[size - 1] = true;
+
+    // 재귀 대신 구간 스택 사용 (긴 경로에서 스택 초과 방지)
+    Deque<int[]> ranges = new ArrayDeque<>();
+    ranges.push(new int[]{0, size - 1});
+    double toleranceSq = toleranceMeter * toleranceMeter;
+
+    while (!ranges.isEmpty()) {
+      int[] range = ranges.pop();
+      int start = range[0];
+      int end = range[1];
+
+      int farthest = -1;
+      double farthestSq = toleranceSq;
+      for (int i = start + 1; i < end; i++) {
+        double distSq = segmentDistanceSq(xs[i], ys[i], xs[start], ys[start], xs[end], ys[end]);
+        if (distSq > farthestSq) {
+          farthest = i;
+          farthestSq = distSq;
+        }
+      }
+
+      if (farthest >= 0) {
+        keep[farthest] = true;
+        ranges.push(new int[]{start, farthest});
+        ranges.push(new int[]{farthest, end});
+      }
+    }
+
+    List<Path> result = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        result.add(path.get(i));
+      }
+    }
+    return result;
+  }
+
+  // 점(px, py)과 선분(a-b) 사이 거리의 제곱
+  private static double segmentDistanceSq(double px, double py,
+      double ax, double ay, double bx, double by) {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSq = dx * dx + dy * dy;
+    double t = lengthSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSq;
+    t = Math.max(0, Math.min(1, t));
+    double ex = px - (ax + t * dx);
+    double ey = py - (ay + t * dy);
+    return ex * ex + ey * ey;
+  }
+}
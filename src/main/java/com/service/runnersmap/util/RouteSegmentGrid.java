@@ -0,0 +1,154 @@
+package com.service.runnersmap.util;
+
+import com.service.runnersmap.entity.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로 선분 격자 인덱스
+ * - 경로의 각 선분을 선분 영역이 걸치는 격자(cell)에 등록해 두고,
+ *   조회 시에는 검색 반경에 걸친 격자의 선분만 거리 계산한다. (전체 경로를 훑지 않음)
+ * - 선분은 (postId << 20 | 선분 순번) 형태의 long 값으로 보관
+ */
+public class RouteSegmentGrid {
+
+  private static final int SEGMENT_BITS = 20;
+
+  private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+  private final double cellDegree;
+
+  // postId -> 경로
+  private final Map<Long, List<Path>> paths = new ConcurrentHashMap<>();
+
+  // 격자 key -> 선분 목록
+  private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+  public RouteSegmentGrid(double cellDegree) {
+    this.cellDegree = cellDegree;
+  }
+
+  public synchronized void put(Long postId, List<Path> path) {
+    remove(postId);
+    if (path == null || path.isEmpty()) {
+      return;
+    }
+    // 선분 순번이 SEGMENT_BITS 를 넘는 경로는 앞부분만 색인
+    List<Path> indexed = path.size() > SEGMENT_MASK ? path.subList(0, (int) SEGMENT_MASK) : path;
+    paths.put(postId, indexed);
+    forEachSegmentCell(indexed, (segment, cellKey) -> cells
+        .computeIfAbsent(cellKey, key -> ConcurrentHashMap.newKeySet())
+        .add(segmentRef(postId, segment)));
+  }
+
+  public synchronized void remove(Long postId) {
+    List<Path> path = paths.remove(postId);
+    if (path == null) {
+      return;
+    }
+    forEachSegmentCell(path, (segment, cellKey) -> {
+      Set<Long> segments = cells.get(cellKey);
+      if (segments != null) {
+        segments.remove(segmentRef(postId, segment));
+        if (segments.isEmpty()) {
+          cells.remove(cellKey);
+        }
+      }
+    });
+  }
+
+  /**
+   * 좌표에서 반경(m) 이내를 지나는 경로의 postId 목록
+   */
+  public Set<Long> findNear(double lat, double lng, double radiusMeter) {
+    BoundingBox box = GeoUtils.boundingBox(lat, lng, radiusMeter / 1000.0);
+    double cosLat = Math.cos(Math.toRadians(lat));
+    double radiusSq = radiusMeter * radiusMeter;
+    Set<Long> result = new HashSet<>();
+
+    for (long latIdx = index(box.getMinLat()); latIdx <= index(box.getMaxLat()); latIdx++) {
+      for (long lngIdx = index(box.getMinLng()); lngIdx <= index(box.getMaxLng()); lngIdx++) {
+        Set<Long> segments = cells.get(cellKey(latIdx, lngIdx));
+        if (segments == null) {
+          continue;
+        }
+        for (Long ref : segments) {
+          Long postId = ref >>> SEGMENT_BITS;
+          if (result.contains(postId)) {
+            continue;
+          }
+          List<Path> path = paths.get(postId);
+          int segment = (int) (ref & SEGMENT_MASK);
+          if (path == null || segment >= path.size()) {
+            continue;
+          }
+          Path a = path.get(segment);
+          Path b = path.get(Math.min(segment + 1, path.size() - 1));
+          if (distanceSq(lat, lng, cosLat, a, b) <= radiusSq) {
+            result.add(postId);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  public int size() {
+    return paths.size();
+  }
+
+  // 경로의 선분별로 선분 영역이 걸치는 격자 순회 (좌표가 1개인 경로는 점 하나를 선분으로 취급)
+  private void forEachSegmentCell(List<Path> path, SegmentCellConsumer consumer) {
+    int segmentCount = Math.max(1, path.size() - 1);
+    for (int segment = 0; segment < segmentCount; segment++) {
+      Path a = path.get(segment);
+      Path b = path.get(Math.min(segment + 1, path.size() - 1));
+      long minLatIdx = index(Math.min(a.getLat(), b.getLat()));
+      long maxLatIdx = index(Math.max(a.getLat(), b.getLat()));
+      long minLngIdx = index(Math.min(a.getLng(), b.getLng()));
+      long maxLngIdx = index(Math.max(a.getLng(), b.getLng()));
+      for (long latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+        for (long lngIdx = minLngIdx; lngIdx <= maxLngIdx; lngIdx++) {
+          consumer.accept(segment, cellKey(latIdx, lngIdx));
+        }
+      }
+    }
+  }
+
+  // 기준 좌표를 원점으로 하는 평면 좌표(m)에서 원점과 선분(a-b) 사이 거리의 제곱
+  private static double distanceSq(double lat, double lng, double cosLat, Path a, Path b) {
+    double ax = (a.getLng() - lng) * GeoUtils.METER_PER_DEGREE * cosLat;
+    double ay = (a.getLat() - lat) * GeoUtils.METER_PER_DEGREE;
+    double bx = (b.getLng() - lng) * GeoUtils.METER_PER_DEGREE * cosLat;
+    double by = (b.getLat() - lat) * GeoUtils.METER_PER_DEGREE;
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSq = dx * dx + dy * dy;
+    double t = lengthSq == 0 ? 0 : -(ax * dx + ay * dy) / lengthSq;
+    t = Math.max(0, Math.min(1, t));
+    double ex = ax + t * dx;
+    double ey = ay + t * dy;
+    return ex * ex + ey * ey;
+  }
+
+  private long index(double degree) {
+    return (long) Math.floor(degree / cellDegree);
+  }
+
+  private static long cellKey(long latIdx, long lngIdx) {
+    return (latIdx << 32) | (lngIdx & 0xffffffffL);
+  }
+
+  private static long segmentRef(Long postId, int segment) {
+    return (postId << SEGMENT_BITS) | segment;
+  }
+
+  @FunctionalInterface
+  private interface SegmentCellConsumer {
+
+    void accept(int segment, long cellKey);
+  }
+}
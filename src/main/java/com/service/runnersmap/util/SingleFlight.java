@@ -0,0 +1,53 @@
+package com.service.runnersmap.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 동일 조회 요청 병합 (single-flight)
+ * - 같은 key 의 조회가 동시에 들어오면 먼저 들어온 요청만 실제로 수행하고,
+ *   수행 중에 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * - 결과를 보관하지 않으므로 수행이 끝난 뒤 들어온 요청은 다시 수행한다. (캐시 아님)
+ * - 결과 객체를 여러 요청이 공유하므로 지연 로딩 없이 완성된 객체를 반환하는 조회에만 사용한다.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  public V execute(K key, Callable<V> task) throws Exception {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+    if (running != null) {
+      return await(running);
+    }
+
+    try {
+      V result = task.call();
+      future.complete(result);
+      return result;
+    } catch (Exception | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private V await(CompletableFuture<V> running) throws Exception {
+    try {
+      return running.get();
+    } catch (ExecutionException | CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception exception) {
+        throw exception;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.service.runnersmap.util;
+
+/**
+ * 슬리피맵(z/x/y) 타일 좌표 계산 유틸 (Web Mercator)
+ */
+public final class TileUtils {
+
+  private TileUtils() {
+  }
+
+  /**
+   * 타일 좌표 -> 타일이 덮는 위경도 영역
+   */
+  public static BoundingBox tileBounds(int z, int x, int y) {
+    double n = 1 << z;
+    return new BoundingBox(
+        tileLat(y + 1, n),
+        x / n * 360.0 - 180.0,
+        tileLat(y, n),
+        (x + 1) / n * 360.0 - 180.0);
+  }
+
+  public static int tileX(double lng, int z) {
+    int n = 1 << z;
+    int x = (int) Math.floor((lng + 180.0) / 360.0 * n);
+    return Math.min(Math.max(x, 0), n - 1);
+  }
+
+  public static int tileY(double lat, int z) {
+    int n = 1 << z;
+    double latRad = Math.toRadians(lat);
+    int y = (int) Math.floor(
+        (1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+    return Math.min(Math.max(y, 0), n - 1);
+  }
+
+  public static boolean isValid(int z, int x, int y) {
+    int n = 1 << z;
+    return x >= 0 && x < n && y >= 0 && y < n;
+  }
+
+  private static double tileLat(int y, double n) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+  }
+}
@@ -0,0 +1,51 @@
+package com.service.runnersmap.util;
+
+import com.service.runnersmap.entity.TrackPoint;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 러닝 위치 기록으로 계산한 실제 달린 거리 / 시간
+ * - 수신 시각 순으로 정렬하고, 같은 시각의 중복 좌표와 GPS 튐(이동 속도가 MAX_SPEED 초과)은 거리에서 제외한다.
+ *
+ * @param distanceMeter 달린 거리(m)
+ * @param durationSeconds 첫 기록부터 마지막 기록까지 시간(초)
+ * @param pointCount 계산에 사용한 좌표 수
+ */
+public record TrackStats(double distanceMeter, long durationSeconds, int pointCount) {
+
+  // 사람이 달릴 수 없는 속도(m/s) : 약 43km/h
+  private static final double MAX_SPEED_METER_PER_SEC = 12.0;
+
+  public static TrackStats of(List<TrackPoint> track) {
+    List<TrackPoint> sorted = track.stream()
+        .sorted(Comparator.comparingLong(TrackPoint::getTime))
+        .toList();
+
+    double distance = 0;
+    int pointCount = 0;
+    TrackPoint prev = null;
+    for (TrackPoint point : sorted) {
+      if (prev == null) {
+        prev = point;
+        pointCount++;
+        continue;
+      }
+      long elapsedMillis = point.getTime() - prev.getTime();
+      if (elapsedMillis <= 0) {
+        continue;
+      }
+      double meter = GeoUtils.distanceKm(prev.getLat(), prev.getLng(), point.getLat(), point.getLng()) * 1000;
+      if (meter / (elapsedMillis / 1000.0) > MAX_SPEED_METER_PER_SEC) {
+        continue;
+      }
+      distance += meter;
+      prev = point;
+      pointCount++;
+    }
+
+    long durationSeconds = sorted.isEmpty() ? 0
+        : (sorted.get(sorted.size() - 1).getTime() - sorted.get(0).getTime()) / 1000;
+    return new TrackStats(distance, durationSeconds, pointCount);
+  }
+}
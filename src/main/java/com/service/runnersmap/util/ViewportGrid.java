@@ -0,0 +1,114 @@
+package com.service.runnersmap.util;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 지도 화면 영역(viewport) 격자 인덱스
+ * - 구독자별 화면 영역을 영역이 걸치는 격자(cell)에 등록해 두고,
+ *   좌표가 주어지면 해당 격자의 구독자만 영역 포함 여부를 확인한다. (전체 구독자를 훑지 않음)
+ * - 걸치는 격자가 너무 많은 넓은 영역은 격자에 등록하지 않고 별도로 보관하여 매번 확인한다.
+ */
+public class ViewportGrid {
+
+  private final double cellDegree;
+
+  private final int maxCellsPerViewport;
+
+  // 구독자 key -> 화면 영역
+  private final Map<String, BoundingBox> viewports = new ConcurrentHashMap<>();
+
+  // 격자 key -> 구독자 key 목록
+  private final Map<Long, Set<String>> cells = new ConcurrentHashMap<>();
+
+  // 격자에 등록하지 않은 넓은 영역의 구독자 key 목록
+  private final Set<String> wideViewports = ConcurrentHashMap.newKeySet();
+
+  public ViewportGrid(double cellDegree, int maxCellsPerViewport) {
+    this.cellDegree = cellDegree;
+    this.maxCellsPerViewport = maxCellsPerViewport;
+  }
+
+  public synchronized void put(String key, BoundingBox box) {
+    remove(key);
+    viewports.put(key, box);
+    if (cellCount(box) > maxCellsPerViewport) {
+      wideViewports.add(key);
+      return;
+    }
+    forEachCell(box, cellKey -> cells
+        .computeIfAbsent(cellKey, k -> ConcurrentHashMap.newKeySet())
+        .add(key));
+  }
+
+  public synchronized void remove(String key) {
+    BoundingBox box = viewports.remove(key);
+    if (box == null) {
+      return;
+    }
+    if (wideViewports.remove(key)) {
+      return;
+    }
+    forEachCell(box, cellKey -> {
+      Set<String> keys = cells.get(cellKey);
+      if (keys != null) {
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          cells.remove(cellKey);
+        }
+      }
+    });
+  }
+
+  /**
+   * 좌표를 화면 영역 안에 포함하는 구독자 key 목록
+   */
+  public Set<String> findContaining(double lat, double lng) {
+    Set<String> result = new HashSet<>();
+    Set<String> keys = cells.get(cellKey(index(lat), index(lng)));
+    if (keys != null) {
+      keys.forEach(key -> addIfContains(result, key, lat, lng));
+    }
+    wideViewports.forEach(key -> addIfContains(result, key, lat, lng));
+    return result;
+  }
+
+  public BoundingBox get(String key) {
+    return viewports.get(key);
+  }
+
+  public int size() {
+    return viewports.size();
+  }
+
+  private void addIfContains(Set<String> result, String key, double lat, double lng) {
+    BoundingBox box = viewports.get(key);
+    if (box != null && box.contains(lat, lng)) {
+      result.add(key);
+    }
+  }
+
+  private long cellCount(BoundingBox box) {
+    return (index(box.getMaxLat()) - index(box.getMinLat()) + 1)
+        * (index(box.getMaxLng()) - index(box.getMinLng()) + 1);
+  }
+
+  private void forEachCell(BoundingBox box, LongConsumer consumer) {
+    for (long latIdx = index(box.getMinLat()); latIdx <= index(box.getMaxLat()); latIdx++) {
+      for (long lngIdx = index(box.getMinLng()); lngIdx <= index(box.getMaxLng()); lngIdx++) {
+        consumer.accept(cellKey(latIdx, lngIdx));
+      }
+    }
+  }
+
+  private long index(double degree) {
+    return (long) Math.floor(degree / cellDegree);
+  }
+
+  private static long cellKey(long latIdx, long lngIdx) {
+    return (latIdx << 32) | (lngIdx & 0xffffffffL);
+  }
+}
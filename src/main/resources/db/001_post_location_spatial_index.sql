@@ -0,0 +1,10 @@
+-- 지도 조회(findAllWithin2Km)용 공간 인덱스
+-- lat/lng 로부터 자동 계산되는 POINT 컬럼을 추가하고 SPATIAL INDEX 를 생성한다.
+-- (애플리케이션에서는 location 컬럼에 값을 쓰지 않음, MySQL 8.0 이상)
+
+ALTER TABLE post
+    ADD COLUMN location POINT
+        GENERATED ALWAYS AS (POINT(lng, lat)) STORED NOT NULL SRID 0;
+
+ALTER TABLE post
+    ADD SPATIAL INDEX idx_post_location (location);
@@ -0,0 +1,15 @@
+-- 모집글 경로(path) 저장 형식 변경 : JSON LONGTEXT -> 바이너리(PathCodec) MEDIUMBLOB
+-- 1) path_bin 컬럼을 추가하고 기존 path 컬럼은 NULL 허용으로 변경한다.
+-- 2) 변환되지 않은 행(JSON path)은 004_post_route.sql 적용 후 runners.migration.post-path=true 로
+--    한 번 기동하여 PostPathMigrator 로 이관한다.
+-- 3) 모든 행이 변환된 것을 확인한 뒤 path_bin 을 NOT NULL 로 바꾸고 기존 path 컬럼을 삭제한다.
+--    (004_post_route.sql 적용 시 경로는 post_route 테이블로 이동)
+
+ALTER TABLE post
+    ADD COLUMN path_bin MEDIUMBLOB NULL,
+    MODIFY COLUMN path LONGTEXT NULL;
+
+-- (3) 이관 완료 확인 후 수행
+-- SELECT COUNT(*) FROM post WHERE path_bin IS NULL;
+-- ALTER TABLE post MODIFY COLUMN path_bin MEDIUMBLOB NOT NULL;
+-- ALTER TABLE post DROP COLUMN path;
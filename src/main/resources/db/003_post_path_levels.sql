@@ -0,0 +1,7 @@
+-- 지도 표시용 단순화 경로 (Douglas-Peucker, 허용 오차 5m / 20m / 80m)
+-- 경로 등록/수정 시 애플리케이션에서 생성하며, 값이 없는 기존 모집글은 원본 경로로 응답한다.
+
+ALTER TABLE post
+    ADD COLUMN path_high MEDIUMBLOB NULL,
+    ADD COLUMN path_medium MEDIUMBLOB NULL,
+    ADD COLUMN path_low MEDIUMBLOB NULL;
@@ -0,0 +1,32 @@
+-- 모집글 경로를 별도 테이블(post_route)로 분리
+-- 모집글 조회/검증 시 경로(MEDIUMBLOB)를 읽지 않도록 경로가 필요한 조회에서만 post_route 를 조회한다.
+-- 1) post_route 를 생성하고 002/003 에서 post 테이블에 저장된 바이너리 경로를 옮긴다.
+-- 2) 아직 바이너리로 변환되지 않은 모집글(JSON path)은 runners.migration.post-path=true 로 한 번 기동하여
+--    PostPathMigrator 로 post_route 에 이관한다. (평소 기동에는 수행되지 않음)
+-- 3) 모든 모집글의 경로가 이관된 것을 확인한 뒤 post 테이블의 기존 경로 컬럼을 삭제한다.
+
+CREATE TABLE post_route
+(
+    post_id     BIGINT     NOT NULL,
+    path_bin    MEDIUMBLOB NOT NULL,
+    path_high   MEDIUMBLOB NULL,
+    path_medium MEDIUMBLOB NULL,
+    path_low    MEDIUMBLOB NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_route_post FOREIGN KEY (post_id) REFERENCES post (post_id)
+);
+
+INSERT INTO post_route (post_id, path_bin, path_high, path_medium, path_low)
+SELECT post_id, path_bin, path_high, path_medium, path_low
+FROM post
+WHERE path_bin IS NOT NULL;
+
+ALTER TABLE post
+    DROP COLUMN path_bin,
+    DROP COLUMN path_high,
+    DROP COLUMN path_medium,
+    DROP COLUMN path_low;
+
+-- (3) 이관 완료 확인 후 수행
+-- SELECT COUNT(*) FROM post p LEFT JOIN post_route r ON r.post_id = p.post_id WHERE r.post_id IS NULL;
+-- ALTER TABLE post DROP COLUMN path;
@@ -0,0 +1,22 @@
+-- 지도 검색 조건용 컬럼 및 복합 인덱스
+-- pace_total_sec : 예상 페이스(초), 계산식((pace_min + pace_sec / 60)) 대신 인덱스/범위 비교가 가능한 컬럼
+-- geo_cell       : 중심 좌표의 0.02도 격자 번호 (GeoCell 과 같은 계산식)
+-- 두 컬럼 모두 애플리케이션에서 저장/수정 시 계산한다. (Post @PrePersist/@PreUpdate)
+
+ALTER TABLE post
+    ADD COLUMN pace_total_sec INT NULL,
+    ADD COLUMN geo_cell BIGINT NULL;
+
+UPDATE post
+SET pace_total_sec = pace_min * 60 + pace_sec,
+    geo_cell       = (FLOOR(lat / 0.02) + 5000) * 20000 + (FLOOR(lng / 0.02) + 10000);
+
+ALTER TABLE post
+    MODIFY COLUMN pace_total_sec INT NOT NULL,
+    MODIFY COLUMN geo_cell BIGINT NOT NULL;
+
+-- 지도 노출 조건 (출발 예정 / 도착 후 3일 이내)
+CREATE INDEX idx_post_arrive_start ON post (arrive_yn, start_date_time);
+
+-- 지도 검색 (격자 IN + 지도 노출 조건)
+CREATE INDEX idx_post_cell_arrive_start ON post (geo_cell, arrive_yn, start_date_time);
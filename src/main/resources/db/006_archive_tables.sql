@@ -0,0 +1,30 @@
+-- 완료된 러닝 모집글 보관 테이블 (archiveJob : PostArchiveService)
+-- 도착 완료 후 보관 기간(30일)이 지난 모집글과 연관 데이터를 옮겨 지도 검색 대상 테이블(post)과 인덱스를 작게 유지한다.
+-- 기존 테이블과 같은 구조(LIKE)로 생성하되, 외래키는 두지 않고 검색용 컬럼/인덱스는 제외한다.
+-- 이후 기존 테이블에 컬럼이 추가되면 보관 테이블에도 같이 추가해야 옮겨진다. (보관 테이블에 있는 컬럼만 옮김)
+
+CREATE TABLE IF NOT EXISTS post_archive LIKE post;
+ALTER TABLE post_archive
+    DROP INDEX idx_post_location,
+    DROP INDEX idx_post_arrive_start,
+    DROP INDEX idx_post_cell_arrive_start,
+    DROP COLUMN location;
+
+CREATE TABLE IF NOT EXISTS post_route_archive LIKE post_route;
+
+-- 러닝 기록 조회(searchRunningData), 랭킹 집계(rankJob)용 인덱스
+CREATE TABLE IF NOT EXISTS user_post_archive LIKE user_post;
+CREATE INDEX idx_user_post_archive_user_month ON user_post_archive (users_id, year, month);
+CREATE INDEX idx_user_post_archive_month ON user_post_archive (year, month);
+
+CREATE TABLE IF NOT EXISTS after_run_picture_archive LIKE after_run_picture;
+
+CREATE TABLE IF NOT EXISTS likes_archive LIKE likes;
+
+CREATE TABLE IF NOT EXISTS comment_archive LIKE comment;
+
+CREATE TABLE IF NOT EXISTS chat_room_archive LIKE chat_room;
+
+CREATE TABLE IF NOT EXISTS chat_message_archive LIKE chat_message;
+
+-- 보관 대상 조회 (도착 완료 + 출발일시) 는 idx_post_arrive_start (db/005) 를 사용
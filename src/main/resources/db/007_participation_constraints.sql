@@ -0,0 +1,60 @@
+-- 러닝 참여 인원 제한 / 중복 참여 방지 (UserPostService.participate)
+-- current_member_cnt : 현재 참여 인원, 조건부 UPDATE(current_member_cnt < limit_member_cnt) 로만 증감한다.
+-- run_date           : 러닝 날짜 (모집글 출발일자), 참여/모집글 등록 시 애플리케이션에서 저장한다.
+-- valid_post_id / valid_run_date : 유효한 참여(valid_yn = TRUE)일 때만 값이 있는 생성 컬럼
+--   NULL 은 유니크 키에서 중복으로 보지 않으므로, 나가기(valid_yn = FALSE) 한 이력은 제약에 걸리지 않는다.
+
+ALTER TABLE post
+    ADD COLUMN current_member_cnt INT NOT NULL DEFAULT 0;
+
+ALTER TABLE user_post
+    ADD COLUMN run_date DATE NULL;
+
+UPDATE user_post up
+    JOIN post p ON p.post_id = up.post_id
+SET up.run_date = DATE(p.start_date_time);
+
+ALTER TABLE user_post
+    MODIFY COLUMN run_date DATE NOT NULL;
+
+-- 유니크 키 추가 전, 동시 요청으로 이미 중복 저장된 유효 참여는 먼저 저장된 건만 남기고 무효 처리
+UPDATE user_post up
+    JOIN (SELECT users_id, post_id, MIN(user_post_id) AS keep_id
+          FROM user_post
+          WHERE valid_yn = TRUE
+          GROUP BY users_id, post_id
+          HAVING COUNT(*) > 1) dup
+    ON dup.users_id = up.users_id AND dup.post_id = up.post_id
+SET up.valid_yn = FALSE
+WHERE up.valid_yn = TRUE
+  AND up.user_post_id <> dup.keep_id;
+
+UPDATE user_post up
+    JOIN (SELECT users_id, run_date, MIN(user_post_id) AS keep_id
+          FROM user_post
+          WHERE valid_yn = TRUE
+          GROUP BY users_id, run_date
+          HAVING COUNT(*) > 1) dup
+    ON dup.users_id = up.users_id AND dup.run_date = up.run_date
+SET up.valid_yn = FALSE
+WHERE up.valid_yn = TRUE
+  AND up.user_post_id <> dup.keep_id;
+
+ALTER TABLE user_post
+    ADD COLUMN valid_post_id BIGINT AS (IF(valid_yn, post_id, NULL)) STORED,
+    ADD COLUMN valid_run_date DATE AS (IF(valid_yn, run_date, NULL)) STORED,
+    ADD UNIQUE KEY uk_user_post_valid_post (users_id, valid_post_id),
+    ADD UNIQUE KEY uk_user_post_valid_run_date (users_id, valid_run_date);
+
+UPDATE post p
+SET p.current_member_cnt = (SELECT COUNT(*)
+                            FROM user_post up
+                            WHERE up.post_id = p.post_id
+                              AND up.valid_yn = TRUE);
+
+-- 보관 테이블 (db/006) 에도 같은 컬럼 추가 (생성 컬럼 / 유니크 키는 제외)
+ALTER TABLE post_archive
+    ADD COLUMN current_member_cnt INT NOT NULL DEFAULT 0;
+
+ALTER TABLE user_post_archive
+    ADD COLUMN run_date DATE NULL;
@@ -0,0 +1,17 @@
+-- 러닝 소요시간(초) 컬럼 : 러닝기록 조회(searchRunningData) 의 일별 소요시간을 SQL 로 합산하기 위함
+-- 러닝 완료(completeRecord) 시 running_duration 과 함께 저장한다.
+-- 기존 running_duration 은 Hibernate 가 Duration 을 나노초 숫자로 저장한 값이므로 초 단위로 변환하여 채움
+
+ALTER TABLE user_post
+    ADD COLUMN running_seconds BIGINT NULL;
+
+UPDATE user_post
+SET running_seconds = running_duration DIV 1000000000
+WHERE running_duration IS NOT NULL;
+
+ALTER TABLE user_post_archive
+    ADD COLUMN running_seconds BIGINT NULL;
+
+UPDATE user_post_archive
+SET running_seconds = running_duration DIV 1000000000
+WHERE running_duration IS NOT NULL;
@@ -0,0 +1,16 @@
+-- 러닝 위치 기록 (RunTrackStore)
+-- 러닝 중 수신한 위치를 서버 메모리에 모아 두었다가 일정 주기마다 러닝별 한 행(TrackCodec 바이너리)으로 저장한다.
+-- 러닝 완료 시 전체 행을 읽어 실제 달린 거리 / 시간을 계산한다. (user_post.total_distance, running_seconds)
+
+CREATE TABLE IF NOT EXISTS run_track
+(
+    run_track_id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_post_id       BIGINT     NOT NULL,
+    point_count        INT        NOT NULL,
+    data               MEDIUMBLOB NOT NULL,
+    created_date_time  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_run_track_user_post (user_post_id, run_track_id)
+);
+
+-- 보관 테이블 (archiveJob : 참여 기록과 함께 옮김)
+CREATE TABLE IF NOT EXISTS run_track_archive LIKE run_track;
@@ -0,0 +1,18 @@
+-- 남은 러너 수 : 완료(actual_end_time)하지 않은 유효 참여 인원
+-- 완료 / 완료 전 나가기 시 조건부 UPDATE(remaining_runner_cnt > 0) 로만 감소하고,
+-- 0 이 되면 arrive_yn 을 한 번만 TRUE 로 변경한다. (UserPostService.completeRecord)
+-- 기존 미완료 러너 존재여부 조회(user_post 전체 확인)를 대신함
+
+ALTER TABLE post
+    ADD COLUMN remaining_runner_cnt INT NOT NULL DEFAULT 0;
+
+UPDATE post p
+SET p.remaining_runner_cnt = (SELECT COUNT(*)
+                              FROM user_post up
+                              WHERE up.post_id = p.post_id
+                                AND up.valid_yn = TRUE
+                                AND up.actual_end_time IS NULL);
+
+-- 보관 테이블 (db/006) 에도 같은 컬럼 추가
+ALTER TABLE post_archive
+    ADD COLUMN remaining_runner_cnt INT NOT NULL DEFAULT 0;
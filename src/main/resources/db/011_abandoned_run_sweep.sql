@@ -0,0 +1,13 @@
+-- 출발 후 완료되지 않은 러닝 자동 종료 (AbandonedRunService, JobScheduler 5분마다)
+-- abandoned_yn : 자동 종료 시 완료하지 않은 참여자 표시 (러닝 기록 / 랭킹 집계는 actual_end_time 기준이라 제외됨)
+-- idx_post_open_run : 종료 대상 조회 (arrive_yn = FALSE AND departure_yn = TRUE AND start_date_time < ?)
+--   출발하지 않은 채 지난 모집글은 인덱스 범위에 포함되지 않으므로 테이블이 커져도 대상 건만 읽는다.
+
+ALTER TABLE user_post
+    ADD COLUMN abandoned_yn BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_post_open_run ON post (arrive_yn, departure_yn, start_date_time);
+
+-- 보관 테이블 (db/006) 에도 같은 컬럼 추가
+ALTER TABLE user_post_archive
+    ADD COLUMN abandoned_yn BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,105 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.UserRepository;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.support.RunnersTables;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다른 서버에서의 모집글 변경(이벤트 없이 DB 만 변경됨)이 동기화(sync)로 인덱스에 반영되는지 확인 (H2)
+ */
+@RunnersDataJpaTest
+@Import(LivePostIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LivePostIndexSyncTest {
+
+  @Autowired
+  private LivePostIndex index;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User admin;
+
+  @BeforeEach
+  void setUp() {
+    admin = userRepository.save(RunnersFixtures.user("admin"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 다른_서버의_등록_수정_삭제_도착을_반영() {
+    LocalDateTime start = LocalDateTime.now().plusHours(1);
+    Long unchanged = save(start);
+    Long modified = save(start);
+    Long deleted = save(start);
+    Long arrived = save(LocalDateTime.now().minusHours(1));
+    index.load();
+    PostDto unchangedBefore = index.get(unchanged);
+
+    // 다른 서버에서 변경
+    Long registered = save(start);
+    jdbcTemplate.update("UPDATE post SET lat = 35.1796, lng = 129.0756, updated_date_time = ? "
+        + "WHERE post_id = ?", LocalDateTime.now(), modified);
+    jdbcTemplate.update("DELETE FROM post WHERE post_id = ?", deleted);
+    // 도착 처리는 수정일시를 바꾸지 않는 벌크 수정
+    jdbcTemplate.update("UPDATE post SET departure_yn = true, arrive_yn = true WHERE post_id = ?",
+        arrived);
+
+    index.sync();
+
+    assertNotNull(index.get(registered));
+    assertEquals(35.1796, index.get(modified).getCenterLat(), 1e-9);
+    assertNull(index.get(deleted));
+    assertTrue(index.get(arrived).getArriveYn());
+    // 변경되지 않은 모집글은 다시 적재하지 않음
+    assertSame(unchangedBefore, index.get(unchanged));
+  }
+
+  @Test
+  void 이벤트로_반영된_모집글은_다음_동기화에서_DB_기준으로_다시_적재() {
+    Long postId = save(LocalDateTime.now().plusHours(1));
+    index.load();
+
+    // 이벤트로 반영된 내용과 DB 가 다르면 DB 기준으로 맞춤
+    index.put(index.get(postId).toBuilder().title("이벤트 반영").build());
+    index.sync();
+
+    assertEquals("한강 러닝", index.get(postId).getTitle());
+  }
+
+  private Long save(LocalDateTime startDateTime) {
+    Post post = RunnersFixtures.post(admin, startDateTime);
+    post.setUpdatedDateTime(LocalDateTime.now());
+    return postRepository.save(post).getPostId();
+  }
+}
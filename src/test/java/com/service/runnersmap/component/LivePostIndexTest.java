@@ -0,0 +1,197 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.service.runnersmap.dto.PostClusterDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.entity.Path;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.PostRouteRepository;
+import com.service.runnersmap.type.PostChangeType;
+import com.service.runnersmap.util.BoundingBox;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LivePostIndexTest {
+
+  // 서울 시청 기준
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.9780;
+
+  private static final double RADIUS_KM = 2.0;
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 12, 0);
+
+  private final LivePostIndex index = new LivePostIndex(
+      mock(PostRepository.class), mock(PostRouteRepository.class));
+
+  @Test
+  void 반경_내_노출대상만_출발일시_순으로_조회() {
+    index.put(post(1L, CENTER_LAT + 0.005, CENTER_LNG, NOW.plusHours(3), false));
+    index.put(post(2L, CENTER_LAT, CENTER_LNG + 0.005, NOW.plusHours(1), false));
+    // 검색 사각형 안이지만 반경(2km) 밖 (약 2.4km)
+    index.put(post(3L, CENTER_LAT + 0.015, CENTER_LNG + 0.019, NOW.plusHours(2), false));
+    // 반경 내지만 노출 대상 아님 (출발일시가 지났는데 도착하지 않음)
+    index.put(post(4L, CENTER_LAT, CENTER_LNG, NOW.minusHours(1), false));
+    // 부산
+    index.put(post(5L, 35.1796, 129.0756, NOW.plusHours(1), false));
+
+    List<PostDto> result = index.search(search(), RADIUS_KM, 20, NOW);
+
+    assertEquals(List.of(2L, 1L), postIds(result));
+  }
+
+  @Test
+  void 조회_건수_제한과_필터_조건() {
+    for (long postId = 1; postId <= 30; postId++) {
+      index.put(post(postId, CENTER_LAT, CENTER_LNG, NOW.plusMinutes(postId), false).toBuilder()
+          .gender(postId % 2 == 0 ? "FEMALE" : "MALE")
+          .build());
+    }
+
+    assertEquals(20, index.search(search(), RADIUS_KM, 20, NOW).size());
+
+    List<PostDto> female = index.search(PostInDto.builder()
+        .lat(CENTER_LAT).lng(CENTER_LNG).gender("FEMALE").build(), RADIUS_KM, 20, NOW);
+    assertEquals(15, female.size());
+    assertTrue(female.stream().allMatch(post -> "FEMALE".equals(post.getGender())));
+  }
+
+  @Test
+  void 도착_완료_모집글은_출발일시부터_3일_동안만_노출() {
+    assertTrue(LivePostIndex.isVisible(post(1L, 0, 0, NOW.minusDays(3), true), NOW));
+    assertTrue(LivePostIndex.isVisible(post(1L, 0, 0, NOW, true), NOW));
+    assertFalse(LivePostIndex.isVisible(post(1L, 0, 0, NOW.minusDays(3).minusMinutes(1), true), NOW));
+    // 출발 예정인데 도착 처리된 경우(비정상)는 노출하지 않음
+    assertFalse(LivePostIndex.isVisible(post(1L, 0, 0, NOW.plusMinutes(1), true), NOW));
+
+    // 도착 전 모집글은 출발 예정일 때만
+    assertTrue(LivePostIndex.isVisible(post(1L, 0, 0, NOW, false), NOW));
+    assertFalse(LivePostIndex.isVisible(post(1L, 0, 0, NOW.minusMinutes(1), false), NOW));
+  }
+
+  @Test
+  void 등록_수정_삭제_반영() {
+    PostDto registered = post(1L, CENTER_LAT, CENTER_LNG, NOW.plusHours(1), false);
+    index.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 1L, null, registered));
+    assertEquals(List.of(1L), postIds(index.search(search(), RADIUS_KM, 20, NOW)));
+
+    // 부산으로 이동 : 기존 격자에서 제거되고 새 격자에서 조회
+    PostDto moved = registered.toBuilder().centerLat(35.1796).centerLng(129.0756).build();
+    index.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 1L, registered, moved));
+    assertTrue(index.search(search(), RADIUS_KM, 20, NOW).isEmpty());
+    assertEquals(List.of(1L), postIds(index.search(PostInDto.builder()
+        .lat(35.1796).lng(129.0756).build(), RADIUS_KM, 20, NOW)));
+
+    index.onPostChange(new PostChangeEvent(PostChangeType.DELETE, 1L, moved, null));
+    assertNull(index.get(1L));
+    assertTrue(index.search(PostInDto.builder()
+        .lat(35.1796).lng(129.0756).build(), RADIUS_KM, 20, NOW).isEmpty());
+  }
+
+  @Test
+  void 도착_반영시_경로는_유지하고_3일_동안_노출() {
+    List<Path> path = List.of(new Path(CENTER_LAT, CENTER_LNG), new Path(CENTER_LAT + 0.001, CENTER_LNG));
+    PostDto registered = post(1L, CENTER_LAT, CENTER_LNG, NOW.minusHours(1), false).toBuilder()
+        .path(path)
+        .build();
+    index.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 1L, null, registered));
+    // 출발일시가 지났고 아직 도착 전
+    assertTrue(index.search(search(), RADIUS_KM, 20, NOW).isEmpty());
+
+    // 출발/도착 이벤트는 경로 없이 전달됨
+    PostDto arrived = registered.toBuilder().path(null).arriveYn(true).build();
+    index.onPostChange(new PostChangeEvent(PostChangeType.COMPLETE, 1L, registered, arrived));
+
+    assertEquals(List.of(1L), postIds(index.search(search(), RADIUS_KM, 20, NOW)));
+    assertEquals(path, index.get(1L).getPath());
+    assertEquals(List.of(1L), postIds(index.searchNearRoute(CENTER_LAT, CENTER_LNG, 50, 20, NOW)));
+    assertTrue(index.search(search(), RADIUS_KM, 20, NOW.plusDays(3)).isEmpty());
+  }
+
+  @Test
+  void 경로가_근처를_지나는_노출대상_모집글만_출발일시_순으로_조회() {
+    // 출발 지점은 약 1.7km 떨어져 있지만 경로가 중심 옆(약 110m)을 지남
+    index.put(post(1L, CENTER_LAT, CENTER_LNG - 0.02, NOW.plusHours(2), false).toBuilder()
+        .path(List.of(new Path(CENTER_LAT + 0.001, CENTER_LNG - 0.02),
+            new Path(CENTER_LAT + 0.001, CENTER_LNG + 0.02)))
+        .build());
+    index.put(post(2L, CENTER_LAT, CENTER_LNG, NOW.plusHours(1), false).toBuilder()
+        .path(List.of(new Path(CENTER_LAT, CENTER_LNG), new Path(CENTER_LAT, CENTER_LNG + 0.001)))
+        .build());
+    // 경로가 멀리 있음 (약 1.1km)
+    index.put(post(3L, CENTER_LAT, CENTER_LNG, NOW.plusHours(1), false).toBuilder()
+        .path(List.of(new Path(CENTER_LAT + 0.01, CENTER_LNG), new Path(CENTER_LAT + 0.01, CENTER_LNG + 0.01)))
+        .build());
+    // 경로는 가깝지만 노출 대상 아님
+    index.put(post(4L, CENTER_LAT, CENTER_LNG, NOW.minusHours(1), false).toBuilder()
+        .path(List.of(new Path(CENTER_LAT, CENTER_LNG), new Path(CENTER_LAT, CENTER_LNG + 0.001)))
+        .build());
+
+    assertEquals(List.of(2L, 1L), postIds(index.searchNearRoute(CENTER_LAT, CENTER_LNG, 200, 20, NOW)));
+    assertEquals(List.of(2L), postIds(index.searchNearRoute(CENTER_LAT, CENTER_LNG, 200, 1, NOW)));
+    assertEquals(List.of(2L), postIds(index.searchNearRoute(CENTER_LAT, CENTER_LNG, 50, 20, NOW)));
+
+    index.remove(2L);
+    assertEquals(List.of(1L), postIds(index.searchNearRoute(CENTER_LAT, CENTER_LNG, 200, 20, NOW)));
+  }
+
+  @Test
+  void 격자_경계_양쪽의_모집글은_다른_묶음으로_집계() {
+    double cellDegree = 0.01;
+    // 위도 37.56 경계 아래 1개, 위 2개 (경도는 같은 격자)
+    index.put(post(1L, 37.5599, 126.9750, NOW.plusHours(1), false));
+    index.put(post(2L, 37.5601, 126.9750, NOW.plusHours(1), false));
+    index.put(post(3L, 37.5609, 126.9790, NOW.plusHours(2), true).toBuilder()
+        .startDateTime(NOW.minusDays(1))
+        .build());
+    // 같은 격자지만 노출 대상 아님
+    index.put(post(4L, 37.5605, 126.9770, NOW.minusHours(1), false));
+    // 영역 밖
+    index.put(post(5L, 37.6500, 126.9750, NOW.plusHours(1), false));
+
+    List<PostClusterDto> clusters = index.cluster(
+        new BoundingBox(37.50, 126.90, 37.60, 127.00), cellDegree, NOW).stream()
+        .sorted(Comparator.comparing(PostClusterDto::getLat))
+        .toList();
+
+    assertEquals(2, clusters.size());
+    assertEquals(1L, clusters.get(0).getCount());
+    assertEquals(37.5599, clusters.get(0).getLat(), 1e-9);
+    assertEquals(126.9750, clusters.get(0).getLng(), 1e-9);
+    assertEquals(2L, clusters.get(1).getCount());
+    assertEquals(37.5605, clusters.get(1).getLat(), 1e-9);
+    assertEquals(126.9770, clusters.get(1).getLng(), 1e-9);
+  }
+
+  private static PostInDto search() {
+    return PostInDto.builder().lat(CENTER_LAT).lng(CENTER_LNG).build();
+  }
+
+  private static List<Long> postIds(List<PostDto> posts) {
+    return posts.stream().map(PostDto::getPostId).toList();
+  }
+
+  private static PostDto post(Long postId, double lat, double lng, LocalDateTime startDateTime,
+      boolean arriveYn) {
+    return PostDto.builder()
+        .postId(postId)
+        .centerLat(lat)
+        .centerLng(lng)
+        .startDateTime(startDateTime)
+        .arriveYn(arriveYn)
+        .paceMin(6)
+        .paceSec(0)
+        .distance(5.0)
+        .limitMemberCnt(5)
+        .build();
+  }
+}
@@ -0,0 +1,82 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.service.runnersmap.dto.LivePositionDto;
+import com.service.runnersmap.dto.LivePositionsDto;
+import com.service.runnersmap.event.ParticipantStateEvent;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.type.ParticipantStateType;
+import com.service.runnersmap.type.PostChangeType;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class LiveRunPositionsTest {
+
+  private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+
+  private final LiveRunPositions liveRunPositions = new LiveRunPositions(template);
+
+  @Test
+  void 주기_동안_여러번_보낸_위치는_참여자별_마지막_위치_한건으로_전달() {
+    for (int i = 1; i <= 50; i++) {
+      liveRunPositions.update(1L, position(10L, i));
+      liveRunPositions.update(1L, position(20L, i));
+    }
+    // 늦게 도착한 이전 위치는 무시
+    liveRunPositions.update(1L, position(10L, 3));
+
+    liveRunPositions.broadcast();
+
+    ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+    verify(template, times(1)).convertAndSend(eq("/sub/posts/1/positions"), message.capture());
+    Map<Long, Long> times = ((LivePositionsDto) message.getValue()).getPositions().stream()
+        .collect(Collectors.toMap(LivePositionDto::getUserId, LivePositionDto::getTime));
+    assertEquals(Map.of(10L, 50L, 20L, 50L), times);
+  }
+
+  @Test
+  void 변경이_없으면_전달하지_않음() {
+    liveRunPositions.update(1L, position(10L, 1));
+    liveRunPositions.broadcast();
+    clearInvocations(template);
+
+    liveRunPositions.broadcast();
+
+    verify(template, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  void 완료한_참여자는_제외하고_도착한_모집글은_정리() {
+    liveRunPositions.update(1L, position(10L, 1));
+    liveRunPositions.update(1L, position(20L, 1));
+    liveRunPositions.broadcast();
+    clearInvocations(template);
+
+    liveRunPositions.onParticipantStateChange(
+        new ParticipantStateEvent(1L, 10L, ParticipantStateType.COMPLETE));
+    liveRunPositions.broadcast();
+
+    ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+    verify(template).convertAndSend(eq("/sub/posts/1/positions"), message.capture());
+    assertEquals(1, ((LivePositionsDto) message.getValue()).getPositions().size());
+
+    liveRunPositions.onPostChange(new PostChangeEvent(PostChangeType.COMPLETE, 1L, null, null));
+    assertEquals(0, liveRunPositions.size());
+  }
+
+  private static LivePositionDto position(Long userId, long time) {
+    return new LivePositionDto(userId, 37.5 + time * 0.0001, 127.0, time);
+  }
+}
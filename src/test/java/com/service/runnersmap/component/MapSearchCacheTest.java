@@ -0,0 +1,74 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.type.PostChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MapSearchCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private MapSearchCache mapSearchCache;
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private final Function<PostInDto, List<PostDto>> loader = inDto -> {
+    loadCount.incrementAndGet();
+    return List.of();
+  };
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    mapSearchCache = new MapSearchCache(meterRegistry);
+    mapSearchCache.bindMetrics();
+  }
+
+  @Test
+  void 같은_격자_같은_필터의_조회는_결과를_공유() {
+    // 약 10m 떨어진 중심 좌표 (같은 격자)
+    mapSearchCache.get(search(37.56651, 126.97801, null), loader);
+    mapSearchCache.get(search(37.56660, 126.97810, null), loader);
+
+    assertEquals(1, loadCount.get());
+    assertEquals(1, meterRegistry.get("map.search.latency").tag("cache", "hit").timer().count());
+    assertEquals(1, meterRegistry.get("map.search.latency").tag("cache", "miss").timer().count());
+  }
+
+  @Test
+  void 필터가_다르거나_다른_격자면_따로_조회() {
+    mapSearchCache.get(search(37.5665, 126.9780, null), loader);
+    mapSearchCache.get(search(37.5665, 126.9780, "FEMALE"), loader);
+    mapSearchCache.get(search(37.5765, 126.9780, null), loader);
+
+    assertEquals(3, loadCount.get());
+  }
+
+  @Test
+  void 조회반경_내_모집글이_변경되면_결과_무효화() {
+    mapSearchCache.get(search(37.5665, 126.9780, null), loader);
+    mapSearchCache.get(search(35.1796, 129.0756, null), loader); // 부산
+
+    // 서울 시청에서 약 1km 떨어진 모집글 등록
+    PostDto post = PostDto.builder().postId(1L).centerLat(37.5755).centerLng(126.9780).build();
+    mapSearchCache.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 1L, null, post));
+
+    mapSearchCache.get(search(37.5665, 126.9780, null), loader);
+    mapSearchCache.get(search(35.1796, 129.0756, null), loader);
+
+    assertEquals(3, loadCount.get());
+  }
+
+  private static PostInDto search(double lat, double lng, String gender) {
+    return PostInDto.builder().lat(lat).lng(lng).gender(gender).build();
+  }
+}
@@ -0,0 +1,193 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.service.runnersmap.dto.MapViewportDto;
+import com.service.runnersmap.dto.PostDiffDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.entity.Path;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.exception.RunnersMapException;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.PostRouteRepository;
+import com.service.runnersmap.type.PathDetail;
+import com.service.runnersmap.type.PostChangeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class MapViewportSubscriptionsTest {
+
+  private static final String SESSION_ID = "session-a";
+
+  // 서울 시청 주변 / 부산
+  private static final double INSIDE_LAT = 37.5665;
+  private static final double INSIDE_LNG = 126.9780;
+  private static final double OUTSIDE_LAT = 35.1796;
+  private static final double OUTSIDE_LNG = 129.0756;
+
+  private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+
+  private final LivePostIndex livePostIndex = new LivePostIndex(
+      mock(PostRepository.class), mock(PostRouteRepository.class));
+
+  private final MapViewportSubscriptions subscriptions =
+      new MapViewportSubscriptions(template, livePostIndex);
+
+  @BeforeEach
+  void setUp() {
+    subscriptions.subscribe(SESSION_ID, viewport().build());
+  }
+
+  @Test
+  void 화면_영역에_새로_노출되면_추가() {
+    PostDto post = post(INSIDE_LAT, INSIDE_LNG);
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 1L, null, post));
+
+    PostDiffDto diff = sentDiff();
+    assertEquals(List.of(1L), diff.getAdded().stream().map(PostDto::getPostId).toList());
+    assertTrue(diff.getChanged().isEmpty());
+    assertTrue(diff.getRemoved().isEmpty());
+  }
+
+  @Test
+  void 화면_영역_안에서_수정되면_변경() {
+    PostDto before = post(INSIDE_LAT, INSIDE_LNG);
+    PostDto after = before.toBuilder().centerLat(INSIDE_LAT + 0.01).title("변경").build();
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 1L, before, after));
+
+    PostDiffDto diff = sentDiff();
+    assertTrue(diff.getAdded().isEmpty());
+    assertEquals("변경", diff.getChanged().get(0).getTitle());
+    assertTrue(diff.getRemoved().isEmpty());
+  }
+
+  @Test
+  void 화면_영역_밖으로_이동하거나_삭제되면_제거() {
+    PostDto before = post(INSIDE_LAT, INSIDE_LNG);
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 1L, before,
+        post(OUTSIDE_LAT, OUTSIDE_LNG)));
+    assertEquals(List.of(1L), sentDiff().getRemoved());
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.DELETE, 2L, before, null));
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(template, times(2))
+        .convertAndSendToUser(eq(SESSION_ID), eq(MapViewportSubscriptions.DESTINATION),
+            captor.capture(), anyMap());
+    assertEquals(List.of(2L), ((PostDiffDto) captor.getAllValues().get(1)).getRemoved());
+  }
+
+  @Test
+  void 필터에_맞지_않게_바뀌면_제거_맞게_바뀌면_추가() {
+    subscriptions.subscribe(SESSION_ID, viewport().gender("FEMALE").build());
+    PostDto male = post(INSIDE_LAT, INSIDE_LNG).toBuilder().gender("MALE").build();
+    PostDto female = male.toBuilder().gender("FEMALE").build();
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 1L, male, female));
+    assertEquals(1, sentDiff().getAdded().size());
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 1L, female, male));
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(template, times(2))
+        .convertAndSendToUser(eq(SESSION_ID), eq(MapViewportSubscriptions.DESTINATION),
+            captor.capture(), anyMap());
+    assertEquals(List.of(1L), ((PostDiffDto) captor.getAllValues().get(1)).getRemoved());
+  }
+
+  @Test
+  void 화면_영역_밖이거나_노출_대상이_아니면_전달하지_않음() {
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 1L, null,
+        post(OUTSIDE_LAT, OUTSIDE_LNG)));
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 2L, null,
+        post(INSIDE_LAT, INSIDE_LNG).toBuilder()
+            .startDateTime(LocalDateTime.now().minusHours(1))
+            .build()));
+
+    verify(template, never()).convertAndSendToUser(anyString(), anyString(), any(), anyMap());
+  }
+
+  @Test
+  void 구독_해제후에는_전달하지_않음() {
+    subscriptions.unsubscribe(SESSION_ID);
+
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.REGISTER, 1L, null,
+        post(INSIDE_LAT, INSIDE_LNG)));
+
+    verify(template, never()).convertAndSendToUser(anyString(), anyString(), any(), anyMap());
+  }
+
+  @Test
+  void 도착_변경은_인덱스의_경로를_확대_수준에_맞게_전달() {
+    subscriptions.subscribe(SESSION_ID, viewport().zoom(11).build());
+    List<Path> path = List.of(new Path(INSIDE_LAT, INSIDE_LNG), new Path(INSIDE_LAT + 0.01, INSIDE_LNG));
+    List<Path> low = List.of(path.get(0));
+    PostDto departed = post(INSIDE_LAT, INSIDE_LNG).toBuilder()
+        .startDateTime(LocalDateTime.now().minusHours(1))
+        .path(path)
+        .pathLevels(Map.of(PathDetail.LOW, low))
+        .build();
+    livePostIndex.put(departed);
+
+    // 도착 이벤트는 경로 없이 전달됨
+    PostDto arrived = departed.toBuilder().path(null).pathLevels(null).arriveYn(true).build();
+    livePostIndex.onPostChange(new PostChangeEvent(PostChangeType.COMPLETE, 1L, departed, arrived));
+    subscriptions.onPostChange(new PostChangeEvent(PostChangeType.COMPLETE, 1L, departed, arrived));
+
+    PostDiffDto diff = sentDiff();
+    assertEquals(low, diff.getAdded().get(0).getPath());
+  }
+
+  @Test
+  void 잘못된_화면_영역은_등록_불가() {
+    assertThrows(RunnersMapException.class, () -> subscriptions.subscribe(SESSION_ID,
+        viewport().minLat(38.0).maxLat(37.0).build()));
+    assertThrows(RunnersMapException.class, () -> subscriptions.subscribe(SESSION_ID,
+        viewport().minLng(null).build()));
+  }
+
+  private PostDiffDto sentDiff() {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(template).convertAndSendToUser(eq(SESSION_ID), eq(MapViewportSubscriptions.DESTINATION),
+        captor.capture(), anyMap());
+    return (PostDiffDto) captor.getValue();
+  }
+
+  private static MapViewportDto.MapViewportDtoBuilder viewport() {
+    return MapViewportDto.builder()
+        .minLat(INSIDE_LAT - 0.05).minLng(INSIDE_LNG - 0.05)
+        .maxLat(INSIDE_LAT + 0.05).maxLng(INSIDE_LNG + 0.05);
+  }
+
+  private static PostDto post(double lat, double lng) {
+    return PostDto.builder()
+        .postId(1L)
+        .title("한강 러닝")
+        .centerLat(lat)
+        .centerLng(lng)
+        .startDateTime(LocalDateTime.now().plusDays(1))
+        .arriveYn(false)
+        .gender("MALE")
+        .paceMin(6)
+        .paceSec(0)
+        .distance(5.0)
+        .limitMemberCnt(5)
+        .build();
+  }
+}
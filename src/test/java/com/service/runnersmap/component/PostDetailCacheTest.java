@@ -0,0 +1,76 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostUserDto;
+import com.service.runnersmap.event.PostMemberChangeEvent;
+import com.service.runnersmap.event.UserProfileChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PostDetailCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private PostDetailCache postDetailCache;
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  // postId 와 같은 ID 의 사용자가 참여한 모집글
+  private final Function<Long, PostDto> loader = postId -> {
+    loadCount.incrementAndGet();
+    return PostDto.builder()
+        .postId(postId)
+        .postUsers(List.of(new PostUserDto(postId, "runner" + postId, "")))
+        .build();
+  };
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    postDetailCache = new PostDetailCache(meterRegistry);
+    postDetailCache.bindMetrics();
+  }
+
+  @Test
+  void 모집글상세_반복조회시_한번만_적재하고_적중수_기록() {
+    for (int i = 0; i < 5; i++) {
+      postDetailCache.get(1L, loader);
+    }
+
+    assertEquals(1, loadCount.get());
+    assertEquals(4.0, meterRegistry.get("cache.gets")
+        .tag("cache", PostDetailCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+    assertEquals(1.0, meterRegistry.get("cache.gets")
+        .tag("cache", PostDetailCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+  }
+
+  @Test
+  void 참여자변경시_해당_모집글만_다시_적재() {
+    postDetailCache.get(1L, loader);
+    postDetailCache.get(2L, loader);
+
+    postDetailCache.onMemberChange(new PostMemberChangeEvent(1L, 10L));
+    postDetailCache.get(1L, loader);
+    postDetailCache.get(2L, loader);
+
+    assertEquals(3, loadCount.get());
+  }
+
+  @Test
+  void 프로필변경시_사용자가_참여한_모집글만_다시_적재() {
+    postDetailCache.get(1L, loader);
+    postDetailCache.get(2L, loader);
+
+    postDetailCache.onProfileChange(new UserProfileChangeEvent(2L));
+    postDetailCache.get(1L, loader);
+    postDetailCache.get(2L, loader);
+
+    assertEquals(3, loadCount.get());
+  }
+}
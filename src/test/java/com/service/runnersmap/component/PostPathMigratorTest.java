@@ -0,0 +1,90 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.converter.PathCodec;
+import com.service.runnersmap.converter.PathListConverter;
+import com.service.runnersmap.entity.Path;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.UserRepository;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.support.RunnersTables;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모집글 경로 일회성 이관 (H2)
+ * - 이관 전 경로 컬럼(post.path)이 없으면(삭제 이후) 기동을 막지 않고 건너뛰는지 확인
+ */
+@RunnersDataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostPathMigratorTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("ALTER TABLE post DROP COLUMN IF EXISTS path");
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 경로_컬럼이_삭제된_뒤에는_건너뜀() {
+    savePost();
+
+    new PostPathMigrator(jdbcTemplate).run(null);
+
+    assertEquals(0, routeCount());
+  }
+
+  @Test
+  void 경로가_없는_모집글만_이관() {
+    jdbcTemplate.execute("ALTER TABLE post ADD COLUMN path LONGTEXT NULL");
+    List<Path> path = List.of(new Path(RunnersFixtures.SEOUL_LAT, RunnersFixtures.SEOUL_LNG),
+        new Path(RunnersFixtures.SEOUL_LAT + 0.01, RunnersFixtures.SEOUL_LNG));
+    Long postId = savePost();
+    jdbcTemplate.update("UPDATE post SET path = ? WHERE post_id = ?",
+        new PathListConverter().convertToDatabaseColumn(path), postId);
+    // 경로가 없는 모집글은 대상 아님
+    savePost();
+
+    PostPathMigrator migrator = new PostPathMigrator(jdbcTemplate);
+    migrator.run(null);
+    // 다시 수행해도 결과는 같음
+    migrator.run(null);
+
+    assertEquals(1, routeCount());
+    List<Path> migrated = PathCodec.decode(jdbcTemplate.queryForObject(
+        "SELECT path_bin FROM post_route WHERE post_id = ?", byte[].class, postId));
+    assertEquals(path.size(), migrated.size());
+    for (int i = 0; i < path.size(); i++) {
+      assertEquals(path.get(i).getLat(), migrated.get(i).getLat(), 1e-6);
+      assertEquals(path.get(i).getLng(), migrated.get(i).getLng(), 1e-6);
+    }
+  }
+
+  private Long savePost() {
+    User admin = userRepository.save(RunnersFixtures.user("admin" + System.nanoTime()));
+    return postRepository.save(RunnersFixtures.post(admin, LocalDateTime.now().plusDays(1)))
+        .getPostId();
+  }
+
+  private int routeCount() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_route", Integer.class);
+  }
+}
@@ -0,0 +1,61 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.service.runnersmap.dto.ParticipantStateDto;
+import com.service.runnersmap.event.ParticipantStateEvent;
+import com.service.runnersmap.event.RunArrivedEvent;
+import com.service.runnersmap.type.ParticipantStateType;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class PostStateBroadcasterTest {
+
+  private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+
+  private final PostStateBroadcaster broadcaster = new PostStateBroadcaster(template);
+
+  @Test
+  void 참여자_상태변경은_모집글_상태채널로_전달() {
+    broadcaster.onParticipantStateChange(
+        new ParticipantStateEvent(1L, 10L, ParticipantStateType.START));
+
+    ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+    verify(template).convertAndSend(eq("/sub/posts/1/state"),
+        message.capture());
+    ParticipantStateDto state = (ParticipantStateDto) message.getValue();
+    assertEquals(10L, state.getUserId());
+    assertEquals(ParticipantStateType.START, state.getState());
+  }
+
+  @Test
+  void 러닝_도착은_ARRIVE_로_전달() {
+    broadcaster.onRunArrived(new RunArrivedEvent(1L, LocalDateTime.now()));
+
+    ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+    verify(template).convertAndSend(eq("/sub/posts/1/state"),
+        message.capture());
+    ParticipantStateDto state = (ParticipantStateDto) message.getValue();
+    assertNull(state.getUserId());
+    assertEquals(ParticipantStateType.ARRIVE, state.getState());
+  }
+
+  @Test
+  void 전달_실패는_예외로_전파하지_않음() {
+    doThrow(new MessageDeliveryException("broker down"))
+        .when(template).convertAndSend(anyString(), any(Object.class));
+
+    broadcaster.onParticipantStateChange(
+        new ParticipantStateEvent(1L, 10L, ParticipantStateType.JOIN));
+  }
+}
@@ -0,0 +1,122 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.runnersmap.dto.MapTileDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.type.PostChangeType;
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.TileUtils;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class PostTileCacheTest {
+
+  // 서울 시청 / 부산 시청
+  private static final double SEOUL_LAT = 37.5665;
+  private static final double SEOUL_LNG = 126.9780;
+  private static final double BUSAN_LAT = 35.1796;
+  private static final double BUSAN_LNG = 129.0756;
+
+  private final PostTileCache postTileCache = new PostTileCache(new ObjectMapper());
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  private final Supplier<List<PostDto>> loader = () -> {
+    loadCount.incrementAndGet();
+    return List.of(post(SEOUL_LAT, SEOUL_LNG));
+  };
+
+  @Test
+  void 좌표로_타일_번호_계산() {
+    assertEquals(3492, TileUtils.tileX(SEOUL_LNG, 12));
+    assertEquals(1586, TileUtils.tileY(SEOUL_LAT, 12));
+
+    BoundingBox box = TileUtils.tileBounds(12, 3492, 1586);
+    assertTrue(box.getMinLat() <= SEOUL_LAT && SEOUL_LAT < box.getMaxLat());
+    assertTrue(box.getMinLng() <= SEOUL_LNG && SEOUL_LNG < box.getMaxLng());
+
+    // 확대 수준이 1 커지면 타일 번호는 2배 (하위 4개 타일 중 하나)
+    assertEquals(3492 * 2, TileUtils.tileX(SEOUL_LNG, 13) & ~1);
+    assertEquals(1586 * 2, TileUtils.tileY(SEOUL_LAT, 13) & ~1);
+
+    // 범위 밖 좌표는 가장자리 타일로
+    assertEquals(0, TileUtils.tileX(-180.0, 12));
+    assertEquals(4095, TileUtils.tileX(180.0, 12));
+    assertTrue(TileUtils.isValid(12, 4095, 4095));
+    assertTrue(!TileUtils.isValid(12, 4096, 0));
+  }
+
+  @Test
+  void 같은_타일은_한번만_적재하고_ETag_공유() {
+    MapTileDto first = postTileCache.get(12, 3492, 1586, loader);
+    MapTileDto second = postTileCache.get(12, 3492, 1586, loader);
+
+    assertEquals(1, loadCount.get());
+    assertEquals(first.getEtag(), second.getEtag());
+
+    // 내용이 다르면 ETag 도 다름
+    MapTileDto other = postTileCache.get(12, 3493, 1586,
+        () -> List.of(post(SEOUL_LAT, SEOUL_LNG + 0.1)));
+    assertNotEquals(first.getEtag(), other.getEtag());
+  }
+
+  @Test
+  void 모집글이_다른_타일로_이동하면_이전_이후_타일만_무효화() {
+    PostDto before = post(SEOUL_LAT, SEOUL_LNG);
+    PostDto after = post(BUSAN_LAT, BUSAN_LNG);
+
+    // 모든 확대 수준에서 서울/부산 타일 적재, 그 외 타일 1개
+    for (int z = PostTileCache.MIN_ZOOM; z <= PostTileCache.MAX_ZOOM; z++) {
+      load(z, SEOUL_LAT, SEOUL_LNG);
+      load(z, BUSAN_LAT, BUSAN_LNG);
+    }
+    load(PostTileCache.MIN_ZOOM, SEOUL_LAT + 1.0, SEOUL_LNG);
+    int zoomCount = PostTileCache.MAX_ZOOM - PostTileCache.MIN_ZOOM + 1;
+    assertEquals(zoomCount * 2 + 1, loadCount.get());
+
+    postTileCache.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 1L, before, after));
+    loadCount.set(0);
+
+    for (int z = PostTileCache.MIN_ZOOM; z <= PostTileCache.MAX_ZOOM; z++) {
+      load(z, SEOUL_LAT, SEOUL_LNG);
+      load(z, BUSAN_LAT, BUSAN_LNG);
+    }
+    load(PostTileCache.MIN_ZOOM, SEOUL_LAT + 1.0, SEOUL_LNG);
+    assertEquals(zoomCount * 2, loadCount.get());
+  }
+
+  @Test
+  void 등록_삭제시_해당_타일만_무효화() {
+    load(15, SEOUL_LAT, SEOUL_LNG);
+    load(15, BUSAN_LAT, BUSAN_LNG);
+
+    postTileCache.onPostChange(
+        new PostChangeEvent(PostChangeType.REGISTER, 1L, null, post(SEOUL_LAT, SEOUL_LNG)));
+    postTileCache.onPostChange(
+        new PostChangeEvent(PostChangeType.DELETE, 2L, post(SEOUL_LAT, SEOUL_LNG), null));
+    loadCount.set(0);
+
+    load(15, SEOUL_LAT, SEOUL_LNG);
+    load(15, BUSAN_LAT, BUSAN_LNG);
+    assertEquals(1, loadCount.get());
+  }
+
+  private void load(int z, double lat, double lng) {
+    postTileCache.get(z, TileUtils.tileX(lng, z), TileUtils.tileY(lat, z), loader);
+  }
+
+  private static PostDto post(double lat, double lng) {
+    return PostDto.builder()
+        .postId(1L)
+        .centerLat(lat)
+        .centerLng(lng)
+        .build();
+  }
+}
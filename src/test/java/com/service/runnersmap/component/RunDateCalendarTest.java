@@ -0,0 +1,79 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.PostMemberChangeEvent;
+import com.service.runnersmap.repository.UserPostRepository;
+import com.service.runnersmap.type.PostChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RunDateCalendarTest {
+
+  private static final Long USER_ID = 1L;
+
+  private static final LocalDate BOOKED = LocalDate.now().plusDays(3);
+
+  private final UserPostRepository userPostRepository = mock(UserPostRepository.class);
+
+  private final RunDateCalendar calendar =
+      new RunDateCalendar(userPostRepository, new SimpleMeterRegistry());
+
+  @BeforeEach
+  void setUp() {
+    when(userPostRepository.findValidRunDates(anyLong(), any(LocalDate.class)))
+        .thenReturn(List.of(BOOKED));
+  }
+
+  @Test
+  void 예정되지_않은_날짜는_DB_확인없이_중복아님() {
+    assertFalse(calendar.isBooked(USER_ID, BOOKED.plusDays(1)));
+    assertFalse(calendar.isBooked(USER_ID, BOOKED.plusDays(2)));
+
+    // 러닝 날짜 목록만 한 번 조회
+    verify(userPostRepository, times(1)).findValidRunDates(anyLong(), any(LocalDate.class));
+    verify(userPostRepository, never()).existsByUser_IdAndValidRunDate(anyLong(), any(LocalDate.class));
+  }
+
+  @Test
+  void 예정된_날짜는_DB_로_한번_더_확인() {
+    when(userPostRepository.existsByUser_IdAndValidRunDate(USER_ID, BOOKED)).thenReturn(true, false);
+
+    assertTrue(calendar.isBooked(USER_ID, BOOKED));
+    // 나가기 등으로 지난 값이면 중복 아님
+    assertFalse(calendar.isBooked(USER_ID, BOOKED));
+  }
+
+  @Test
+  void 참여자_변경과_출발일자_변경시_다시_조회() {
+    calendar.isBooked(USER_ID, BOOKED.plusDays(1));
+
+    calendar.onMemberChange(new PostMemberChangeEvent(10L, USER_ID));
+    calendar.isBooked(USER_ID, BOOKED.plusDays(1));
+
+    // 출발일자가 같으면 유지
+    PostDto before = PostDto.builder().postId(10L).startDateTime(BOOKED.atTime(7, 0)).build();
+    calendar.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 10L, before,
+        before.toBuilder().startDateTime(BOOKED.atTime(9, 0)).build()));
+    calendar.isBooked(USER_ID, BOOKED.plusDays(1));
+
+    calendar.onPostChange(new PostChangeEvent(PostChangeType.MODIFY, 10L, before,
+        before.toBuilder().startDateTime(BOOKED.plusDays(1).atTime(7, 0)).build()));
+    calendar.isBooked(USER_ID, BOOKED.plusDays(1));
+
+    verify(userPostRepository, times(3)).findValidRunDates(anyLong(), any(LocalDate.class));
+  }
+}
@@ -0,0 +1,217 @@
+package com.service.runnersmap.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import com.service.runnersmap.entity.TrackPoint;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersTables;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 러닝 위치 기록 저장 (H2 run_track, 실제 트랜잭션)
+ */
+@RunnersDataJpaTest
+@Import(RunTrackStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RunTrackStoreTest {
+
+  private static final Long USER_POST_ID = 1L;
+
+  private static final long START_TIME = 1_700_000_000_000L;
+
+  @Autowired
+  private RunTrackStore runTrackStore;
+
+  @SpyBean
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 버퍼는_flush_마다_러닝별_한_행으로_저장하고_저장_순서대로_읽는다() {
+    runTrackStore.append(USER_POST_ID, track(0, 10));
+    runTrackStore.append(2L, track(0, 5));
+    runTrackStore.flushAll();
+    runTrackStore.append(USER_POST_ID, track(10, 5));
+    runTrackStore.flush(USER_POST_ID);
+
+    assertEquals(2, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM run_track WHERE user_post_id = ?", Integer.class, USER_POST_ID));
+    assertTrack(track(0, 15), runTrackStore.load(USER_POST_ID));
+    assertTrack(track(0, 5), runTrackStore.load(2L));
+  }
+
+  @Test
+  void 완료_flush_는_flushAll_이_꺼낸_위치의_저장이_끝날_때까지_기다린다() throws Exception {
+    runTrackStore.append(USER_POST_ID, track(0, 10));
+    CountDownLatch inserting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    // flushAll 이 버퍼를 꺼낸 뒤 일괄 저장 직전에 멈춤
+    doAnswer(invocation -> {
+      inserting.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      return invocation.callRealMethod();
+    }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> flushAll = executor.submit(runTrackStore::flushAll);
+      assertTrue(inserting.await(10, TimeUnit.SECONDS));
+
+      // 러닝 완료 (flush 후 전체 기록 조회)
+      Future<List<TrackPoint>> complete = executor.submit(() -> {
+        runTrackStore.flush(USER_POST_ID);
+        return runTrackStore.load(USER_POST_ID);
+      });
+      Thread.sleep(200);
+      assertFalse(complete.isDone());
+
+      release.countDown();
+      flushAll.get(10, TimeUnit.SECONDS);
+      assertTrack(track(0, 10), complete.get(10, TimeUnit.SECONDS));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void 다른_러닝의_완료는_flushAll_의_저장을_기다리지_않는다() throws Exception {
+    runTrackStore.append(USER_POST_ID, track(0, 10));
+    CountDownLatch inserting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      inserting.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      return invocation.callRealMethod();
+    }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> flushAll = executor.submit(runTrackStore::flushAll);
+      assertTrue(inserting.await(10, TimeUnit.SECONDS));
+
+      // flushAll 이 저장 중인 묶음에 포함되지 않은 러닝
+      runTrackStore.append(2L, track(0, 5));
+      Future<List<TrackPoint>> complete = executor.submit(() -> {
+        runTrackStore.flush(2L);
+        return runTrackStore.load(2L);
+      });
+      assertTrack(track(0, 5), complete.get(5, TimeUnit.SECONDS));
+      assertFalse(flushAll.isDone());
+
+      release.countDown();
+      flushAll.get(10, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void 종료된_러닝의_위치는_버리고_이후_위치도_받지_않는다() {
+    // 종료 표시는 컨텍스트(저장소)에 남으므로 다른 테스트와 겹치지 않는 ID 사용
+    Long userPostId = 3L;
+    runTrackStore.append(userPostId, track(0, 10));
+    runTrackStore.flush(userPostId);
+    // 완료 직전에 조회한 참여 정보 ID 로 늦게 도착한 위치
+    runTrackStore.append(userPostId, track(10, 5));
+
+    runTrackStore.finishRun(1L, 1L, userPostId);
+
+    assertEquals(0, runTrackStore.append(userPostId, track(15, 5)));
+    runTrackStore.flushAll();
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM run_track WHERE user_post_id = ?", Integer.class, userPostId));
+    assertTrack(track(0, 10), runTrackStore.load(userPostId));
+  }
+
+  @Test
+  void 종료_트랜잭션이_롤백되면_러닝은_계속된다() {
+    Long userPostId = 4L;
+    runTrackStore.append(userPostId, track(0, 10));
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      runTrackStore.flush(userPostId);
+      runTrackStore.finishRun(1L, 1L, userPostId);
+      status.setRollbackOnly();
+    });
+
+    assertEquals(5, runTrackStore.append(userPostId, track(10, 5)));
+    runTrackStore.flushAll();
+    assertTrack(track(0, 15), runTrackStore.load(userPostId));
+  }
+
+  @Test
+  void 완료_트랜잭션이_롤백되면_저장했던_위치를_버퍼로_되돌린다() {
+    runTrackStore.append(USER_POST_ID, track(0, 10));
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      runTrackStore.flush(USER_POST_ID);
+      assertEquals(10, runTrackStore.load(USER_POST_ID).size());
+      status.setRollbackOnly();
+    });
+    assertTrue(runTrackStore.load(USER_POST_ID).isEmpty());
+
+    runTrackStore.flushAll();
+    assertTrack(track(0, 10), runTrackStore.load(USER_POST_ID));
+  }
+
+  @Test
+  void 완료_트랜잭션이_커밋되면_버퍼에_남기지_않는다() {
+    runTrackStore.append(USER_POST_ID, track(0, 10));
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(
+        status -> runTrackStore.flush(USER_POST_ID));
+    runTrackStore.flushAll();
+
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM run_track WHERE user_post_id = ?", Integer.class, USER_POST_ID));
+    assertTrack(track(0, 10), runTrackStore.load(USER_POST_ID));
+  }
+
+  private static void assertTrack(List<TrackPoint> expected, List<TrackPoint> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getLat(), actual.get(i).getLat(), 1e-6);
+      assertEquals(expected.get(i).getLng(), actual.get(i).getLng(), 1e-6);
+      assertEquals(expected.get(i).getTime(), actual.get(i).getTime());
+    }
+  }
+
+  // 3초 간격으로 북쪽으로 이동하는 위치 (from 번째부터 count 개)
+  private static List<TrackPoint> track(int from, int count) {
+    List<TrackPoint> track = new ArrayList<>();
+    for (int i = from; i < from + count; i++) {
+      track.add(new TrackPoint(37.5 + i * 0.0001, 127.0, START_TIME + i * 3000L));
+    }
+    return track;
+  }
+}
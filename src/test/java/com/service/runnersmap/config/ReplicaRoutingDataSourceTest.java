@@ -0,0 +1,167 @@
+package com.service.runnersmap.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.runnersmap.component.PostDetailCache;
+import com.service.runnersmap.component.PostTileCache;
+import com.service.runnersmap.dto.PostDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 읽기 전용 트랜잭션 replica 라우팅 (H2 메모리 DB 두 개를 primary / replica 로 사용)
+ */
+class ReplicaRoutingDataSourceTest {
+
+  private final DataSource primary = database("primary");
+
+  private final DataSource replica = database("replica");
+
+  @AfterEach
+  void clearUser() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void 읽기전용_트랜잭션은_replica_쓰기_트랜잭션은_primary() {
+    Routing routing = new Routing(replica, Duration.ZERO);
+
+    assertEquals("replica", routing.read());
+    assertEquals("primary", routing.write());
+    // 트랜잭션 밖의 조회는 primary
+    assertEquals("primary", routing.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+  }
+
+  @Test
+  void replica_연결_실패시_primary_로_조회() {
+    DataSource downReplica = new AbstractDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        throw new SQLException("replica down");
+      }
+
+      @Override
+      public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("replica down");
+      }
+    };
+    Routing routing = new Routing(downReplica, Duration.ZERO);
+
+    assertEquals("primary", routing.read());
+    assertEquals("primary", routing.read());
+  }
+
+  @Test
+  void 쓰기_이후_해당_사용자의_읽기는_primary_로_고정() {
+    Routing routing = new Routing(replica, Duration.ofSeconds(30));
+
+    login("writer@runners.com");
+    assertEquals("replica", routing.read());
+    routing.write();
+    assertEquals("primary", routing.read());
+
+    // 다른 사용자는 계속 replica
+    login("reader@runners.com");
+    assertEquals("replica", routing.read());
+  }
+
+  @Test
+  void 캐시_적재는_읽기전용_트랜잭션이라도_primary() {
+    Routing routing = new Routing(replica, Duration.ZERO);
+
+    assertEquals("primary", routing.readOnly.execute(status -> ReplicaRoutingDataSource
+        .readFromPrimary(() -> routing.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class))));
+    // readFromPrimary 밖의 조회는 다시 replica
+    assertEquals("replica", routing.read());
+  }
+
+  @Test
+  void 모집글_상세_캐시_적재는_primary_에서_조회() {
+    Routing routing = new Routing(replica, Duration.ZERO);
+    PostDetailCache postDetailCache = new PostDetailCache(new SimpleMeterRegistry());
+    AtomicReference<String> loadedFrom = new AtomicReference<>();
+
+    // searchDetailPost 와 같이 읽기 전용 트랜잭션 안에서 캐시 적재
+    routing.readOnly.executeWithoutResult(status -> postDetailCache.get(1L, postId -> {
+      loadedFrom.set(routing.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+      return PostDto.builder().postId(postId).build();
+    }));
+
+    assertEquals("primary", loadedFrom.get());
+  }
+
+  @Test
+  void 지도_타일_캐시_적재는_primary_에서_조회() {
+    Routing routing = new Routing(replica, Duration.ZERO);
+    PostTileCache postTileCache = new PostTileCache(new ObjectMapper());
+    AtomicReference<String> loadedFrom = new AtomicReference<>();
+
+    // searchTilePost 와 같이 트랜잭션 없이 적재 (조회마다 읽기 전용 트랜잭션)
+    postTileCache.get(PostTileCache.MIN_ZOOM, 3492, 1586, () -> {
+      loadedFrom.set(routing.read());
+      return List.of();
+    });
+
+    assertEquals("primary", loadedFrom.get());
+  }
+
+  private static void login(String email) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(email, null, List.of()));
+  }
+
+  private static DataSource database(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS marker");
+    jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+    jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  private class Routing {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate readOnly;
+
+    private final TransactionTemplate readWrite;
+
+    Routing(DataSource replica, Duration pinAfterWrite) {
+      DataSource dataSource = new LazyConnectionDataSourceProxy(
+          new ReplicaRoutingDataSource(primary, replica, pinAfterWrite));
+      DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+      this.jdbcTemplate = new JdbcTemplate(dataSource);
+      this.readOnly = new TransactionTemplate(transactionManager);
+      this.readOnly.setReadOnly(true);
+      this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    String read() {
+      return readOnly.execute(status ->
+          jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    String write() {
+      return readWrite.execute(status ->
+          jdbcTemplate.queryForObject("SELECT name FROM marker FOR UPDATE", String.class));
+    }
+  }
+}
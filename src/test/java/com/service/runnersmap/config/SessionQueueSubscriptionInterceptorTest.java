@@ -0,0 +1,67 @@
+package com.service.runnersmap.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.service.runnersmap.exception.RunnersMapException;
+import com.service.runnersmap.type.ErrorCode;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.simp.user.UserDestinationResult;
+import org.springframework.messaging.support.MessageBuilder;
+
+class SessionQueueSubscriptionInterceptorTest {
+
+  private static final String SESSION_ID = "session-a";
+
+  private final SessionQueueSubscriptionInterceptor interceptor =
+      new SessionQueueSubscriptionInterceptor();
+
+  @Test
+  void 사용자_목적지로_구독하면_자기_세션_목적지로_변환되어_허용() {
+    Message<byte[]> subscribe = message(SimpMessageType.SUBSCRIBE, "/user/queue/map");
+    assertSame(subscribe, interceptor.preSend(subscribe, null));
+
+    // 브로커에는 convertAndSendToUser(세션 ID, "/queue/map") 과 같은 목적지로 구독됨
+    UserDestinationResult result = new DefaultUserDestinationResolver(
+        Mockito.mock(SimpUserRegistry.class)).resolveDestination(subscribe);
+    assertEquals(Set.of("/queue/map-user" + SESSION_ID), result.getTargetDestinations());
+
+    Message<byte[]> resolved = message(SimpMessageType.SUBSCRIBE, "/queue/map-user" + SESSION_ID);
+    assertSame(resolved, interceptor.preSend(resolved, null));
+  }
+
+  @Test
+  void 다른_세션의_목적지를_직접_구독하면_거부() {
+    RunnersMapException e = assertThrows(RunnersMapException.class, () -> interceptor.preSend(
+        message(SimpMessageType.SUBSCRIBE, "/queue/map-usersession-b"), null));
+    assertEquals(ErrorCode.FORBIDDEN_QUEUE_SUBSCRIPTION, e.getErrorCode());
+
+    assertThrows(RunnersMapException.class, () -> interceptor.preSend(
+        message(SimpMessageType.SUBSCRIBE, "/queue/map"), null));
+  }
+
+  @Test
+  void 세션별_목적지가_아닌_구독과_구독_외_메시지는_그대로_전달() {
+    Message<byte[]> topic = message(SimpMessageType.SUBSCRIBE, "/sub/chat/room/1");
+    Message<byte[]> send = message(SimpMessageType.MESSAGE, "/queue/map-usersession-b");
+
+    assertSame(topic, interceptor.preSend(topic, null));
+    assertSame(send, interceptor.preSend(send, null));
+  }
+
+  private static Message<byte[]> message(SimpMessageType type, String destination) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+    accessor.setSessionId(SESSION_ID);
+    accessor.setSubscriptionId("sub-0");
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,62 @@
+package com.service.runnersmap.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.service.runnersmap.dto.MapTileDto;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.service.PostService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class PostControllerMapTileTest {
+
+  private static final String ETAG = "5d41402abc4b2a76b9719d911017c592";
+
+  private final PostService postService = mock(PostService.class);
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockMvc = MockMvcBuilders.standaloneSetup(new PostController(postService)).build();
+    when(postService.searchTilePost(15, 27939, 12689))
+        .thenReturn(new MapTileDto(ETAG, List.of(PostDto.builder().postId(1L).build())));
+  }
+
+  @Test
+  void 타일_조회시_ETag_와_함께_응답() throws Exception {
+    mockMvc.perform(get("/api/posts/map-tiles/15/27939/12689"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETAG + "\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andExpect(jsonPath("$[0].postId").value(1));
+  }
+
+  @Test
+  void If_None_Match_가_같으면_304() throws Exception {
+    mockMvc.perform(get("/api/posts/map-tiles/15/27939/12689")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"" + ETAG + "\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETAG + "\""))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void If_None_Match_가_다르면_새_내용으로_응답() throws Exception {
+    mockMvc.perform(get("/api/posts/map-tiles/15/27939/12689")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETAG + "\""))
+        .andExpect(jsonPath("$[0].postId").value(1));
+  }
+}
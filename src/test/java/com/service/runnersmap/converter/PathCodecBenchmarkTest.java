@@ -0,0 +1,91 @@
+package com.service.runnersmap.converter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.entity.Path;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 경로 저장 형식 비교 (기존 JSON PathListConverter vs 바이너리 PathCodec)
+ * - 기본 테스트에서는 제외되며 benchmark 태스크로 수행한다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class PathCodecBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(PathCodecBenchmarkTest.class);
+
+  private static final int[] POINT_COUNTS = {100, 500, 2_000};
+
+  private static final int WARMUP = 200;
+
+  private static final int REPEAT = 1_000;
+
+  private final PathListConverter jsonConverter = new PathListConverter();
+
+  private final PathBinaryConverter binaryConverter = new PathBinaryConverter();
+
+  @Test
+  @DisplayName("경로 저장 형식 - 좌표 수별 크기 / 인코딩 / 디코딩 시간 비교")
+  void benchmark() {
+    log.info(String.format("%7s | %11s | %11s | %13s | %13s | %13s | %13s",
+        "points", "json(byte)", "binary(byte)",
+        "json enc(us)", "binary enc(us)", "json dec(us)", "binary dec(us)"));
+
+    for (int pointCount : POINT_COUNTS) {
+      List<Path> path = route(pointCount, new Random(pointCount));
+
+      String json = jsonConverter.convertToDatabaseColumn(path);
+      byte[] binary = binaryConverter.convertToDatabaseColumn(path);
+      int jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+
+      double jsonEncode = measure(() -> jsonConverter.convertToDatabaseColumn(path));
+      double binaryEncode = measure(() -> binaryConverter.convertToDatabaseColumn(path));
+      double jsonDecode = measure(() -> jsonConverter.convertToEntityAttribute(json));
+      double binaryDecode = measure(() -> binaryConverter.convertToEntityAttribute(binary));
+
+      log.info(String.format("%7d | %11d | %12d | %13.1f | %14.1f | %13.1f | %14.1f",
+          pointCount, jsonBytes, binary.length,
+          jsonEncode, binaryEncode, jsonDecode, binaryDecode));
+
+      assertTrue(binary.length * 4 < jsonBytes);
+    }
+  }
+
+  // 약 5m 간격으로 이어지는 러닝 경로 (서울 시청 출발)
+  private static List<Path> route(int pointCount, Random random) {
+    List<Path> path = new ArrayList<>(pointCount);
+    double lat = 37.5665;
+    double lng = 126.9780;
+    for (int i = 0; i < pointCount; i++) {
+      lat += (random.nextDouble() - 0.5) * 0.0001;
+      lng += (random.nextDouble() - 0.5) * 0.0001;
+      path.add(new Path(lat, lng));
+    }
+    return path;
+  }
+
+  // 반복 수행 시간의 중앙값(us)
+  private static double measure(Supplier<?> task) {
+    for (int i = 0; i < WARMUP; i++) {
+      task.get();
+    }
+    long[] elapsed = new long[REPEAT];
+    for (int i = 0; i < REPEAT; i++) {
+      long start = System.nanoTime();
+      task.get();
+      elapsed[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(elapsed);
+    return elapsed[REPEAT / 2] / 1_000.0;
+  }
+}
@@ -0,0 +1,94 @@
+package com.service.runnersmap.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.entity.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PathCodecTest {
+
+  private final PathBinaryConverter binaryConverter = new PathBinaryConverter();
+
+  @Test
+  void 인코딩후_디코딩하면_1e6도_이내로_복원() {
+    List<Path> path = new ArrayList<>();
+    Random random = new Random(1);
+    double lat = 37.5665;
+    double lng = 126.9780;
+    for (int i = 0; i < 500; i++) {
+      lat += (random.nextDouble() - 0.5) * 0.0001;
+      lng += (random.nextDouble() - 0.5) * 0.0001;
+      path.add(new Path(lat, lng));
+    }
+
+    List<Path> decoded = binaryConverter.convertToEntityAttribute(
+        binaryConverter.convertToDatabaseColumn(path));
+
+    assertEquals(path.size(), decoded.size());
+    for (int i = 0; i < path.size(); i++) {
+      assertEquals(path.get(i).getLat(), decoded.get(i).getLat(), 1e-6);
+      assertEquals(path.get(i).getLng(), decoded.get(i).getLng(), 1e-6);
+    }
+  }
+
+  @Test
+  void 음수_좌표와_큰_변화량도_복원() {
+    List<Path> path = List.of(
+        new Path(-33.8688, 151.2093),
+        new Path(40.7128, -74.0060),
+        new Path(0.0, 0.0),
+        new Path(-90.0, 180.0));
+
+    List<Path> decoded = PathCodec.decode(PathCodec.encode(path));
+
+    assertEquals(path.size(), decoded.size());
+    for (int i = 0; i < path.size(); i++) {
+      assertEquals(path.get(i).getLat(), decoded.get(i).getLat(), 1e-6);
+      assertEquals(path.get(i).getLng(), decoded.get(i).getLng(), 1e-6);
+    }
+  }
+
+  @Test
+  void 빈_경로는_버전과_좌표수만_저장() {
+    byte[] encoded = PathCodec.encode(new ArrayList<>());
+
+    assertArrayEquals(new byte[]{1, 0}, encoded);
+    assertTrue(PathCodec.decode(encoded).isEmpty());
+  }
+
+  @Test
+  void 경로가_없으면_NULL_로_저장하고_NULL_로_복원() {
+    assertNull(binaryConverter.convertToDatabaseColumn(null));
+    assertNull(binaryConverter.convertToEntityAttribute(null));
+  }
+
+  @Test
+  void 인접_좌표는_좌표당_수_byte_로_저장() {
+    List<Path> path = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      path.add(new Path(37.5665 + i * 0.00005, 126.9780 + i * 0.00005));
+    }
+
+    // 첫 좌표 이후는 위도/경도 차이(50) 각 1byte
+    assertTrue(PathCodec.encode(path).length < 2 + 10 + 99 * 2 + 1);
+  }
+
+  @Test
+  void 지원하지_않는_버전이나_잘린_데이터는_예외() {
+    byte[] encoded = PathCodec.encode(List.of(new Path(37.5665, 126.9780)));
+
+    byte[] otherVersion = encoded.clone();
+    otherVersion[0] = 9;
+    assertThrows(IllegalArgumentException.class, () -> PathCodec.decode(otherVersion));
+    assertThrows(IllegalArgumentException.class,
+        () -> PathCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+  }
+}
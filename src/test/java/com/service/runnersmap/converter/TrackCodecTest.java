@@ -0,0 +1,75 @@
+package com.service.runnersmap.converter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.entity.TrackPoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrackCodecTest {
+
+  private static final long START_TIME = 1_700_000_000_000L;
+
+  @Test
+  void 위치기록_인코딩후_디코딩하면_좌표와_시각_복원() {
+    List<TrackPoint> track = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      track.add(new TrackPoint(37.5 + i * 0.0001, 127.0, START_TIME + i * 3000L));
+    }
+
+    assertRestored(track, TrackCodec.decode(TrackCodec.encode(track)));
+  }
+
+  @Test
+  void 음수_좌표와_시각이_거꾸로_가는_기록도_복원() {
+    List<TrackPoint> track = List.of(
+        new TrackPoint(-33.8688, 151.2093, START_TIME),
+        new TrackPoint(40.7128, -74.0060, START_TIME - 5000),
+        new TrackPoint(0.0, 0.0, START_TIME + 1));
+
+    assertRestored(track, TrackCodec.decode(TrackCodec.encode(track)));
+  }
+
+  @Test
+  void 수초_간격_기록은_좌표당_8byte_이하() {
+    List<TrackPoint> track = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      track.add(new TrackPoint(37.5 + i * 0.0001, 127.0 + i * 0.00005, START_TIME + i * 3000L));
+    }
+
+    assertTrue(TrackCodec.encode(track).length <= 3 + track.size() * 8);
+  }
+
+  @Test
+  void 빈_기록은_버전과_좌표수만_저장하고_빈_데이터는_빈_목록() {
+    assertArrayEquals(new byte[]{1, 0}, TrackCodec.encode(List.of()));
+    assertTrue(TrackCodec.decode(new byte[]{1, 0}).isEmpty());
+    assertTrue(TrackCodec.decode(null).isEmpty());
+    assertTrue(TrackCodec.decode(new byte[0]).isEmpty());
+  }
+
+  @Test
+  void 지원하지_않는_버전이나_잘린_데이터는_예외() {
+    byte[] data = TrackCodec.encode(List.of(new TrackPoint(37.5, 127.0, START_TIME)));
+
+    byte[] otherVersion = data.clone();
+    otherVersion[0] = 2;
+    assertThrows(IllegalArgumentException.class, () -> TrackCodec.decode(otherVersion));
+    assertThrows(RuntimeException.class,
+        () -> TrackCodec.decode(Arrays.copyOf(data, data.length - 1)));
+  }
+
+  private static void assertRestored(List<TrackPoint> track, List<TrackPoint> decoded) {
+    assertEquals(track.size(), decoded.size());
+    for (int i = 0; i < track.size(); i++) {
+      assertEquals(track.get(i).getLat(), decoded.get(i).getLat(), 1e-6);
+      assertEquals(track.get(i).getLng(), decoded.get(i).getLng(), 1e-6);
+      assertEquals(track.get(i).getTime(), decoded.get(i).getTime());
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.service.runnersmap.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * PostRepository.countClustersInBox 네이티브 쿼리 검증
+ * - MySQL 공간 함수(MBRContains, ST_MakeEnvelope)를 사용하므로 MySQL 8 접속 정보가 환경변수로 주어진 경우에만 수행된다.
+ *   RUNNERS_BENCH_JDBC_URL, RUNNERS_BENCH_JDBC_USER, RUNNERS_BENCH_JDBC_PASSWORD
+ * - 리포지토리에 선언된 쿼리를 그대로 가져와 테이블명만 검증용 테이블로 바꿔 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "RUNNERS_BENCH_JDBC_URL", matches = ".+")
+class PostClusterQueryTest {
+
+  private static final String TABLE = "bench_cluster_post";
+
+  private NamedParameterJdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        System.getenv("RUNNERS_BENCH_JDBC_URL"),
+        System.getenv("RUNNERS_BENCH_JDBC_USER"),
+        System.getenv("RUNNERS_BENCH_JDBC_PASSWORD"));
+    jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+    jdbcTemplate.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + TABLE);
+    jdbcTemplate.getJdbcTemplate().execute(
+        "CREATE TABLE " + TABLE + " (" +
+            "post_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "lat DOUBLE NOT NULL, " +
+            "lng DOUBLE NOT NULL, " +
+            "start_date_time DATETIME(6) NOT NULL, " +
+            "arrive_yn BIT(1) NOT NULL, " +
+            "location POINT GENERATED ALWAYS AS (POINT(lng, lat)) STORED NOT NULL SRID 0, " +
+            "SPATIAL INDEX idx_location (location))");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + TABLE);
+  }
+
+  @Test
+  @DisplayName("격자 경계 양쪽의 모집글은 다른 묶음으로 집계되고 평균 좌표를 반환")
+  void countClustersAtCellBoundary() throws Exception {
+    // 위도 37.56 경계 아래 1개, 위 2개 (1개는 도착 완료)
+    insert(37.5599, 126.9750, "DATE_ADD(CURRENT_TIMESTAMP, INTERVAL 1 HOUR)", false);
+    insert(37.5601, 126.9750, "DATE_ADD(CURRENT_TIMESTAMP, INTERVAL 1 HOUR)", false);
+    insert(37.5609, 126.9790, "DATE_SUB(CURRENT_TIMESTAMP, INTERVAL 1 DAY)", true);
+    // 같은 격자지만 노출 대상 아님
+    insert(37.5605, 126.9770, "DATE_SUB(CURRENT_TIMESTAMP, INTERVAL 1 HOUR)", false);
+    insert(37.5605, 126.9770, "DATE_SUB(CURRENT_TIMESTAMP, INTERVAL 4 DAY)", true);
+    // 영역 밖
+    insert(37.6500, 126.9750, "DATE_ADD(CURRENT_TIMESTAMP, INTERVAL 1 HOUR)", false);
+
+    List<Map<String, Object>> clusters = jdbcTemplate.queryForList(clusterSql(),
+        new MapSqlParameterSource()
+            .addValue("minLat", 37.50).addValue("minLng", 126.90)
+            .addValue("maxLat", 37.60).addValue("maxLng", 127.00)
+            .addValue("cellDegree", 0.01)).stream()
+        .sorted(Comparator.comparing(row -> ((Number) row.get("lat")).doubleValue()))
+        .toList();
+
+    assertEquals(2, clusters.size());
+    assertEquals(1L, ((Number) clusters.get(0).get("count")).longValue());
+    assertEquals(37.5599, ((Number) clusters.get(0).get("lat")).doubleValue(), 1e-9);
+    assertEquals(126.9750, ((Number) clusters.get(0).get("lng")).doubleValue(), 1e-9);
+    assertEquals(2L, ((Number) clusters.get(1).get("count")).longValue());
+    assertEquals(37.5605, ((Number) clusters.get(1).get("lat")).doubleValue(), 1e-9);
+    assertEquals(126.9770, ((Number) clusters.get(1).get("lng")).doubleValue(), 1e-9);
+  }
+
+  private String clusterSql() throws NoSuchMethodException {
+    String sql = PostRepository.class.getMethod("countClustersInBox",
+            double.class, double.class, double.class, double.class, double.class)
+        .getAnnotation(Query.class).value();
+    return sql.replace("FROM post p", "FROM " + TABLE + " p");
+  }
+
+  private void insert(double lat, double lng, String startDateTimeSql, boolean arriveYn) {
+    jdbcTemplate.update(
+        "INSERT INTO " + TABLE + " (lat, lng, start_date_time, arrive_yn) " +
+            "VALUES (:lat, :lng, " + startDateTimeSql + ", :arriveYn)",
+        new MapSqlParameterSource()
+            .addValue("lat", lat).addValue("lng", lng).addValue("arriveYn", arriveYn));
+  }
+}
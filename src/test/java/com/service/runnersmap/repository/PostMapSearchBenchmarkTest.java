@@ -0,0 +1,161 @@
+package com.service.runnersmap.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.util.BoundingBox;
+import com.service.runnersmap.util.GeoUtils;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 지도 조회 쿼리 벤치마크 (하버사인 전체 스캔 vs 공간 인덱스)
+ * - MySQL 8 접속 정보가 환경변수로 주어진 경우에만 수행된다.
+ *   RUNNERS_BENCH_JDBC_URL, RUNNERS_BENCH_JDBC_USER, RUNNERS_BENCH_JDBC_PASSWORD
+ */
+@EnabledIfEnvironmentVariable(named = "RUNNERS_BENCH_JDBC_URL", matches = ".+")
+class PostMapSearchBenchmarkTest {
+
+  private static final int[] ROW_COUNTS = {1_000, 10_000, 100_000};
+
+  private static final int REPEAT = 30;
+
+  // 서울 시청 기준
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.9780;
+
+  private static final String HAVERSINE_SQL =
+      "SELECT post_id FROM bench_post p " +
+          "WHERE (6371 * acos(cos(radians(?)) * cos(radians(p.lat)) " +
+          "* cos(radians(p.lng) - radians(?)) " +
+          "+ sin(radians(?)) * sin(radians(p.lat)))) < 2 " +
+          "AND p.start_date_time >= CURRENT_TIMESTAMP AND p.arrive_yn = false " +
+          "ORDER BY p.start_date_time ASC, p.post_id ASC LIMIT 20";
+
+  private static final String SPATIAL_SQL =
+      "SELECT post_id FROM bench_post p " +
+          "WHERE MBRContains(ST_MakeEnvelope(POINT(?, ?), POINT(?, ?)), p.location) " +
+          "AND ST_Distance_Sphere(p.location, POINT(?, ?), 6371000) < 2000 " +
+          "AND p.start_date_time >= CURRENT_TIMESTAMP AND p.arrive_yn = false " +
+          "ORDER BY p.start_date_time ASC, p.post_id ASC LIMIT 20";
+
+  @Test
+  @DisplayName("지도 조회 - 데이터 건수별 하버사인 스캔 / 공간 인덱스 응답시간 비교")
+  void benchmarkMapSearch() throws Exception {
+    try (Connection conn = DriverManager.getConnection(
+        System.getenv("RUNNERS_BENCH_JDBC_URL"),
+        System.getenv("RUNNERS_BENCH_JDBC_USER"),
+        System.getenv("RUNNERS_BENCH_JDBC_PASSWORD"))) {
+
+      createTable(conn);
+      try {
+        System.out.printf("%10s | %15s | %15s%n", "rows", "haversine(ms)", "spatial(ms)");
+        int inserted = 0;
+        for (int rowCount : ROW_COUNTS) {
+          insertRows(conn, inserted, rowCount - inserted);
+          inserted = rowCount;
+
+          List<Long> haversineResult = new ArrayList<>();
+          List<Long> spatialResult = new ArrayList<>();
+          double haversineMs = measure(conn, HAVERSINE_SQL, false, haversineResult);
+          double spatialMs = measure(conn, SPATIAL_SQL, true, spatialResult);
+
+          // 두 쿼리의 결과는 동일해야 한다
+          assertEquals(haversineResult, spatialResult);
+          System.out.printf("%10d | %15.3f | %15.3f%n", rowCount, haversineMs, spatialMs);
+        }
+      } finally {
+        try (Statement st = conn.createStatement()) {
+          st.execute("DROP TABLE IF EXISTS bench_post");
+        }
+      }
+    }
+  }
+
+  private void createTable(Connection conn) throws SQLException {
+    try (Statement st = conn.createStatement()) {
+      st.execute("DROP TABLE IF EXISTS bench_post");
+      st.execute("CREATE TABLE bench_post ("
+          + " post_id BIGINT PRIMARY KEY,"
+          + " lat DOUBLE NOT NULL,"
+          + " lng DOUBLE NOT NULL,"
+          + " start_date_time DATETIME(6) NOT NULL,"
+          + " arrive_yn BIT NOT NULL,"
+          + " location POINT GENERATED ALWAYS AS (POINT(lng, lat)) STORED NOT NULL SRID 0,"
+          + " SPATIAL INDEX idx_bench_post_location (location))");
+    }
+  }
+
+  // 서울 전역(약 40km x 40km)에 무작위로 분포한 모집글 생성
+  private void insertRows(Connection conn, int startId, int count) throws SQLException {
+    Random random = new Random(startId);
+    LocalDateTime now = LocalDateTime.now();
+    try (PreparedStatement ps = conn.prepareStatement(
+        "INSERT INTO bench_post (post_id, lat, lng, start_date_time, arrive_yn) VALUES (?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < count; i++) {
+        ps.setLong(1, startId + i + 1L);
+        ps.setDouble(2, CENTER_LAT + (random.nextDouble() - 0.5) * 0.36);
+        ps.setDouble(3, CENTER_LNG + (random.nextDouble() - 0.5) * 0.45);
+        ps.setTimestamp(4, Timestamp.valueOf(now.plusHours(random.nextInt(24 * 14) - 24 * 7)));
+        ps.setBoolean(5, false);
+        ps.addBatch();
+        if (i % 1000 == 999) {
+          ps.executeBatch();
+        }
+      }
+      ps.executeBatch();
+    }
+    try (Statement st = conn.createStatement()) {
+      st.execute("ANALYZE TABLE bench_post");
+    }
+  }
+
+  // 쿼리를 반복 수행하여 중앙값(ms) 반환
+  private double measure(Connection conn, String sql, boolean spatial, List<Long> result)
+      throws SQLException {
+    BoundingBox box = GeoUtils.boundingBox(CENTER_LAT, CENTER_LNG, 2.0);
+    long[] elapsed = new long[REPEAT];
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      if (spatial) {
+        ps.setDouble(1, box.getMinLng());
+        ps.setDouble(2, box.getMinLat());
+        ps.setDouble(3, box.getMaxLng());
+        ps.setDouble(4, box.getMaxLat());
+        ps.setDouble(5, CENTER_LNG);
+        ps.setDouble(6, CENTER_LAT);
+      } else {
+        ps.setDouble(1, CENTER_LAT);
+        ps.setDouble(2, CENTER_LNG);
+        ps.setDouble(3, CENTER_LAT);
+      }
+
+      for (int i = 0; i < REPEAT; i++) {
+        long start = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            ids.add(rs.getLong(1));
+          }
+        }
+        elapsed[i] = System.nanoTime() - start;
+        if (i == 0) {
+          result.addAll(ids);
+        }
+      }
+    }
+    Arrays.sort(elapsed);
+    return elapsed[REPEAT / 2] / 1_000_000.0;
+  }
+}
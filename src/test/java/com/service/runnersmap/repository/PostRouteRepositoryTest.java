@@ -0,0 +1,88 @@
+package com.service.runnersmap.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.entity.Path;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.PostRoute;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.type.PathDetail;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@RunnersDataJpaTest
+class PostRouteRepositoryTest {
+
+  @Autowired
+  private PostRouteRepository postRouteRepository;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Test
+  void 단순화_경로가_없는_기존_모집글은_원본_경로로_조회() {
+    List<Path> path = zigzag();
+    Long postId = saveRoute(path);
+    // db/003 이전에 등록된 모집글 : 단순화 경로 컬럼이 NULL
+    em.getEntityManager()
+        .createNativeQuery("UPDATE post_route SET path_high = NULL, path_medium = NULL, path_low = NULL")
+        .executeUpdate();
+    em.clear();
+
+    PostRoute route = postRouteRepository.findById(postId).orElseThrow();
+
+    assertNull(route.getPathHigh());
+    assertNull(route.getPathMedium());
+    assertNull(route.getPathLow());
+    assertEquals(path.size(), route.getPath(PathDetail.LOW).size());
+
+    PostDto postDto = PostDto.fromEntity(route.getPost(), route);
+    for (PathDetail detail : PathDetail.values()) {
+      assertEquals(path.size(), postDto.pathOf(detail).size());
+    }
+  }
+
+  @Test
+  void 등록된_단순화_경로는_상세_수준별로_조회() {
+    List<Path> path = zigzag();
+    Long postId = saveRoute(path);
+    em.clear();
+
+    PostRoute route = postRouteRepository.findById(postId).orElseThrow();
+    PostDto postDto = PostDto.fromEntity(route.getPost(), route);
+
+    assertEquals(path.size(), postDto.pathOf(PathDetail.FULL).size());
+    assertTrue(postDto.pathOf(PathDetail.HIGH).size() < path.size());
+    assertEquals(route.getPathLow().size(), postDto.pathOf(PathDetail.LOW).size());
+    assertTrue(postDto.pathOf(PathDetail.LOW).size() <= postDto.pathOf(PathDetail.HIGH).size());
+  }
+
+  private Long saveRoute(List<Path> path) {
+    User admin = em.persist(RunnersFixtures.user("admin"));
+    Post post = em.persist(RunnersFixtures.post(admin, LocalDateTime.now().plusDays(1)));
+    PostRoute route = PostRoute.builder().post(post).build();
+    route.updatePath(path);
+    em.persist(route);
+    em.flush();
+    return post.getPostId();
+  }
+
+  // 약 11m 간격으로 좌우 30m 씩 흔들리며 북쪽으로 가는 경로
+  private static List<Path> zigzag() {
+    List<Path> path = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      path.add(new Path(RunnersFixtures.SEOUL_LAT + i * 0.0001,
+          RunnersFixtures.SEOUL_LNG + (i % 20 < 10 ? i % 10 : 10 - i % 10) * 0.00003));
+    }
+    return path;
+  }
+}
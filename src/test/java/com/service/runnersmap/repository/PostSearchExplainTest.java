@@ -0,0 +1,228 @@
+package com.service.runnersmap.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.util.GeoUtils;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 모집글 검색 조건(PostSpecification)이 생성하는 실제 SQL 의 실행 계획 확인
+ * - H2(MySQL 모드)에 db/005 의 인덱스를 적용하고, Hibernate 가 실행한 SQL 과 바인딩 값을 그대로 EXPLAIN 한다.
+ * - 필터 조합별로 전체 스캔 없이 (geo_cell, arrive_yn, start_date_time) 인덱스를 사용하는지 확인
+ */
+@RunnersDataJpaTest
+class PostSearchExplainTest {
+
+  private static final int ROW_COUNT = 2_000;
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 12, 0);
+
+  // Hibernate 가 실행한 모집글 조회 SQL (SQL, 바인딩 값)
+  private static final List<ExecutedQuery> executed = new CopyOnWriteArrayList<>();
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // db/005 의 인덱스 (컬럼은 엔티티로 생성됨, DDL 은 롤백되지 않으므로 이미 있으면 건너뜀)
+    String migration = new ClassPathResource("db/005_post_search_columns.sql")
+        .getContentAsString(StandardCharsets.UTF_8);
+    Arrays.stream(migration.split(";"))
+        .filter(statement -> statement.contains("CREATE INDEX"))
+        .map(statement -> statement.substring(statement.indexOf("CREATE INDEX")))
+        .map(statement -> statement.replace("CREATE INDEX", "CREATE INDEX IF NOT EXISTS"))
+        .forEach(jdbcTemplate::execute);
+
+    // 서울 전역(약 40km x 40km)에 모집글 분포
+    User admin = em.persist(RunnersFixtures.user("admin"));
+    Random random = new Random(1);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      Post post = RunnersFixtures.post(admin, NOW.plusHours(random.nextInt(24 * 14) - 24 * 7),
+          RunnersFixtures.SEOUL_LAT + (random.nextDouble() - 0.5) * 0.36,
+          RunnersFixtures.SEOUL_LNG + (random.nextDouble() - 0.5) * 0.45);
+      post.setArriveYn(post.getStartDateTime().isBefore(NOW) && random.nextBoolean());
+      post.setPaceMin(4 + random.nextInt(5));
+      post.setDistance(3.0 + random.nextInt(20));
+      post.setLimitMemberCnt(2 + random.nextInt(8));
+      post.setGender(random.nextBoolean() ? "MALE" : "FEMALE");
+      em.persist(post);
+    }
+    em.flush();
+    em.clear();
+    jdbcTemplate.execute("ANALYZE");
+    executed.clear();
+  }
+
+  @Test
+  void 반경_내_노출대상만_출발일시_순으로_지정한_건수까지_조회() {
+    PostInDto inDto = center().build();
+
+    List<Post> found = postRepository.findAllForMap(
+        PostSpecification.search(inDto, NOW, 2.0), 5);
+
+    // JVM 에서 같은 조건으로 거른 결과와 동일
+    List<Long> expected = postRepository.findAll().stream()
+        .filter(post -> GeoUtils.distanceKm(inDto.getLat(), inDto.getLng(),
+            post.getLat(), post.getLng()) < 2.0)
+        .filter(post -> post.getArriveYn()
+            ? !post.getStartDateTime().isBefore(NOW.minusDays(3)) && !post.getStartDateTime().isAfter(NOW)
+            : !post.getStartDateTime().isBefore(NOW))
+        .sorted((a, b) -> a.getStartDateTime().equals(b.getStartDateTime())
+            ? a.getPostId().compareTo(b.getPostId())
+            : a.getStartDateTime().compareTo(b.getStartDateTime()))
+        .limit(5)
+        .map(Post::getPostId)
+        .toList();
+
+    assertEquals(5, expected.size());
+    assertEquals(expected, found.stream().map(Post::getPostId).toList());
+  }
+
+  @Test
+  void 필터_조합별_검색_쿼리가_인덱스를_사용() throws Exception {
+    List<PostInDto> filters = List.of(
+        center().build(),
+        center().paceMinStart(5).paceMinEnd(7).build(),
+        center().paceMinStart(5).paceMinEnd(7).distanceStart(3L).distanceEnd(10L)
+            .limitMemberCntStart(2).limitMemberCntEnd(6).build(),
+        center().gender("FEMALE").startDateTime(NOW).endDateTime(NOW.plusDays(3)).build());
+
+    for (PostInDto inDto : filters) {
+      executed.clear();
+      postRepository.findAllForMap(PostSpecification.search(inDto, NOW, 2.0), 20);
+
+      assertEquals(1, executed.size());
+      String plan = explain(executed.get(0)).toLowerCase();
+
+      assertFalse(plan.contains("tablescan"), plan);
+      assertTrue(plan.contains("idx_post_cell_arrive_start"), plan);
+    }
+  }
+
+  private static PostInDto.PostInDtoBuilder center() {
+    return PostInDto.builder().lat(RunnersFixtures.SEOUL_LAT).lng(RunnersFixtures.SEOUL_LNG);
+  }
+
+  private String explain(ExecutedQuery query) {
+    return jdbcTemplate.execute((Connection conn) -> {
+      try (PreparedStatement ps = conn.prepareStatement("EXPLAIN " + query.sql())) {
+        for (Map.Entry<Integer, Object> param : query.params().entrySet()) {
+          ps.setObject(param.getKey(), param.getValue());
+        }
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            plan.append(rs.getString(1));
+          }
+        }
+        return plan.toString();
+      }
+    });
+  }
+
+  private record ExecutedQuery(String sql, Map<Integer, Object> params) {
+
+  }
+
+  /**
+   * 모집글 조회 SQL 과 바인딩 값을 기록하는 DataSource
+   */
+  @TestConfiguration
+  static class RecordingDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor recordingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+          }
+          return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+              return proxy(Connection.class, super.getConnection(), (method, args, statement) ->
+                  method.getName().equals("prepareStatement")
+                      ? recording((PreparedStatement) statement, (String) args[0])
+                      : statement);
+            }
+          };
+        }
+      };
+    }
+
+    private static PreparedStatement recording(PreparedStatement statement, String sql) {
+      String lower = sql.toLowerCase();
+      if (!lower.startsWith("select") || !lower.contains(" from post ")) {
+        return statement;
+      }
+      Map<Integer, Object> params = new TreeMap<>();
+      return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+        if (method.getName().startsWith("set") && args != null && args.length >= 2
+            && args[0] instanceof Integer index) {
+          params.put(index, method.getName().equals("setNull") ? null : args[1]);
+        } else if (method.getName().equals("executeQuery")) {
+          executed.add(new ExecutedQuery(sql, new TreeMap<>(params)));
+        }
+        return result;
+      });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+          (proxy, method, args) -> {
+            try {
+              return afterCall.apply(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+              throw e.getTargetException();
+            }
+          });
+    }
+
+    private interface AfterCall {
+
+      Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.service.runnersmap.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.entity.ChatRoom;
+import com.service.runnersmap.entity.Path;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.PostRoute;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.entity.UserPost;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+@RunnersDataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserPostRepositoryTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2024, 11, 2, 7, 0);
+
+  @Autowired
+  private UserPostRepository userPostRepository;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  private User runner;
+
+  private User other;
+
+  // run_date 는 같은 날짜 중복 참여 유니크 키를 피하도록 참여마다 다르게 저장
+  private LocalDate nextRunDate = START.toLocalDate();
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    runner = em.persist(RunnersFixtures.user("runner"));
+    other = em.persist(RunnersFixtures.user("other"));
+  }
+
+  @Test
+  void 출발일시가_같은_모집글도_모집글ID_순으로_빠짐없이_페이지_조회() {
+    List<Post> expected = new ArrayList<>();
+    expected.add(participate(START.plusHours(1)));
+    for (int i = 0; i < 5; i++) {
+      expected.add(participate(START));
+    }
+    expected.add(participate(START.minusHours(1)));
+    expected.add(participate(START.plusHours(1)));
+    expected.sort(Comparator.comparing(Post::getStartDateTime).thenComparing(Post::getPostId));
+    em.flush();
+    em.clear();
+
+    List<Long> paged = new ArrayList<>();
+    LocalDateTime lastStartDateTime = null;
+    long lastPostId = 0L;
+    while (true) {
+      List<Object[]> rows = userPostRepository.findParticipatePosts(
+          runner.getId(), lastStartDateTime, lastPostId, Limit.of(3));
+      if (rows.isEmpty()) {
+        break;
+      }
+      assertTrue(rows.size() <= 3);
+      for (Object[] row : rows) {
+        Post post = (Post) row[0];
+        paged.add(post.getPostId());
+        lastStartDateTime = post.getStartDateTime();
+        lastPostId = post.getPostId();
+      }
+    }
+
+    assertEquals(expected.stream().map(Post::getPostId).toList(), paged);
+  }
+
+  @Test
+  void 나간_참여_완료한_참여_다른_사용자의_참여는_제외() {
+    Post participating = participate(START);
+    UserPost out = userPost(runner, em.persist(RunnersFixtures.post(other, START)));
+    out.setValidYn(false);
+    UserPost finished = userPost(runner, em.persist(RunnersFixtures.post(other, START)));
+    finished.setActualEndTime(START.plusHours(1));
+    userPost(other, em.persist(RunnersFixtures.post(other, START)));
+    em.flush();
+    em.clear();
+
+    List<Object[]> rows = userPostRepository.findParticipatePosts(
+        runner.getId(), null, 0L, Limit.unlimited());
+
+    assertEquals(List.of(participating.getPostId()),
+        rows.stream().map(row -> ((Post) row[0]).getPostId()).toList());
+  }
+
+  @Test
+  void 채팅방과_경로를_한_번의_조회로_가져온다() {
+    Post withRoute = participate(START);
+    em.persist(ChatRoom.builder().post(withRoute).build());
+    PostRoute route = PostRoute.builder().post(withRoute).build();
+    route.updatePath(List.of(new Path(RunnersFixtures.SEOUL_LAT, RunnersFixtures.SEOUL_LNG),
+        new Path(RunnersFixtures.SEOUL_LAT + 0.01, RunnersFixtures.SEOUL_LNG)));
+    em.persist(route);
+    Post withoutRoute = participate(START.plusHours(1));
+    em.persist(ChatRoom.builder().post(withoutRoute).build());
+    participate(START.plusHours(2));
+    em.flush();
+    em.clear();
+    statistics.clear();
+
+    List<Object[]> rows = userPostRepository.findParticipatePosts(
+        runner.getId(), null, 0L, Limit.of(2));
+
+    assertEquals(2, rows.size());
+    Post first = (Post) rows.get(0)[0];
+    Post second = (Post) rows.get(1)[0];
+    assertTrue(Hibernate.isInitialized(first.getChatRoom()));
+    assertNotNull(first.getChatRoom().getId());
+    assertNotNull(second.getChatRoom().getId());
+    assertEquals(2, ((PostRoute) rows.get(0)[1]).getPath().size());
+    assertNull(rows.get(1)[1]);
+    // 모집글, 채팅방, 경로를 한 번에 조회 (모집글마다 채팅방을 따로 조회하지 않음)
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  // runner 가 참여 중인 모집글 저장
+  private Post participate(LocalDateTime startDateTime) {
+    Post post = em.persist(RunnersFixtures.post(other, startDateTime));
+    userPost(runner, post);
+    return post;
+  }
+
+  private UserPost userPost(User user, Post post) {
+    UserPost userPost = RunnersFixtures.userPost(user, post);
+    userPost.setRunDate(nextRunDate);
+    nextRunDate = nextRunDate.plusDays(1);
+    return em.persist(userPost);
+  }
+}
@@ -0,0 +1,79 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.component.RunTrackStore;
+import com.service.runnersmap.entity.ChatRoom;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/**
+ * 미완료 러닝 자동 종료 (H2)
+ * - 이벤트 내용(모집글 + 채팅방)을 모집글 수와 관계없이 한 번의 조회로 만드는지 확인
+ */
+@RunnersDataJpaTest
+@Import({AbandonedRunService.class, RunTrackStore.class})
+@RecordApplicationEvents
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AbandonedRunServiceSweepTest {
+
+  private static final int POST_CNT = 5;
+
+  @Autowired
+  private AbandonedRunService abandonedRunService;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private ApplicationEvents events;
+
+  @Test
+  void 종료한_모집글의_이벤트_내용은_채팅방과_함께_한번에_조회() {
+    LocalDateTime departed = LocalDateTime.now().minusHours(7);
+    User admin = em.persist(RunnersFixtures.user("admin"));
+    Map<Long, Long> chatRoomIds = new HashMap<>();
+    for (int i = 0; i < POST_CNT; i++) {
+      Post post = RunnersFixtures.post(admin, departed.plusMinutes(i));
+      post.setDepartureYn(true);
+      em.persist(post);
+      chatRoomIds.put(post.getPostId(), em.persist(ChatRoom.builder().post(post).build()).getId());
+    }
+    em.flush();
+    em.clear();
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    int closed = abandonedRunService.closeAbandonedRuns(LocalDateTime.now().minusHours(6), 200);
+
+    assertEquals(POST_CNT, closed);
+    // JdbcTemplate 로 수행하는 대상 조회/UPDATE 는 제외, 이벤트 내용 조회 1회
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(POST_CNT, events.stream(PostChangeEvent.class).count());
+    events.stream(PostChangeEvent.class).forEach(event -> {
+      assertTrue(event.getAfter().getArriveYn());
+      assertEquals(chatRoomIds.get(event.getPostId()), event.getAfter().getChatRoomId());
+    });
+  }
+}
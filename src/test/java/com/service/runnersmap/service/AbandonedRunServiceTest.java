@@ -0,0 +1,92 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.service.runnersmap.component.RunTrackStore;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.RunArrivedEvent;
+import com.service.runnersmap.repository.PostRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class AbandonedRunServiceTest {
+
+  private static final int BATCH_SIZE = 100;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private RunTrackStore runTrackStore;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private AbandonedRunService abandonedRunService;
+
+  @Test
+  void 종료_대상이_없으면_UPDATE_하지_않음() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any()))
+        .thenReturn(List.of());
+
+    int closed = abandonedRunService.closeAbandonedRuns(LocalDateTime.now(), BATCH_SIZE);
+
+    assertEquals(0, closed);
+    verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    verifyNoInteractions(postRepository, runTrackStore, eventPublisher);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 대상_모집글을_한번에_도착처리하고_미완료_참여자를_표시() {
+    List<Long> postIds = List.of(1L, 2L, 3L);
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any()))
+        .thenReturn(postIds);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+        .thenReturn(List.of(new Long[]{1L, 10L, 11L}, new Long[]{3L, 30L, 31L}));
+    User admin = User.builder().id(100L).build();
+    when(postRepository.findAllWithChatRoomByPostIdIn(postIds)).thenReturn(postIds.stream()
+        .map(postId -> Post.builder().postId(postId).admin(admin).arriveYn(true).build())
+        .toList());
+
+    int closed = abandonedRunService.closeAbandonedRuns(LocalDateTime.now(), BATCH_SIZE);
+
+    assertEquals(postIds.size(), closed);
+
+    // 모집글 수와 무관하게 참여 기록 / 모집글 UPDATE 각 1회
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(jdbcTemplate, times(2)).update(sql.capture(), any(Object[].class));
+    assertEquals(List.of(true, true), sql.getAllValues().stream()
+        .map(query -> query.contains("IN (?,?,?)"))
+        .toList());
+
+    verify(runTrackStore).finishRun(1L, 10L, 11L);
+    verify(runTrackStore).finishRun(3L, 30L, 31L);
+    verify(eventPublisher, times(postIds.size())).publishEvent(any(PostChangeEvent.class));
+    verify(eventPublisher, times(postIds.size())).publishEvent(any(RunArrivedEvent.class));
+  }
+}
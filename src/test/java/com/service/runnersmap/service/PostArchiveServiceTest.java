@@ -0,0 +1,202 @@
+package com.service.runnersmap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.UserRepository;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.support.RunnersTables;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PostArchiveService 를 실제 SQL(H2, 엔티티 외래키 포함)로 실행
+ * - 테스트 트랜잭션 없이 서비스 트랜잭션이 커밋/롤백하도록 하고, 테스트마다 테이블을 비운다.
+ */
+@RunnersDataJpaTest
+@Import(PostArchiveService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostArchiveServiceTest {
+
+  // 보관 대상 테이블과 모집글 하나당 만드는 행 수 (seed)
+  private static final Map<String, Integer> ROWS_PER_POST = new LinkedHashMap<>();
+
+  static {
+    ROWS_PER_POST.put("post", 1);
+    ROWS_PER_POST.put("post_route", 1);
+    ROWS_PER_POST.put("user_post", 2);
+    ROWS_PER_POST.put("run_track", 2);
+    ROWS_PER_POST.put("after_run_picture", 1);
+    ROWS_PER_POST.put("likes", 2);
+    ROWS_PER_POST.put("comment", 1);
+    ROWS_PER_POST.put("chat_room", 1);
+    ROWS_PER_POST.put("chat_message", 2);
+  }
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 1, 9, 0);
+  private static final LocalDateTime BEFORE = NOW.minusDays(30);
+
+  @Autowired
+  private PostArchiveService postArchiveService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  private User admin;
+  private User runner;
+
+  @BeforeEach
+  void setUp() {
+    admin = userRepository.save(RunnersFixtures.user("admin"));
+    runner = userRepository.save(RunnersFixtures.user("runner"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 보관_기간이_지난_도착_완료_모집글의_연관_데이터를_모두_옮기고_삭제한다() {
+    long target = seed(NOW.minusDays(40), true);
+    long recent = seed(NOW.minusDays(10), true);
+    long notArrived = seed(NOW.minusDays(45), false);
+    LocalDateTime trackCreated = jdbcTemplate.queryForObject(
+        "SELECT MIN(created_date_time) FROM run_track", LocalDateTime.class);
+
+    int archived = postArchiveService.archiveArrivedPosts(BEFORE, 100);
+
+    assertThat(archived).isEqualTo(1);
+    ROWS_PER_POST.forEach((table, rows) -> {
+      assertThat(count(table + "_archive")).as(table + "_archive").isEqualTo(rows);
+      assertThat(count(table)).as(table).isEqualTo(rows * 2);
+    });
+    assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post_archive", Long.class))
+        .containsExactly(target);
+    assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post", Long.class))
+        .containsExactlyInAnyOrder(recent, notArrived);
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT DISTINCT post_id FROM user_post_archive", Long.class)).containsExactly(target);
+    // DEFAULT CURRENT_TIMESTAMP 컬럼도 옮긴다. (생성 컬럼으로 보고 빠뜨리지 않음)
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT MIN(created_date_time) FROM run_track_archive", LocalDateTime.class))
+        .isEqualTo(trackCreated);
+  }
+
+  @Test
+  void 다시_실행하면_옮길_대상이_없어_그대로_둔다() {
+    seed(NOW.minusDays(40), true);
+    seed(NOW.minusDays(10), true);
+
+    assertThat(postArchiveService.archiveArrivedPosts(BEFORE, 100)).isEqualTo(1);
+    Map<String, Integer> afterFirst = counts();
+
+    assertThat(postArchiveService.archiveArrivedPosts(BEFORE, 100)).isZero();
+    assertThat(counts()).isEqualTo(afterFirst);
+  }
+
+  @Test
+  void 배치_크기만큼_출발일시가_빠른_순서로_보관한다() {
+    long oldest = seed(NOW.minusDays(50), true);
+    long older = seed(NOW.minusDays(40), true);
+
+    assertThat(postArchiveService.archiveArrivedPosts(BEFORE, 1)).isEqualTo(1);
+    assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post_archive", Long.class))
+        .containsExactly(oldest);
+
+    assertThat(postArchiveService.archiveArrivedPosts(BEFORE, 1)).isEqualTo(1);
+    assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post_archive", Long.class))
+        .containsExactlyInAnyOrder(oldest, older);
+  }
+
+  @Test
+  void 보관_테이블에_같은_키가_있으면_아무것도_삭제하지_않고_롤백한다() {
+    long target = seed(NOW.minusDays(40), true);
+    Long commentId = jdbcTemplate.queryForObject(
+        "SELECT id FROM comment WHERE post_id = ?", Long.class, target);
+    jdbcTemplate.update("INSERT INTO comment_archive (id, post_id, content) VALUES (?, ?, ?)",
+        commentId, target, "이미 보관된 댓글");
+    Map<String, Integer> before = counts();
+
+    assertThatThrownBy(() -> postArchiveService.archiveArrivedPosts(BEFORE, 100))
+        .isInstanceOf(DataIntegrityViolationException.class);
+
+    assertThat(counts()).isEqualTo(before);
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT content FROM comment_archive WHERE id = ?", String.class, commentId))
+        .isEqualTo("이미 보관된 댓글");
+  }
+
+  // 모집글 하나와 보관 대상 테이블마다 ROWS_PER_POST 만큼의 연관 데이터 저장
+  private long seed(LocalDateTime startDateTime, boolean arrived) {
+    Post post = RunnersFixtures.post(admin, startDateTime);
+    post.setArriveYn(arrived);
+    long postId = postRepository.save(post).getPostId();
+
+    jdbcTemplate.update("INSERT INTO post_route (post_id, path_bin) VALUES (?, ?)",
+        postId, new byte[]{1, 0});
+    for (User user : List.of(admin, runner)) {
+      jdbcTemplate.update("INSERT INTO user_post (users_id, post_id, valid_yn, abandoned_yn, "
+              + "run_date, year, month) VALUES (?, ?, true, false, ?, ?, ?)",
+          user.getId(), postId, startDateTime.toLocalDate(), startDateTime.getYear(),
+          startDateTime.getMonthValue());
+      jdbcTemplate.update("INSERT INTO run_track (user_post_id, point_count, data) "
+              + "SELECT user_post_id, 1, ? FROM user_post WHERE users_id = ? AND post_id = ?",
+          new byte[]{1}, user.getId(), postId);
+    }
+    jdbcTemplate.update("INSERT INTO after_run_picture (users_id, post_id, "
+            + "after_run_picture_url, like_count, version) VALUES (?, ?, 'picture.jpg', 2, 0)",
+        admin.getId(), postId);
+    Long pictureId = jdbcTemplate.queryForObject(
+        "SELECT id FROM after_run_picture WHERE post_id = ?", Long.class, postId);
+    for (User user : List.of(admin, runner)) {
+      jdbcTemplate.update("INSERT INTO likes (after_run_picture_id, users_id) VALUES (?, ?)",
+          pictureId, user.getId());
+    }
+    jdbcTemplate.update("INSERT INTO comment (post_id, users_id, content) VALUES (?, ?, ?)",
+        postId, runner.getId(), "수고하셨습니다");
+    jdbcTemplate.update("INSERT INTO chat_room (post_id) VALUES (?)", postId);
+    Long chatRoomId = jdbcTemplate.queryForObject(
+        "SELECT id FROM chat_room WHERE post_id = ?", Long.class, postId);
+    for (User user : List.of(admin, runner)) {
+      jdbcTemplate.update("INSERT INTO chat_message (chat_room_id, users_id, message) "
+          + "VALUES (?, ?, ?)", chatRoomId, user.getId(), "출발합니다");
+    }
+    return postId;
+  }
+
+  // 보관 대상 테이블과 보관 테이블의 행 수
+  private Map<String, Integer> counts() {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    for (String table : ROWS_PER_POST.keySet()) {
+      counts.put(table, count(table));
+      counts.put(table + "_archive", count(table + "_archive"));
+    }
+    return counts;
+  }
+
+  private int count(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+}
@@ -0,0 +1,151 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import com.service.runnersmap.component.LivePostIndex;
+import com.service.runnersmap.component.MapSearchCache;
+import com.service.runnersmap.component.PostDetailCache;
+import com.service.runnersmap.component.PostTileCache;
+import com.service.runnersmap.component.RunDateCalendar;
+import com.service.runnersmap.dto.PostDto;
+import com.service.runnersmap.dto.PostInDto;
+import com.service.runnersmap.entity.AfterRunPicture;
+import com.service.runnersmap.entity.Likes;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 지도 조회 시 완료 모집글의 인증샷/좋아요 조회 쿼리 수
+ * - 실제 DB(H2)에 인증샷/좋아요를 저장하고, Hibernate 통계로 실행된 SQL 문 수를 센다.
+ */
+@RunnersDataJpaTest
+@Import(PostService.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostServiceAfterRunPictureTest {
+
+  private static final int POST_COUNT = 20;
+
+  private static final int LIKE_COUNT_PER_PICTURE = 5;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockBean
+  private LivePostIndex livePostIndex;
+
+  @MockBean
+  private MapSearchCache mapSearchCache;
+
+  @MockBean
+  private PostTileCache postTileCache;
+
+  @MockBean
+  private PostDetailCache postDetailCache;
+
+  @MockBean
+  private RunDateCalendar runDateCalendar;
+
+  @MockBean
+  private ChatService chatService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // 캐시 없이 바로 조회
+    when(mapSearchCache.get(any(PostInDto.class), any())).thenAnswer(invocation ->
+        ((Function<PostInDto, List<PostDto>>) invocation.getArgument(1))
+            .apply(invocation.getArgument(0)));
+    when(livePostIndex.isReady()).thenReturn(true);
+  }
+
+  @Test
+  void 지도조회_완료모집글_인증샷과_좋아요는_모집글수와_무관하게_SQL_2회() throws Exception {
+    List<User> likers = new ArrayList<>();
+    for (int i = 1; i <= LIKE_COUNT_PER_PICTURE; i++) {
+      likers.add(em.persist(RunnersFixtures.user("liker" + i)));
+    }
+    User admin = em.persist(RunnersFixtures.user("admin"));
+
+    List<PostDto> posts = new ArrayList<>();
+    for (int i = 0; i < POST_COUNT; i++) {
+      Post post = RunnersFixtures.post(admin, LocalDateTime.now().minusDays(1));
+      post.setArriveYn(true);
+      em.persist(post);
+      AfterRunPicture picture = em.persist(AfterRunPicture.builder()
+          .user(admin)
+          .post(post)
+          .afterRunPictureUrl("https://picture/" + post.getPostId())
+          .likeCount(LIKE_COUNT_PER_PICTURE)
+          .build());
+      likers.forEach(liker -> em.persist(Likes.builder()
+          .afterRunPicture(picture)
+          .user(liker)
+          .build()));
+      posts.add(PostDto.fromEntity(post, null));
+    }
+    em.flush();
+    em.clear();
+
+    when(livePostIndex.search(any(PostInDto.class), anyDouble(), anyInt(), any()))
+        .thenReturn(posts);
+
+    statistics.clear();
+    List<PostDto> result = postService.searchPost(PostInDto.builder().lat(37.5).lng(127.0).build());
+
+    assertEquals(POST_COUNT, result.size());
+    result.forEach(post -> {
+      assertEquals("https://picture/" + post.getPostId(), post.getAfterRunPictureUrl());
+      assertEquals(LIKE_COUNT_PER_PICTURE, post.getLikeCount());
+    });
+
+    // 모집글 건별 인증샷/좋아요 조회(N+1) 없이 인증샷 1회, 좋아요 1회
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void 지도조회_완료모집글이_없으면_인증샷_조회하지_않음() throws Exception {
+    PostDto post = PostDto.builder()
+        .postId(1L)
+        .startDateTime(LocalDateTime.now().plusDays(1))
+        .arriveYn(false)
+        .build();
+    when(livePostIndex.search(any(PostInDto.class), anyDouble(), anyInt(), any()))
+        .thenReturn(List.of(post));
+
+    statistics.clear();
+    List<PostDto> result = postService.searchPost(PostInDto.builder().lat(37.5).lng(127.0).build());
+
+    assertEquals(1, result.size());
+    assertEquals(0, statistics.getPrepareStatementCount());
+  }
+}
@@ -0,0 +1,79 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.dto.RankDto;
+import com.service.runnersmap.entity.Rank;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.repository.RankRepository;
+import com.service.runnersmap.repository.UserRepository;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.support.RunnersTables;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 월별 랭킹 조회 (H2)
+ * - 테스트 트랜잭션 없이 호출하여, 사용자 정보까지 RankReader 의 트랜잭션 안에서 DTO 로 바뀌는지 확인
+ */
+@RunnersDataJpaTest
+@Import(RankReader.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RankReaderTest {
+
+  @Autowired
+  private RankReader rankReader;
+
+  @Autowired
+  private RankRepository rankRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 해당_월의_100위까지_사용자_정보와_함께_순위순으로_조회() {
+    saveRank("runner2", 2024, 11, 2);
+    saveRank("runner1", 2024, 11, 1);
+    saveRank("runner101", 2024, 11, 101);
+    saveRank("october", 2024, 10, 3);
+
+    Page<RankDto> ranks = rankReader.findMonthRanks(2024, 11, PageRequest.of(0, 20));
+
+    assertEquals(2, ranks.getTotalElements());
+    assertEquals(List.of(1, 2), ranks.map(RankDto::getRankPosition).getContent());
+    assertEquals(List.of("runner1", "runner2"), ranks.map(RankDto::getNickName).getContent());
+    assertEquals("01:00:00", ranks.getContent().get(0).getTotalTime());
+  }
+
+  private void saveRank(String nickname, int year, int month, int rankPosition) {
+    User user = userRepository.save(RunnersFixtures.user(nickname));
+    rankRepository.save(Rank.builder()
+        .user(user)
+        .year(year)
+        .month(month)
+        .rankPosition(rankPosition)
+        .totalDistance(10000)
+        .totalTime(Duration.ofHours(1))
+        .batchExecutedDate(LocalDate.of(year, month, 1))
+        .build());
+  }
+}
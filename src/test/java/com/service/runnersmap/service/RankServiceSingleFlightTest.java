@@ -0,0 +1,82 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.service.runnersmap.dto.RankDto;
+import com.service.runnersmap.support.Burst;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class RankServiceSingleFlightTest {
+
+  private static final int CONCURRENT_REQUESTS = 50;
+
+  // 조회 수행 시간 (동시 요청이 모두 도착할 만큼 충분히 길게)
+  private static final long QUERY_MILLIS = 500;
+
+  @Mock
+  private RankReader rankReader;
+
+  @InjectMocks
+  private RankService rankService;
+
+  @Test
+  void 동시에_들어온_같은_랭킹조회는_쿼리를_한번만_수행() throws Exception {
+    Page<RankDto> page = new PageImpl<>(List.of());
+    when(rankReader.findMonthRanks(anyInt(), anyInt(), any(Pageable.class)))
+        .thenAnswer(invocation -> {
+          Thread.sleep(QUERY_MILLIS);
+          return page;
+        });
+
+    List<Page<RankDto>> results = Burst.run(CONCURRENT_REQUESTS, () ->
+        rankService.searchRankByMonth(2024, 11, PageRequest.of(0, 20)));
+
+    assertEquals(CONCURRENT_REQUESTS, results.size());
+    results.forEach(result -> assertSame(page, result));
+    verify(rankReader, times(1)).findMonthRanks(anyInt(), anyInt(), any(Pageable.class));
+  }
+
+  @Test
+  void 조회가_끝난_뒤의_요청과_다른_조건의_요청은_따로_수행() throws Exception {
+    when(rankReader.findMonthRanks(anyInt(), anyInt(), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of()));
+
+    rankService.searchRankByMonth(2024, 11, PageRequest.of(0, 20));
+    rankService.searchRankByMonth(2024, 11, PageRequest.of(0, 20));
+    rankService.searchRankByMonth(2024, 11, PageRequest.of(1, 20));
+
+    verify(rankReader, times(3)).findMonthRanks(anyInt(), anyInt(), any(Pageable.class));
+  }
+
+  @Test
+  void 조회_실패시_함께_기다린_요청도_같은_예외() throws Exception {
+    when(rankReader.findMonthRanks(anyInt(), anyInt(), any(Pageable.class)))
+        .thenAnswer(invocation -> {
+          Thread.sleep(QUERY_MILLIS);
+          throw new IllegalStateException("db down");
+        });
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () ->
+        Burst.run(CONCURRENT_REQUESTS, () ->
+            rankService.searchRankByMonth(2024, 11, PageRequest.of(0, 20))));
+    assertEquals(IllegalStateException.class, exception.getCause().getClass());
+  }
+}
@@ -0,0 +1,184 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.component.RunDateCalendar;
+import com.service.runnersmap.component.RunTrackStore;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.entity.UserPost;
+import com.service.runnersmap.event.PostChangeEvent;
+import com.service.runnersmap.event.RunArrivedEvent;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.UserPostRepository;
+import com.service.runnersmap.repository.UserRepository;
+import com.service.runnersmap.support.Burst;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.support.RunnersTables;
+import com.service.runnersmap.type.PostChangeType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 마지막 러너들이 동시에 완료(또는 나가기)할 때 도착 처리 (H2, 실제 트랜잭션)
+ * - 조건부 UPDATE(남은 러너 수 감소 / 도착 처리)만으로 도착 처리와 도착 이벤트가 한 번만 일어나는지 확인
+ * - 이벤트는 커밋된 트랜잭션의 것만 센다.
+ */
+@RunnersDataJpaTest
+@Import({UserPostService.class, RunTrackStore.class,
+    UserPostServiceCompleteTest.ArrivalEvents.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserPostServiceCompleteTest {
+
+  private static final int RUNNER_CNT = 20;
+
+  @Autowired
+  private UserPostService userPostService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private UserPostRepository userPostRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ArrivalEvents arrivalEvents;
+
+  @MockBean
+  private RunDateCalendar runDateCalendar;
+
+  private Long postId;
+
+  private final List<Long> runnerIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    arrivalEvents.clear();
+    User admin = userRepository.save(RunnersFixtures.user("admin"));
+    Post post = RunnersFixtures.post(admin, LocalDateTime.now().minusHours(1));
+    post.setLimitMemberCnt(RUNNER_CNT);
+    post.setCurrentMemberCnt(RUNNER_CNT);
+    post.setRemainingRunnerCnt(RUNNER_CNT);
+    post.setDepartureYn(true);
+    post = postRepository.save(post);
+    postId = post.getPostId();
+
+    runnerIds.clear();
+    for (int i = 0; i < RUNNER_CNT; i++) {
+      User runner = userRepository.save(RunnersFixtures.user("runner" + i));
+      UserPost userPost = RunnersFixtures.userPost(runner, post);
+      userPost.setActualStartTime(LocalDateTime.now().minusMinutes(30));
+      userPostRepository.save(userPost);
+      runnerIds.add(runner.getId());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 모든_러너가_동시에_완료해도_도착처리와_도착이벤트는_한번만() throws Exception {
+    Burst.run(RUNNER_CNT, i -> (Callable<Void>) () -> {
+      userPostService.completeRecord(postId, runnerIds.get(i));
+      return null;
+    });
+
+    assertEquals(0, remainingRunnerCnt());
+    assertTrue(arrived());
+    assertEquals(RUNNER_CNT, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_post WHERE post_id = ? AND actual_end_time IS NOT NULL",
+        Integer.class, postId));
+    assertEquals(1, arrivalEvents.arrived.get());
+    assertEquals(1, arrivalEvents.completed.get());
+  }
+
+  @Test
+  void 완료와_나가기가_동시에_일어나도_도착처리는_한번만() throws Exception {
+    // 절반은 완료, 절반은 러닝 중 나가기
+    Burst.run(RUNNER_CNT, i -> (Callable<Void>) () -> {
+      if (i % 2 == 0) {
+        userPostService.completeRecord(postId, runnerIds.get(i));
+      } else {
+        userPostService.participateOut(postId, runnerIds.get(i));
+      }
+      return null;
+    });
+
+    assertEquals(0, remainingRunnerCnt());
+    assertEquals(RUNNER_CNT / 2, jdbcTemplate.queryForObject(
+        "SELECT current_member_cnt FROM post WHERE post_id = ?", Integer.class, postId));
+    assertTrue(arrived());
+    assertEquals(1, arrivalEvents.arrived.get());
+    assertEquals(1, arrivalEvents.completed.get());
+  }
+
+  @Test
+  void 남은_러너가_있으면_도착처리하지_않음() throws Exception {
+    userPostService.completeRecord(postId, runnerIds.get(0));
+
+    assertEquals(RUNNER_CNT - 1, remainingRunnerCnt());
+    assertFalse(arrived());
+    assertEquals(0, arrivalEvents.arrived.get());
+  }
+
+  private int remainingRunnerCnt() {
+    return jdbcTemplate.queryForObject(
+        "SELECT remaining_runner_cnt FROM post WHERE post_id = ?", Integer.class, postId);
+  }
+
+  private boolean arrived() {
+    return jdbcTemplate.queryForObject(
+        "SELECT arrive_yn FROM post WHERE post_id = ?", Boolean.class, postId);
+  }
+
+  // 커밋된 도착 처리 이벤트 수
+  @TestConfiguration
+  static class ArrivalEvents {
+
+    private final AtomicInteger arrived = new AtomicInteger();
+
+    private final AtomicInteger completed = new AtomicInteger();
+
+    @TransactionalEventListener
+    public void onArrived(RunArrivedEvent event) {
+      arrived.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onPostChange(PostChangeEvent event) {
+      if (event.getType() == PostChangeType.COMPLETE) {
+        completed.incrementAndGet();
+      }
+    }
+
+    void clear() {
+      arrived.set(0);
+      completed.set(0);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.component.RunDateCalendar;
+import com.service.runnersmap.component.RunTrackStore;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.exception.RunnersMapException;
+import com.service.runnersmap.repository.PostRepository;
+import com.service.runnersmap.repository.UserRepository;
+import com.service.runnersmap.support.Burst;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import com.service.runnersmap.support.RunnersTables;
+import com.service.runnersmap.type.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 한 모집글에 참여 요청이 몰릴 때 제한 인원 / 중복 참여 제약 (H2, 실제 트랜잭션)
+ * - 요청마다 서비스 트랜잭션이 커밋/롤백되며, 조건부 UPDATE(current_member_cnt < limit_member_cnt)와
+ *   유니크 키(uk_user_post_valid_post, uk_user_post_valid_run_date)만으로 참여가 결정되는지 확인
+ * - 같은 날짜 확인(RunDateCalendar)은 모두 통과한 상태(동시 요청)로 둔다.
+ */
+@RunnersDataJpaTest
+@Import(UserPostService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserPostServiceParticipateTest {
+
+  private static final int LIMIT_MEMBER_CNT = 5;
+
+  private static final int CONCURRENT_REQUESTS = 30;
+
+  @Autowired
+  private UserPostService userPostService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private RunTrackStore runTrackStore;
+
+  @MockBean
+  private RunDateCalendar runDateCalendar;
+
+  private User admin;
+
+  private final LocalDateTime startDateTime = LocalDateTime.now().plusDays(1);
+
+  @BeforeEach
+  void setUp() {
+    admin = userRepository.save(RunnersFixtures.user("admin"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RunnersTables.truncateAll(jdbcTemplate);
+  }
+
+  @Test
+  void 여러_사용자가_동시에_참여해도_제한인원까지만_참여() throws Exception {
+    Long postId = savePost();
+    List<Long> userIds = saveUsers(CONCURRENT_REQUESTS);
+
+    Map<String, Long> results = participate(i -> postId, userIds::get);
+
+    assertEquals(LIMIT_MEMBER_CNT, results.get("OK").intValue());
+    assertEquals(CONCURRENT_REQUESTS - LIMIT_MEMBER_CNT,
+        results.get(ErrorCode.FULL_MEMBER_POST_DATA.name()).intValue());
+    assertEquals(LIMIT_MEMBER_CNT, currentMemberCnt(postId));
+    assertEquals(LIMIT_MEMBER_CNT, validParticipations(postId));
+  }
+
+  @Test
+  void 같은_사용자가_동시에_여러번_참여해도_한번만_참여() throws Exception {
+    Long postId = savePost();
+    Long userId = saveUsers(1).get(0);
+
+    Map<String, Long> results = participate(i -> postId, i -> userId);
+
+    assertEquals(1, results.get("OK").intValue());
+    assertEquals(CONCURRENT_REQUESTS - 1,
+        results.getOrDefault(ErrorCode.ALREADY_PARTICIPATE_USER.name(), 0L).intValue()
+            + results.getOrDefault(ErrorCode.FULL_MEMBER_POST_DATA.name(), 0L).intValue());
+    // 유니크 키 위반으로 롤백된 요청의 인원 증가는 남지 않음
+    assertEquals(1, currentMemberCnt(postId));
+    assertEquals(1, validParticipations(postId));
+  }
+
+  @Test
+  void 같은_날짜의_여러_모집글에_동시에_참여해도_하나만_참여() throws Exception {
+    List<Long> postIds = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+      postIds.add(savePost());
+    }
+    Long userId = saveUsers(1).get(0);
+
+    Map<String, Long> results = participate(postIds::get, i -> userId);
+
+    assertEquals(1, results.get("OK").intValue());
+    assertEquals(CONCURRENT_REQUESTS - 1,
+        results.get(ErrorCode.OVERLAPPING_POST_DATE.name()).intValue());
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "SELECT SUM(current_member_cnt) FROM post", Integer.class));
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_post WHERE valid_yn = true", Integer.class));
+  }
+
+  // 요청 순번별 모집글 / 사용자로 동시에 참여, 결과(OK / 에러코드)별 건수
+  private Map<String, Long> participate(IntFunction<Long> postIdOf, IntFunction<Long> userIdOf) throws Exception {
+    List<String> results = Burst.run(CONCURRENT_REQUESTS, i -> (Callable<String>) () -> {
+      try {
+        userPostService.participate(postIdOf.apply(i), userIdOf.apply(i));
+        return "OK";
+      } catch (RunnersMapException e) {
+        return e.getErrorCode().name();
+      }
+    });
+    return results.stream().collect(Collectors.groupingBy(result -> result, Collectors.counting()));
+  }
+
+  private Long savePost() {
+    Post post = RunnersFixtures.post(admin, startDateTime);
+    post.setLimitMemberCnt(LIMIT_MEMBER_CNT);
+    return postRepository.save(post).getPostId();
+  }
+
+  private List<Long> saveUsers(int count) {
+    List<Long> userIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      userIds.add(userRepository.save(RunnersFixtures.user("runner" + i)).getId());
+    }
+    return userIds;
+  }
+
+  private int currentMemberCnt(Long postId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT current_member_cnt FROM post WHERE post_id = ?", Integer.class, postId);
+  }
+
+  private int validParticipations(Long postId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_post WHERE post_id = ? AND valid_yn = true", Integer.class, postId);
+  }
+}
@@ -0,0 +1,164 @@
+package com.service.runnersmap.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.component.RunDateCalendar;
+import com.service.runnersmap.component.RunTrackStore;
+import com.service.runnersmap.dto.UserPostDto;
+import com.service.runnersmap.dto.UserPostSearchDto;
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.entity.UserPost;
+import com.service.runnersmap.support.RunnersDataJpaTest;
+import com.service.runnersmap.support.RunnersFixtures;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 러닝기록 조회(searchRunningData) 집계 (H2, sumRunningStats)
+ * - ALL   : 유효한 기록(참여 + 보관)의 누적 거리, 유효한 기록이 없으면 null
+ * - MONTH : 해당 월의 모든 기록(나간 기록, 완료 전 기록 포함)의 거리
+ * - DAY   : 해당 월에 완료한 유효 기록의 도착일자별 거리, 소요시간
+ */
+@RunnersDataJpaTest
+@Import(UserPostService.class)
+class UserPostServiceRunningDataTest {
+
+  private static final int YEAR = 2024;
+
+  private static final int MONTH = 11;
+
+  @Autowired
+  private UserPostService userPostService;
+
+  @Autowired
+  private TestEntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private RunTrackStore runTrackStore;
+
+  @MockBean
+  private RunDateCalendar runDateCalendar;
+
+  private User runner;
+
+  private User other;
+
+  private long archivedUserPostId = 1_000_000;
+
+  @BeforeEach
+  void setUp() {
+    runner = em.persist(RunnersFixtures.user("runner"));
+    other = em.persist(RunnersFixtures.user("other"));
+  }
+
+  @Test
+  void 참여_기록과_보관된_기록을_합쳐_전체_월_일별로_집계() throws Exception {
+    // 11/3 도착 : 참여 기록 두 건(11/2 밤 출발 포함, 도착일자 기준) + 보관된 기록 한 건
+    record(runner, true, day(3), 5000.0, 1800);
+    record(runner, true, LocalDateTime.of(YEAR, MONTH, 3, 0, 30), 3000.0, 1200);
+    archived(runner, true, day(3).plusHours(5), 1000.0, 600);
+    // 11/10 : 보관된 기록
+    archived(runner, true, day(10), 7000.0, 2400);
+    // 나간 기록 : MONTH 에만 포함
+    record(runner, false, day(12), 2000.0, 900);
+    archived(runner, false, day(14), 500.0, 300);
+    // 완료 전 기록 : ALL, MONTH 에 포함
+    record(runner, true, null, 4000.0, null);
+    // 다른 달 기록 : ALL 에만 포함
+    record(runner, true, LocalDateTime.of(YEAR, 10, 31, 23, 0), 6000.0, 2000);
+    archived(runner, true, LocalDateTime.of(YEAR - 1, MONTH, 3, 7, 0), 8000.0, 3000);
+    archived(runner, false, LocalDateTime.of(YEAR, 9, 1, 7, 0), 9000.0, 3000);
+    // 다른 사용자 기록 : 제외
+    record(other, true, day(3), 10000.0, 5000);
+    archived(other, true, day(3), 10000.0, 5000);
+    em.flush();
+    em.clear();
+
+    List<UserPostSearchDto> result = userPostService.searchRunningData(runner.getId(), YEAR, MONTH);
+
+    assertEquals(List.of("ALL", "MONTH", "DAY"), result.stream().map(UserPostSearchDto::getType).toList());
+    assertEquals(5000.0 + 3000.0 + 1000.0 + 7000.0 + 4000.0 + 6000.0 + 8000.0,
+        (Double) result.get(0).getResultList(), 0.001);
+    assertEquals(5000.0 + 3000.0 + 1000.0 + 7000.0 + 2000.0 + 500.0 + 4000.0,
+        (Double) result.get(1).getResultList(), 0.001);
+
+    List<UserPostDto> days = days(result);
+    assertEquals(List.of(3, 10), days.stream().map(UserPostDto::getDay).toList());
+    assertEquals(9000.0, days.get(0).getDistance(), 0.001);
+    assertEquals("01:00:00", days.get(0).getRunningTime());
+    assertEquals(7000.0, days.get(1).getDistance(), 0.001);
+    assertEquals("00:40:00", days.get(1).getRunningTime());
+  }
+
+  @Test
+  void 유효한_기록이_없으면_전체는_null_월은_0() throws Exception {
+    record(runner, false, day(12), 2000.0, 900);
+    archived(runner, false, LocalDateTime.of(YEAR, 9, 1, 7, 0), 9000.0, 3000);
+    em.flush();
+    em.clear();
+
+    List<UserPostSearchDto> result = userPostService.searchRunningData(runner.getId(), YEAR, MONTH);
+
+    assertNull(result.get(0).getResultList());
+    assertEquals(2000.0, (Double) result.get(1).getResultList(), 0.001);
+    assertTrue(days(result).isEmpty());
+  }
+
+  @Test
+  void 기록이_없으면_전체는_null_월은_0_일별은_빈_목록() throws Exception {
+    List<UserPostSearchDto> result = userPostService.searchRunningData(runner.getId(), YEAR, MONTH);
+
+    assertNull(result.get(0).getResultList());
+    assertEquals(0.0, (Double) result.get(1).getResultList(), 0.001);
+    assertTrue(days(result).isEmpty());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<UserPostDto> days(List<UserPostSearchDto> result) {
+    return (List<UserPostDto>) result.get(2).getResultList();
+  }
+
+  private static LocalDateTime day(int dayOfMonth) {
+    return LocalDateTime.of(YEAR, MONTH, dayOfMonth, 7, 0);
+  }
+
+  // 참여 기록 (endTime 이 null 이면 완료 전, 모집글 출발일시 = 완료일시 또는 해당 월 20일)
+  private void record(User user, boolean valid, LocalDateTime endTime, Double distance,
+      Integer seconds) {
+    LocalDateTime start = endTime != null ? endTime.minusHours(1) : day(20);
+    Post post = em.persist(RunnersFixtures.post(user, start));
+    UserPost userPost = RunnersFixtures.userPost(user, post);
+    userPost.setValidYn(valid);
+    userPost.setTotalDistance(distance);
+    userPost.setActualStartTime(start);
+    userPost.setActualEndTime(endTime);
+    userPost.setRunningDuration(seconds != null ? Duration.ofSeconds(seconds) : null);
+    userPost.setRunningSeconds(seconds != null ? seconds.longValue() : null);
+    em.persist(userPost);
+  }
+
+  // 보관된 기록 (user_post_archive : 엔티티가 읽기 전용이므로 SQL 로 저장)
+  private void archived(User user, boolean valid, LocalDateTime endTime, Double distance,
+      Integer seconds) {
+    LocalDateTime start = endTime.minusHours(1);
+    jdbcTemplate.update("INSERT INTO user_post_archive (user_post_id, users_id, post_id, valid_yn, "
+            + "abandoned_yn, total_distance, actual_start_time, actual_end_time, running_seconds, "
+            + "run_date, year, month) VALUES (?, ?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?)",
+        archivedUserPostId++, user.getId(), archivedUserPostId, valid, distance, start, endTime,
+        seconds, start.toLocalDate(), start.getYear(), start.getMonthValue());
+  }
+}
@@ -53,7 +53,7 @@ public class UserServiceTest {
   public void setup() {
     MockitoAnnotations.openMocks(this);
     userService = new UserService(userRepository, passwordEncoder, jwtTokenProvider,
-        refreshTokenRepository, null);
+        refreshTokenRepository, null, null);
   }
 
   @Test
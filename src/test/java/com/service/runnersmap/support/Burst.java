@@ -0,0 +1,48 @@
+package com.service.runnersmap.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * 동시 요청 실행 (요청 수만큼의 스레드가 CyclicBarrier 에서 모두 준비된 뒤 한꺼번에 시작)
+ * - 결과는 요청 순서대로 반환하며, 요청이 던진 예외는 ExecutionException 으로 전달된다.
+ */
+public final class Burst {
+
+  private Burst() {
+  }
+
+  // 같은 요청을 count 번 동시에 실행
+  public static <T> List<T> run(int count, Callable<T> request) throws Exception {
+    return run(count, i -> request);
+  }
+
+  // 요청 순번(0 ~ count-1)별 요청을 동시에 실행
+  public static <T> List<T> run(int count, IntFunction<Callable<T>> requestOf) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(count);
+    CyclicBarrier barrier = new CyclicBarrier(count);
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        Callable<T> request = requestOf.apply(i);
+        futures.add(executor.submit(() -> {
+          barrier.await();
+          return request.call();
+        }));
+      }
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
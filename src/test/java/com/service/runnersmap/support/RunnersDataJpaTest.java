@@ -0,0 +1,38 @@
+package com.service.runnersmap.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * H2(MySQL 모드) 기반 JPA 테스트
+ * - 엔티티로 테이블을 만든 뒤 db/h2/schema.sql 로 MySQL 마이그레이션(db/*.sql)의 생성 컬럼, 유니크 키,
+ *   엔티티 없는 테이블(run_track, *_archive)을 H2 문법으로 추가한다.
+ * - 컨텍스트마다 별도 인메모리 DB 를 사용 (커밋하는 테스트의 데이터가 다른 컨텍스트에 보이지 않도록)
+ * - 실제 SQL(JPQL, 네이티브 쿼리, 조건부 UPDATE, 유니크 키)을 확인해야 하는 테스트에서 사용
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:runners-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+        + "NON_KEYWORDS=YEAR,MONTH,DAY,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(scripts = "/db/h2/schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+public @interface RunnersDataJpaTest {
+
+  @AliasFor(annotation = DataJpaTest.class, attribute = "showSql")
+  boolean showSql() default false;
+}
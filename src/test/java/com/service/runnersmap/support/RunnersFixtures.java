@@ -0,0 +1,66 @@
+package com.service.runnersmap.support;
+
+import com.service.runnersmap.entity.Post;
+import com.service.runnersmap.entity.User;
+import com.service.runnersmap.entity.UserPost;
+import java.time.LocalDateTime;
+
+/**
+ * DB 기반 테스트용 엔티티 생성 (저장은 호출하는 쪽에서)
+ */
+public final class RunnersFixtures {
+
+  // 서울 시청
+  public static final double SEOUL_LAT = 37.5665;
+  public static final double SEOUL_LNG = 126.9780;
+
+  private RunnersFixtures() {
+  }
+
+  public static User user(String nickname) {
+    return User.builder()
+        .email(nickname + "@runners.map")
+        .nickname(nickname)
+        .gender("MALE")
+        .build();
+  }
+
+  public static Post post(User admin, LocalDateTime startDateTime) {
+    return post(admin, startDateTime, SEOUL_LAT, SEOUL_LNG);
+  }
+
+  public static Post post(User admin, LocalDateTime startDateTime, double lat, double lng) {
+    return Post.builder()
+        .admin(admin)
+        .title("한강 러닝")
+        .content("같이 달려요")
+        .limitMemberCnt(5)
+        .currentMemberCnt(0)
+        .remainingRunnerCnt(0)
+        .gender("MALE")
+        .startDateTime(startDateTime)
+        .startPosition("서울 시청")
+        .distance(5.0)
+        .paceMin(6)
+        .paceSec(0)
+        .departureYn(false)
+        .arriveYn(false)
+        .lat(lat)
+        .lng(lng)
+        .build();
+  }
+
+  // 모집글의 유효한 참여 (러닝 날짜, 연/월은 출발일시 기준)
+  public static UserPost userPost(User user, Post post) {
+    return UserPost.builder()
+        .user(user)
+        .post(post)
+        .validYn(true)
+        .abandonedYn(false)
+        .totalDistance(post.getDistance())
+        .runDate(post.getStartDateTime().toLocalDate())
+        .year(post.getStartDateTime().getYear())
+        .month(post.getStartDateTime().getMonthValue())
+        .build();
+  }
+}
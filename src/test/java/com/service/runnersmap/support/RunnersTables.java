@@ -0,0 +1,29 @@
+package com.service.runnersmap.support;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 커밋하는 DB 테스트(@Transactional(propagation = NOT_SUPPORTED))의 데이터 정리
+ */
+public final class RunnersTables {
+
+  private RunnersTables() {
+  }
+
+  // 현재 스키마의 모든 테이블을 비움 (외래키 검사를 끄고 순서와 관계없이 비운 뒤 다시 켬)
+  public static void truncateAll(JdbcTemplate jdbcTemplate) {
+    List<String> tables = jdbcTemplate.queryForList(
+        "SELECT table_name FROM information_schema.tables "
+            + "WHERE table_schema = SCHEMA() AND table_type = 'BASE TABLE'",
+        String.class);
+    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    try {
+      for (String table : tables) {
+        jdbcTemplate.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+      }
+    } finally {
+      jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.service.runnersmap.type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class PathDetailTest {
+
+  @Test
+  void 확대_수준별_상세_수준() {
+    assertEquals(PathDetail.FULL, PathDetail.fromZoom(null));
+    assertEquals(PathDetail.FULL, PathDetail.fromZoom(20));
+    assertEquals(PathDetail.FULL, PathDetail.fromZoom(16));
+    assertEquals(PathDetail.HIGH, PathDetail.fromZoom(15));
+    assertEquals(PathDetail.HIGH, PathDetail.fromZoom(14));
+    assertEquals(PathDetail.MEDIUM, PathDetail.fromZoom(13));
+    assertEquals(PathDetail.MEDIUM, PathDetail.fromZoom(12));
+    assertEquals(PathDetail.LOW, PathDetail.fromZoom(11));
+    assertEquals(PathDetail.LOW, PathDetail.fromZoom(3));
+  }
+}
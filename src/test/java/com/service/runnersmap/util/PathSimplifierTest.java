@@ -0,0 +1,97 @@
+package com.service.runnersmap.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.entity.Path;
+import com.service.runnersmap.type.PathDetail;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathSimplifierTest {
+
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.9780;
+
+  @Test
+  void 허용_오차별_좌표_수() {
+    List<Path> route = loopRoute();
+
+    assertEquals(96, PathSimplifier.simplify(route, PathDetail.HIGH.getToleranceMeter()).size());
+    assertEquals(34, PathSimplifier.simplify(route, PathDetail.MEDIUM.getToleranceMeter()).size());
+    assertEquals(17, PathSimplifier.simplify(route, PathDetail.LOW.getToleranceMeter()).size());
+  }
+
+  @Test
+  void 단순화_경로는_양끝을_유지하고_원본_좌표는_모두_허용_오차_이내() {
+    List<Path> route = loopRoute();
+
+    for (PathDetail detail : List.of(PathDetail.HIGH, PathDetail.MEDIUM, PathDetail.LOW)) {
+      List<Path> simplified = PathSimplifier.simplify(route, detail.getToleranceMeter());
+
+      assertSame(route.get(0), simplified.get(0));
+      assertSame(route.get(route.size() - 1), simplified.get(simplified.size() - 1));
+      for (Path point : route) {
+        assertTrue(distanceToPolyline(point, simplified) <= detail.getToleranceMeter() + 1e-6);
+      }
+    }
+  }
+
+  @Test
+  void 직선_위의_좌표는_양끝만_남김() {
+    List<Path> line = new ArrayList<>();
+    for (int i = 0; i <= 100; i++) {
+      line.add(new Path(CENTER_LAT + i * 0.0001, CENTER_LNG + i * 0.0001));
+    }
+
+    assertEquals(List.of(line.get(0), line.get(100)), PathSimplifier.simplify(line, 1));
+  }
+
+  @Test
+  void 좌표가_2개_이하거나_허용_오차가_0이면_그대로() {
+    List<Path> two = List.of(new Path(CENTER_LAT, CENTER_LNG), new Path(CENTER_LAT + 1, CENTER_LNG));
+    List<Path> route = loopRoute();
+
+    assertNull(PathSimplifier.simplify(null, 5));
+    assertSame(two, PathSimplifier.simplify(two, 5));
+    assertSame(route, PathSimplifier.simplify(route, PathDetail.FULL.getToleranceMeter()));
+  }
+
+  // 반지름 1.6km(약 10km)를 한 바퀴 도는 2000개 좌표, 50개 좌표 주기로 좌우 10m 흔들림
+  private static List<Path> loopRoute() {
+    double cosLat = Math.cos(Math.toRadians(CENTER_LAT));
+    List<Path> route = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      double angle = 2 * Math.PI * i / 2000;
+      double radius = 1600 + 10 * Math.sin(i * 2 * Math.PI / 50);
+      route.add(new Path(
+          CENTER_LAT + radius * Math.sin(angle) / GeoUtils.METER_PER_DEGREE,
+          CENTER_LNG + radius * Math.cos(angle) / (GeoUtils.METER_PER_DEGREE * cosLat)));
+    }
+    return route;
+  }
+
+  // 좌표와 경로 사이의 최단 거리(m) (첫 좌표 기준 평면 근사)
+  private static double distanceToPolyline(Path point, List<Path> polyline) {
+    double cosLat = Math.cos(Math.toRadians(polyline.get(0).getLat()));
+    double px = point.getLng() * GeoUtils.METER_PER_DEGREE * cosLat;
+    double py = point.getLat() * GeoUtils.METER_PER_DEGREE;
+    double min = Double.MAX_VALUE;
+    for (int i = 0; i + 1 < polyline.size(); i++) {
+      double ax = polyline.get(i).getLng() * GeoUtils.METER_PER_DEGREE * cosLat;
+      double ay = polyline.get(i).getLat() * GeoUtils.METER_PER_DEGREE;
+      double bx = polyline.get(i + 1).getLng() * GeoUtils.METER_PER_DEGREE * cosLat;
+      double by = polyline.get(i + 1).getLat() * GeoUtils.METER_PER_DEGREE;
+      double dx = bx - ax;
+      double dy = by - ay;
+      double lengthSq = dx * dx + dy * dy;
+      double t = lengthSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSq;
+      t = Math.max(0, Math.min(1, t));
+      min = Math.min(min, Math.hypot(px - (ax + t * dx), py - (ay + t * dy)));
+    }
+    return min;
+  }
+}
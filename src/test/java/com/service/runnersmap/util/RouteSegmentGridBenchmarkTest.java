@@ -0,0 +1,81 @@
+package com.service.runnersmap.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.entity.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 경로 근처 검색 벤치마크 (전체 경로 스캔 vs 경로 선분 격자 인덱스)
+ * - 기본 테스트에서는 제외되며 benchmark 태스크로 수행한다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class RouteSegmentGridBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(RouteSegmentGridBenchmarkTest.class);
+
+  private static final int[] ROUTE_COUNTS = {1_000, 5_000, 10_000};
+
+  private static final int POINTS_PER_ROUTE = 300;
+
+  private static final int QUERY_COUNT = 200;
+
+  private static final double RADIUS_METER = 300;
+
+  @Test
+  @DisplayName("경로 근처 검색 - 경로 수별 전체 스캔 / 선분 격자 인덱스 응답시간 비교")
+  void benchmark() {
+    log.info(String.format("%8s | %15s | %15s", "routes", "scan(us)", "grid(us)"));
+
+    for (int routeCount : ROUTE_COUNTS) {
+      Random random = new Random(routeCount);
+      List<List<Path>> routes = new ArrayList<>(routeCount);
+      RouteSegmentGrid grid = new RouteSegmentGrid(0.005);
+      for (int i = 0; i < routeCount; i++) {
+        List<Path> route = RouteSegmentGridTest.route(random, POINTS_PER_ROUTE);
+        routes.add(route);
+        grid.put((long) i, route);
+      }
+
+      List<Path> queries = new ArrayList<>(QUERY_COUNT);
+      for (int i = 0; i < QUERY_COUNT; i++) {
+        queries.add(RouteSegmentGridTest.randomPoint(random));
+      }
+
+      long[] scanElapsed = new long[QUERY_COUNT];
+      long[] gridElapsed = new long[QUERY_COUNT];
+      for (int i = 0; i < QUERY_COUNT; i++) {
+        Path query = queries.get(i);
+
+        long start = System.nanoTime();
+        Set<Long> scanned = RouteSegmentGridTest.scan(routes, query.getLat(), query.getLng(), RADIUS_METER);
+        scanElapsed[i] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Set<Long> found = grid.findNear(query.getLat(), query.getLng(), RADIUS_METER);
+        gridElapsed[i] = System.nanoTime() - start;
+
+        // 두 방식의 결과는 동일해야 한다
+        assertEquals(scanned, found);
+      }
+
+      log.info(String.format("%8d | %15.1f | %15.1f",
+          routeCount, median(scanElapsed), median(gridElapsed)));
+    }
+  }
+
+  private static double median(long[] elapsed) {
+    long[] sorted = elapsed.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2] / 1_000.0;
+  }
+}
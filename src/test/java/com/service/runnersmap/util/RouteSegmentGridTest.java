@@ -0,0 +1,113 @@
+package com.service.runnersmap.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.service.runnersmap.entity.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RouteSegmentGridTest {
+
+  // 서울 시청 기준
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.9780;
+
+  @Test
+  void 좌표_하나짜리_경로와_선분_중간을_지나는_경로_모두_조회() {
+    RouteSegmentGrid grid = new RouteSegmentGrid(0.005);
+    // 동서로 약 1.7km 뻗은 경로 (선분 하나)
+    grid.put(1L, List.of(new Path(37.5, 127.00), new Path(37.5, 127.02)));
+    grid.put(2L, List.of(new Path(37.51, 127.01)));
+
+    // 선분 중간에서 북쪽으로 약 110m
+    assertEquals(Set.of(1L), grid.findNear(37.501, 127.01, 200));
+    assertEquals(Set.of(1L, 2L), grid.findNear(37.505, 127.01, 600));
+
+    grid.remove(1L);
+    assertTrue(grid.findNear(37.501, 127.01, 200).isEmpty());
+  }
+
+  @Test
+  void 경로를_바꾸면_이전_경로의_선분은_조회되지_않음() {
+    RouteSegmentGrid grid = new RouteSegmentGrid(0.005);
+    grid.put(1L, List.of(new Path(37.5, 127.00), new Path(37.5, 127.02)));
+
+    grid.put(1L, List.of(new Path(37.6, 127.00), new Path(37.6, 127.02)));
+
+    assertTrue(grid.findNear(37.501, 127.01, 200).isEmpty());
+    assertEquals(Set.of(1L), grid.findNear(37.601, 127.01, 200));
+    assertEquals(1, grid.size());
+  }
+
+  @Test
+  void 무작위_경로에서_전체_스캔과_같은_결과() {
+    Random random = new Random(1);
+    List<List<Path>> routes = new ArrayList<>();
+    RouteSegmentGrid grid = new RouteSegmentGrid(0.005);
+    for (int i = 0; i < 300; i++) {
+      List<Path> route = route(random, 100);
+      routes.add(route);
+      grid.put((long) i, route);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      Path query = randomPoint(random);
+      assertEquals(scan(routes, query.getLat(), query.getLng(), 300),
+          grid.findNear(query.getLat(), query.getLng(), 300));
+    }
+  }
+
+  // 서울 전역(약 40km x 40km)에서 출발하여 약 15m 간격으로 이어지는 경로
+  static List<Path> route(Random random, int pointCount) {
+    Path start = randomPoint(random);
+    double lat = start.getLat();
+    double lng = start.getLng();
+    double heading = random.nextDouble() * 2 * Math.PI;
+    List<Path> route = new ArrayList<>(pointCount);
+    for (int i = 0; i < pointCount; i++) {
+      heading += (random.nextDouble() - 0.5) * 0.5;
+      lat += Math.cos(heading) * 0.000135;
+      lng += Math.sin(heading) * 0.00017;
+      route.add(new Path(lat, lng));
+    }
+    return route;
+  }
+
+  static Path randomPoint(Random random) {
+    return new Path(CENTER_LAT + (random.nextDouble() - 0.5) * 0.36,
+        CENTER_LNG + (random.nextDouble() - 0.5) * 0.45);
+  }
+
+  // 모든 경로의 모든 선분과 거리 계산
+  static Set<Long> scan(List<List<Path>> routes, double lat, double lng, double radius) {
+    double cosLat = Math.cos(Math.toRadians(lat));
+    Set<Long> result = new HashSet<>();
+    for (int i = 0; i < routes.size(); i++) {
+      List<Path> route = routes.get(i);
+      for (int j = 0; j < route.size() - 1; j++) {
+        if (distance(lat, lng, cosLat, route.get(j), route.get(j + 1)) <= radius) {
+          result.add((long) i);
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static double distance(double lat, double lng, double cosLat, Path a, Path b) {
+    double ax = (a.getLng() - lng) * GeoUtils.METER_PER_DEGREE * cosLat;
+    double ay = (a.getLat() - lat) * GeoUtils.METER_PER_DEGREE;
+    double bx = (b.getLng() - lng) * GeoUtils.METER_PER_DEGREE * cosLat;
+    double by = (b.getLat() - lat) * GeoUtils.METER_PER_DEGREE;
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSq = dx * dx + dy * dy;
+    double t = lengthSq == 0 ? 0 : Math.max(0, Math.min(1, -(ax * dx + ay * dy) / lengthSq));
+    return Math.hypot(ax + t * dx, ay + t * dy);
+  }
+}
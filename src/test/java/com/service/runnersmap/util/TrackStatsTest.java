@@ -0,0 +1,49 @@
+package com.service.runnersmap.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.service.runnersmap.entity.TrackPoint;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrackStatsTest {
+
+  private static final long START_TIME = 1_700_000_000_000L;
+
+  // 위도 0.0001도 : 약 11.1m
+  private static final double LAT_STEP = 0.0001;
+
+  @Test
+  void 실제_달린_거리와_시간_계산() {
+    // 3초마다 약 11.1m (약 3.7m/s) 로 100개 구간
+    TrackStats stats = TrackStats.of(straightTrack(101));
+
+    assertEquals(1112, stats.distanceMeter(), 2);
+    assertEquals(300, stats.durationSeconds());
+    assertEquals(101, stats.pointCount());
+  }
+
+  @Test
+  void 순서가_뒤바뀐_기록은_시각순으로_계산하고_GPS_튐은_제외() {
+    List<TrackPoint> track = new ArrayList<>(straightTrack(11));
+    // 3초 사이 약 1.1km 이동 (튐)
+    track.add(5, new TrackPoint(37.5 + 0.01, 127.0, START_TIME + 5 * 3000 + 1000));
+    List<TrackPoint> shuffled = new ArrayList<>(track);
+    Collections.reverse(shuffled);
+
+    TrackStats stats = TrackStats.of(shuffled);
+
+    assertEquals(111.2, stats.distanceMeter(), 0.5);
+    assertEquals(11, stats.pointCount());
+  }
+
+  private static List<TrackPoint> straightTrack(int pointCount) {
+    List<TrackPoint> track = new ArrayList<>();
+    for (int i = 0; i < pointCount; i++) {
+      track.add(new TrackPoint(37.5 + i * LAT_STEP, 127.0, START_TIME + i * 3000L));
+    }
+    return track;
+  }
+}
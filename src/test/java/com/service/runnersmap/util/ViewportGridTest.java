@@ -0,0 +1,73 @@
+package com.service.runnersmap.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ViewportGridTest {
+
+  // 서울 시청 기준
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.9780;
+
+  @Test
+  @DisplayName("화면 영역 격자 - 좌표를 포함하는 구독자가 전체 비교 결과와 동일")
+  void findContainingMatchesScan() {
+    Random random = new Random(11);
+    ViewportGrid grid = new ViewportGrid(0.1, 64);
+    Map<String, BoundingBox> boxes = new HashMap<>();
+
+    // 동네 단위 화면 ~ 전국 단위 화면(격자 미등록)까지 섞어서 등록
+    for (int i = 0; i < 2_000; i++) {
+      double size = i % 100 == 0 ? 3.0 : 0.01 + random.nextDouble() * 0.2;
+      double lat = CENTER_LAT + (random.nextDouble() - 0.5) * 0.5;
+      double lng = CENTER_LNG + (random.nextDouble() - 0.5) * 0.5;
+      BoundingBox box = new BoundingBox(lat - size / 2, lng - size / 2, lat + size / 2,
+          lng + size / 2);
+      boxes.put("session-" + i, box);
+      grid.put("session-" + i, box);
+    }
+
+    // 일부는 재등록(이동), 일부는 해제
+    for (int i = 0; i < 200; i++) {
+      BoundingBox moved = new BoundingBox(CENTER_LAT, CENTER_LNG, CENTER_LAT + 0.05,
+          CENTER_LNG + 0.05);
+      boxes.put("session-" + i, moved);
+      grid.put("session-" + i, moved);
+    }
+    for (int i = 200; i < 400; i++) {
+      boxes.remove("session-" + i);
+      grid.remove("session-" + i);
+    }
+    assertEquals(boxes.size(), grid.size());
+
+    for (int i = 0; i < 500; i++) {
+      double lat = CENTER_LAT + (random.nextDouble() - 0.5) * 0.6;
+      double lng = CENTER_LNG + (random.nextDouble() - 0.5) * 0.6;
+      Set<String> expected = boxes.entrySet().stream()
+          .filter(entry -> entry.getValue().contains(lat, lng))
+          .map(Map.Entry::getKey)
+          .collect(Collectors.toSet());
+
+      assertEquals(expected, grid.findContaining(lat, lng));
+    }
+  }
+
+  @Test
+  @DisplayName("화면 영역 격자 - 해제된 구독자는 조회되지 않음")
+  void removedViewportIsNotFound() {
+    ViewportGrid grid = new ViewportGrid(0.1, 64);
+    grid.put("session", new BoundingBox(37.5, 126.9, 37.6, 127.0));
+    assertEquals(Set.of("session"), grid.findContaining(37.55, 126.95));
+
+    grid.remove("session");
+    assertTrue(grid.findContaining(37.55, 126.95).isEmpty());
+  }
+}
@@ -0,0 +1,52 @@
+-- H2 (MySQL 모드) 테스트 스키마 보강 : RunnersDataJpaTest
+-- 엔티티로 만든 테이블에 MySQL 마이그레이션(src/main/resources/db/*.sql)의 생성 컬럼, 유니크 키, 엔티티 없는 테이블을 H2 문법으로 추가한다.
+-- 같은 컨텍스트를 쓰는 테스트 클래스마다 다시 실행되므로 여러 번 실행해도 같은 결과가 되도록 작성한다.
+
+-- db/007 : 유효한 참여만 값이 있는 생성 컬럼과 유니크 키
+ALTER TABLE user_post DROP CONSTRAINT IF EXISTS uk_user_post_valid_post;
+ALTER TABLE user_post DROP CONSTRAINT IF EXISTS uk_user_post_valid_run_date;
+ALTER TABLE user_post DROP COLUMN IF EXISTS valid_post_id;
+ALTER TABLE user_post DROP COLUMN IF EXISTS valid_run_date;
+ALTER TABLE user_post ADD COLUMN valid_post_id BIGINT
+    GENERATED ALWAYS AS (CASE WHEN valid_yn THEN post_id END);
+ALTER TABLE user_post ADD COLUMN valid_run_date DATE
+    GENERATED ALWAYS AS (CASE WHEN valid_yn THEN run_date END);
+ALTER TABLE user_post ADD CONSTRAINT uk_user_post_valid_post UNIQUE (users_id, valid_post_id);
+ALTER TABLE user_post ADD CONSTRAINT uk_user_post_valid_run_date UNIQUE (users_id, valid_run_date);
+
+-- db/009 : 러닝 위치 기록
+CREATE TABLE IF NOT EXISTS run_track
+(
+    run_track_id      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_post_id      BIGINT       NOT NULL,
+    point_count       INT          NOT NULL,
+    data              BLOB         NOT NULL,
+    created_date_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+-- db/006 : 보관 테이블 (user_post_archive 는 UserPostArchive 엔티티로 생성)
+CREATE TABLE IF NOT EXISTS post_archive AS SELECT * FROM post WITH NO DATA;
+ALTER TABLE post_archive ALTER COLUMN post_id SET NOT NULL;
+ALTER TABLE post_archive ADD CONSTRAINT IF NOT EXISTS pk_post_archive PRIMARY KEY (post_id);
+CREATE TABLE IF NOT EXISTS post_route_archive AS SELECT * FROM post_route WITH NO DATA;
+ALTER TABLE post_route_archive ALTER COLUMN post_id SET NOT NULL;
+ALTER TABLE post_route_archive ADD CONSTRAINT IF NOT EXISTS pk_post_route_archive PRIMARY KEY (post_id);
+ALTER TABLE user_post_archive ADD COLUMN IF NOT EXISTS run_date DATE;
+CREATE TABLE IF NOT EXISTS run_track_archive AS SELECT * FROM run_track WITH NO DATA;
+ALTER TABLE run_track_archive ALTER COLUMN run_track_id SET NOT NULL;
+ALTER TABLE run_track_archive ADD CONSTRAINT IF NOT EXISTS pk_run_track_archive PRIMARY KEY (run_track_id);
+CREATE TABLE IF NOT EXISTS after_run_picture_archive AS SELECT * FROM after_run_picture WITH NO DATA;
+ALTER TABLE after_run_picture_archive ALTER COLUMN id SET NOT NULL;
+ALTER TABLE after_run_picture_archive ADD CONSTRAINT IF NOT EXISTS pk_after_run_picture_archive PRIMARY KEY (id);
+CREATE TABLE IF NOT EXISTS likes_archive AS SELECT * FROM likes WITH NO DATA;
+ALTER TABLE likes_archive ALTER COLUMN id SET NOT NULL;
+ALTER TABLE likes_archive ADD CONSTRAINT IF NOT EXISTS pk_likes_archive PRIMARY KEY (id);
+CREATE TABLE IF NOT EXISTS comment_archive AS SELECT * FROM comment WITH NO DATA;
+ALTER TABLE comment_archive ALTER COLUMN id SET NOT NULL;
+ALTER TABLE comment_archive ADD CONSTRAINT IF NOT EXISTS pk_comment_archive PRIMARY KEY (id);
+CREATE TABLE IF NOT EXISTS chat_room_archive AS SELECT * FROM chat_room WITH NO DATA;
+ALTER TABLE chat_room_archive ALTER COLUMN id SET NOT NULL;
+ALTER TABLE chat_room_archive ADD CONSTRAINT IF NOT EXISTS pk_chat_room_archive PRIMARY KEY (id);
+CREATE TABLE IF NOT EXISTS chat_message_archive AS SELECT * FROM chat_message WITH NO DATA;
+ALTER TABLE chat_message_archive ALTER COLUMN id SET NOT NULL;
+ALTER TABLE chat_message_archive ADD CONSTRAINT IF NOT EXISTS pk_chat_message_archive PRIMARY KEY (id);